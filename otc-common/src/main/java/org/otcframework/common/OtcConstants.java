@@ -161,4 +161,7 @@ public interface OtcConstants {
 
 	/** The otc tmd extn. */
 	String OTC_TMD_EXTN = ".tmd";
+
+	/** The otc registry manifest - the binary registry of all the OTCS files compiled into a tmd directory. */
+	String OTC_REGISTRY_MANIFEST = "otc-registry.tmdb";
 }
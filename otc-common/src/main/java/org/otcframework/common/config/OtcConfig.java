@@ -32,6 +32,7 @@ import java.io.File;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.net.URLClassLoader;
+import java.util.Collections;
 import java.util.IdentityHashMap;
 import java.util.Map;
 import java.util.Objects;
@@ -64,6 +65,13 @@ public enum OtcConfig {
 	private static String tmdDirectory;
 	private static String targetDirectory;
 	private static final Integer DEFAULT_CYCLIC_REFERENCE_DEPTH = 2;
+	private static final Integer DEFAULT_HOT_RELOAD_DELAY_MILLIS = 2000;
+
+	/** The Constant DEFAULT_BATCH_CHUNK_SIZE. */
+	private static final int DEFAULT_BATCH_CHUNK_SIZE = 1024;
+
+	/** The Constant DEFAULT_ASYNC_CONCURRENCY. */
+	private static final int DEFAULT_ASYNC_CONCURRENCY = 256;
 
 	/**
 	 * Instantiates a new otc config.
@@ -183,6 +191,195 @@ public enum OtcConfig {
 		return false;
 	}
 
+	/**
+	 * Gets the binary registry - when true, the compiler writes the registrations of a tmd directory into a single
+	 * binary manifest in place of the per-OTCS-file '.tmd' files.
+	 *
+	 * @return the binary registry
+	 */
+	public static boolean getBinaryRegistry() {
+		if (Objects.nonNull(YAML_CONFIG.compiler) && Objects.nonNull(YAML_CONFIG.compiler.binaryRegistry)) {
+			return YAML_CONFIG.compiler.binaryRegistry;
+		}
+		return false;
+	}
+
+	/**
+	 * Gets the index free source loops - when true, the generated code iterates the source-object's collections
+	 * directly instead of looking them up in the indexed-collections tree.
+	 *
+	 * @return the index free source loops
+	 */
+	public static boolean getIndexFreeSourceLoops() {
+		if (Objects.nonNull(YAML_CONFIG.compiler) && Objects.nonNull(YAML_CONFIG.compiler.indexFreeSourceLoops)) {
+			return YAML_CONFIG.compiler.indexFreeSourceLoops;
+		}
+		return false;
+	}
+
+	/**
+	 * Gets the guarded logging - when true, the generated code reports the null members / missing map-keys it
+	 * skips through {@link org.otcframework.common.executor.SkippedNulls}, which tallies them per execution,
+	 * instead of logging each of them.
+	 *
+	 * @return the guarded logging
+	 */
+	public static boolean getGuardedLogging() {
+		if (Objects.nonNull(YAML_CONFIG.compiler) && Objects.nonNull(YAML_CONFIG.compiler.guardedLogging)) {
+			return YAML_CONFIG.compiler.guardedLogging;
+		}
+		return false;
+	}
+
+	/**
+	 * Gets the fuse collection loops - when true, consecutive commands copying from the same source path into members
+	 * of the same target collections share one loop nest, in the factory-class of the first of them, each command
+	 * running in its own block.
+	 *
+	 * @return the fuse collection loops
+	 */
+	public static boolean getFuseCollectionLoops() {
+		if (Objects.nonNull(YAML_CONFIG.compiler) && Objects.nonNull(YAML_CONFIG.compiler.fuseCollectionLoops)) {
+			return YAML_CONFIG.compiler.fuseCollectionLoops;
+		}
+		return false;
+	}
+
+	/**
+	 * Gets the indexed collections arena - when true, the executor recycles the indexed-collections trees of each
+	 * execution from a per-thread arena instead of allocating them afresh.
+	 *
+	 * @return the indexed collections arena
+	 */
+	public static boolean getIndexedCollectionsArena() {
+		if (Objects.nonNull(YAML_CONFIG.executor) && Objects.nonNull(YAML_CONFIG.executor.indexedCollectionsArena)) {
+			return YAML_CONFIG.executor.indexedCollectionsArena;
+		}
+		return false;
+	}
+
+	/**
+	 * Gets the hot reload - when true, the executor watches the tmd and target directories and reloads the
+	 * registry on changes.
+	 *
+	 * @return the hot reload
+	 */
+	public static boolean getHotReload() {
+		if (Objects.nonNull(YAML_CONFIG.executor) && Objects.nonNull(YAML_CONFIG.executor.hotReload)) {
+			return YAML_CONFIG.executor.hotReload;
+		}
+		return false;
+	}
+
+	/**
+	 * Gets the hot reload delay millis - the quiet period awaited after the last change before reloading.
+	 *
+	 * @return the hot reload delay millis
+	 */
+	public static Integer getHotReloadDelayMillis() {
+		if (Objects.nonNull(YAML_CONFIG.executor) && Objects.nonNull(YAML_CONFIG.executor.hotReloadDelayMillis)
+				&& YAML_CONFIG.executor.hotReloadDelayMillis > 0) {
+			return YAML_CONFIG.executor.hotReloadDelayMillis;
+		}
+		return DEFAULT_HOT_RELOAD_DELAY_MILLIS;
+	}
+
+	/**
+	 * Gets the lazy registration - when true, the registry only indexes the tmd files at startup and registers
+	 * each of them on its first request.
+	 *
+	 * @return the lazy registration
+	 */
+	public static boolean getLazyRegistration() {
+		if (Objects.nonNull(YAML_CONFIG.executor) && Objects.nonNull(YAML_CONFIG.executor.lazyRegistration)) {
+			return YAML_CONFIG.executor.lazyRegistration;
+		}
+		return false;
+	}
+
+	/**
+	 * Gets the identity indexing - when true, the object indexer tracks the nodes it visits by identity, so that
+	 * a node reachable from several parents is indexed once and its index shared by every later reference. The
+	 * sources are then indexed by the indexing-trie instead of the generated source indexer.
+	 *
+	 * @return the identity indexing
+	 */
+	public static boolean getIdentityIndexing() {
+		if (Objects.nonNull(YAML_CONFIG.executor) && Objects.nonNull(YAML_CONFIG.executor.identityIndexing)) {
+			return YAML_CONFIG.executor.identityIndexing;
+		}
+		return false;
+	}
+
+	/**
+	 * Gets the warm up threads - the number of threads registering the lazily indexed tmd files in the
+	 * background; 0 disables the warm-up.
+	 *
+	 * @return the warm up threads
+	 */
+	public static int getWarmUpThreads() {
+		if (Objects.nonNull(YAML_CONFIG.executor) && Objects.nonNull(YAML_CONFIG.executor.warmUpThreads)
+				&& YAML_CONFIG.executor.warmUpThreads > 0) {
+			return YAML_CONFIG.executor.warmUpThreads;
+		}
+		return 0;
+	}
+
+	/**
+	 * Gets the batch chunk size - the number of sources of a batch-execution mapped by a single task.
+	 *
+	 * @return the batch chunk size
+	 */
+	public static int getBatchChunkSize() {
+		if (Objects.nonNull(YAML_CONFIG.executor) && Objects.nonNull(YAML_CONFIG.executor.batchChunkSize)
+				&& YAML_CONFIG.executor.batchChunkSize > 0) {
+			return YAML_CONFIG.executor.batchChunkSize;
+		}
+		return DEFAULT_BATCH_CHUNK_SIZE;
+	}
+
+	/**
+	 * Gets the batch parallelism - the parallelism of the fork-join pool of the parallel batch-executions; 0 uses
+	 * the common pool.
+	 *
+	 * @return the batch parallelism
+	 */
+	public static int getBatchParallelism() {
+		if (Objects.nonNull(YAML_CONFIG.executor) && Objects.nonNull(YAML_CONFIG.executor.batchParallelism)
+				&& YAML_CONFIG.executor.batchParallelism > 0) {
+			return YAML_CONFIG.executor.batchParallelism;
+		}
+		return 0;
+	}
+
+	/**
+	 * Gets the async concurrency - the maximum number of asynchronous executions running at a time on the default
+	 * executor.
+	 *
+	 * @return the async concurrency
+	 */
+	public static int getAsyncConcurrency() {
+		if (Objects.nonNull(YAML_CONFIG.executor) && Objects.nonNull(YAML_CONFIG.executor.asyncConcurrency)
+				&& YAML_CONFIG.executor.asyncConcurrency > 0) {
+			return YAML_CONFIG.executor.asyncConcurrency;
+		}
+		return DEFAULT_ASYNC_CONCURRENCY;
+	}
+
+	/**
+	 * Gets the init properties configured for the converter under 'executor: converters:'.
+	 *
+	 * @param converterClzName the converter clz name
+	 * @return the converter config - empty if none is configured
+	 */
+	public static Map<String, Object> getConverterConfig(String converterClzName) {
+		if (Objects.nonNull(YAML_CONFIG.executor) && Objects.nonNull(YAML_CONFIG.executor.converters)
+				&& Objects.nonNull(YAML_CONFIG.executor.converters.get(converterClzName))) {
+			return Collections.unmodifiableMap(YAML_CONFIG.executor.converters.get(converterClzName));
+		}
+		return Collections.emptyMap();
+	}
+
 	/**
 	 * Gets the otc source location.
 	 *
@@ -276,12 +473,17 @@ public enum OtcConfig {
 
 	public static final class YamlConfig {
 		public CompilerProps compiler;
+		public ExecutorProps executor;
 		public Map<String, String> concreteTypes;
 		public Set<String> filterPackages;
 		
 		public static final class CompilerProps {
 			public Boolean cleanupBeforeCompile;
 			public Integer cyclicReferenceDepthLimit;
+			public Boolean indexFreeSourceLoops;
+			public Boolean guardedLogging;
+			public Boolean fuseCollectionLoops;
+			public Boolean binaryRegistry;
 			public Paths paths;
 
 			public static final class Paths {
@@ -291,6 +493,19 @@ public enum OtcConfig {
 				public String targetDirectory;
 			}
 		}
+
+		public static final class ExecutorProps {
+			public Boolean indexedCollectionsArena;
+			public Boolean hotReload;
+			public Integer hotReloadDelayMillis;
+			public Boolean lazyRegistration;
+			public Boolean identityIndexing;
+			public Integer warmUpThreads;
+			public Integer batchChunkSize;
+			public Integer batchParallelism;
+			public Integer asyncConcurrency;
+			public Map<String, Map<String, Object>> converters;
+		}
 	}
 
 }
@@ -41,4 +41,14 @@ public interface OtclConverter {
 	 * @return the t
 	 */
 	public <S, T> T convert(S sourceObject, T targetObject, Map<String, Object> data);
+
+	/**
+	 * Initializes the converter once, before its first use, with the properties configured for it under
+	 * 'executor: converters:' in the otc.yaml. Converters building lookup tables or formatters should do so here,
+	 * since a single instance is shared by all the generated classes and threads.
+	 *
+	 * @param config the config - empty if none is configured
+	 */
+	default void init(Map<String, Object> config) {
+	}
 }
@@ -0,0 +1,74 @@
+/**
+* Copyright (c) otcframework.org
+*
+* @author  Franklin J Abel
+* @version 1.0
+* @since   2020-06-08 
+*
+* This file is part of the OTC framework.
+* 
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*      https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*
+*/
+package org.otcframework.common.converter;
+
+import org.otcframework.common.config.OtcConfig;
+import org.otcframework.common.exception.OtcException;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The Class OtclConverterRegistry - holds a single initialized instance of each OtclConverter type, shared by the
+ * static fields of the generated classes.
+ */
+public final class OtclConverterRegistry {
+
+	/** The Constant CONVERTERS. */
+	private static final Map<Class<?>, OtclConverter> CONVERTERS = new ConcurrentHashMap<>();
+
+	/**
+	 * Instantiates a new otcl converter registry.
+	 */
+	private OtclConverterRegistry() {
+	}
+
+	/**
+	 * Gets the converter - creating and initializing it on first request.
+	 *
+	 * @param <C>          the generic type
+	 * @param converterClz the converter clz
+	 * @return the converter
+	 */
+	@SuppressWarnings("unchecked")
+	public static <C extends OtclConverter> C getConverter(Class<C> converterClz) {
+		return (C) CONVERTERS.computeIfAbsent(converterClz, OtclConverterRegistry::createConverter);
+	}
+
+	/**
+	 * Creates the converter.
+	 *
+	 * @param converterClz the converter clz
+	 * @return the otcl converter
+	 */
+	private static OtclConverter createConverter(Class<?> converterClz) {
+		OtclConverter otclConverter;
+		try {
+			otclConverter = (OtclConverter) converterClz.getDeclaredConstructor().newInstance();
+		} catch (ReflectiveOperationException e) {
+			throw new OtcException("", "Could not instantiate converter " + converterClz.getName(), e);
+		}
+		otclConverter.init(OtcConfig.getConverterConfig(converterClz.getName()));
+		return otclConverter;
+	}
+}
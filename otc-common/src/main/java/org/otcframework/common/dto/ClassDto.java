@@ -22,8 +22,10 @@
 */
 package org.otcframework.common.dto;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 /**
@@ -34,6 +36,9 @@ public class ClassDto {
 	/** The imports. */
 	private Map<String, String> imports = new HashMap<>();
 
+	/** The static fields - their names by their type and initializer, declared at the end of the class. */
+	private Map<String, String> staticFields = new LinkedHashMap<>();
+
 	/** The package name. */
 	public String packageName;
 
@@ -53,6 +58,45 @@ public class ClassDto {
 		imports.clear();
 	}
 
+	/**
+	 * Clear static fields.
+	 */
+	public void clearStaticFields() {
+		staticFields.clear();
+	}
+
+	/**
+	 * Adds the static field - or reuses the one of the same type and initializer.
+	 *
+	 * @param namePrefix  the name prefix
+	 * @param fieldType   the field type
+	 * @param initializer the initializer
+	 * @return the field name
+	 */
+	public String addStaticField(String namePrefix, String fieldType, String initializer) {
+		String key = fieldType + " = " + initializer;
+		String fieldName = staticFields.get(key);
+		if (fieldName == null) {
+			fieldName = namePrefix + staticFields.size();
+			staticFields.put(key, fieldName);
+		}
+		return fieldName;
+	}
+
+	/**
+	 * Retrieve static field declarations.
+	 *
+	 * @return the static field declarations - as 'type name = initializer'
+	 */
+	public Collection<String> retrieveStaticFieldDeclarations() {
+		Collection<String> declarations = new ArrayList<>();
+		staticFields.forEach((key, fieldName) -> {
+			int idx = key.indexOf(" = ");
+			declarations.add(key.substring(0, idx) + " " + fieldName + key.substring(idx));
+		});
+		return declarations;
+	}
+
 	/**
 	 * Retrieve import fq names.
 	 *
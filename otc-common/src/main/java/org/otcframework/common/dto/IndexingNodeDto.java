@@ -0,0 +1,50 @@
+/**
+ * Copyright (c) otcframework.org
+ *
+ * @author  Franklin J Abel
+ * @version 1.0
+ * @since   2020-06-08
+ *
+ * This file is part of the OTC framework.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package org.otcframework.common.dto;
+
+import java.util.Map;
+
+/**
+ * The Class IndexingNodeDto - a node of the indexing-trie which merges the otc-chains of an OTC file, so that the
+ * paths shared by the chains are traversed only once while indexing an object.
+ */
+public final class IndexingNodeDto {
+
+	/** The otc command dto - null for the root node. */
+	public OtcCommandDto otcCommandDto;
+
+	/** The icd key - of the collection / map node in its parent ICD. */
+	public String icdKey;
+
+	/** The children - the nodes of the fields read from this node's object, keyed by their otc-token. */
+	public Map<String, IndexingNodeDto> children;
+
+	/** The member node - of the collection node. */
+	public IndexingNodeDto memberNode;
+
+	/** The map key node - of the map node. */
+	public IndexingNodeDto mapKeyNode;
+
+	/** The map value node - of the map node. */
+	public IndexingNodeDto mapValueNode;
+}
@@ -25,6 +25,7 @@ package org.otcframework.common.dto;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import org.otcframework.common.OtcConstants.TARGET_SOURCE;
 
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Field;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -186,6 +187,10 @@ public class OtcCommandDto {
 	/** The field. */
 	public Field field;
 
+	/** The field getter handle - resolved once at registration. */
+	@JsonIgnore
+	public MethodHandle fieldGetter;
+
 	/** The enable getter helper. */
 	public boolean enableGetterHelper;
 
@@ -52,6 +52,9 @@ public final class OtcDto {
 	/** The main class dto. */
 	public ClassDto mainClassDto;
 
+	/** The source indexer class dto. */
+	public ClassDto sourceIndexerClassDto;
+
 	/** The script dtos. */
 	public List<ScriptDto> scriptDtos;
 
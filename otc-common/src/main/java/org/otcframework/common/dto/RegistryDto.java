@@ -22,7 +22,9 @@
 */
 package org.otcframework.common.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import org.otcframework.common.executor.CodeExecutor;
+import org.otcframework.common.executor.SourceIndexer;
 
 import java.util.Map;
 
@@ -64,6 +66,27 @@ public final class RegistryDto {
 	/** The code executor. */
 	public CodeExecutor codeExecutor;
 
+	/** The source indexer class. */
+	public String sourceIndexerClass;
+
+	/** The source indexer. */
+	public SourceIndexer<?> sourceIndexer;
+
+	/** The source indexing trie - built at registration for the object-indexer. */
+	@JsonIgnore
+	public IndexingNodeDto sourceIndexingTrie;
+
+	/** The target indexing trie - built at registration for indexing existing targets. */
+	@JsonIgnore
+	public IndexingNodeDto targetIndexingTrie;
+
+	/**
+	 * The source property-paths of the compiled infos in their order - null for a command without a source-path.
+	 * Built at registration for the incremental executions.
+	 */
+	@JsonIgnore
+	public String[] sourcePropertyPaths;
+
 	/**
 	 * The Class CompiledInfo.
 	 */
@@ -52,6 +52,12 @@ public class ScriptDto {
 	/** The has execution order. */
 	public boolean hasExecutionOrder;
 
+	/** The is source index free - source collections are iterated directly by the generated code. */
+	public boolean isSourceIndexFree;
+
+	/** The fused factory class name - of the preceding command running this one's loops; null if it has its own. */
+	public String fusedFactoryClassName;
+
 	/**
 	 * Instantiates a new script dto.
 	 */
@@ -23,6 +23,7 @@
 package org.otcframework.common.dto.otc;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * The Class OtcFileDto.
@@ -106,13 +107,16 @@ public final class OtcFileDto {
 		/** The to. */
 		public TargetDto to;
 
+		/** The enum mappings - the from-names mapped to the to-names where they differ, or to null (~) for none. */
+		public Map<String, String> enumMappings;
+
 		/**
 		 * To string.
 		 *
 		 * @return the string
 		 */
 		public String toString() {
-			return "Copy [from=" + from + ", to=" + to + ", id=" + id + ", factoryClassName=" + factoryClassName
+			return "Copy [from=" + from + ", to=" + to + ", enumMappings=" + enumMappings + ", id=" + id + ", factoryClassName=" + factoryClassName
 					+ ", disable=" + disable + ", debug=" + debug + "]";
 		}
 
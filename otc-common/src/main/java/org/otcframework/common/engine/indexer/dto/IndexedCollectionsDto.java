@@ -22,6 +22,7 @@
  */
 package org.otcframework.common.engine.indexer.dto;
 
+import java.util.Arrays;
 import java.util.Map;
 import java.util.Objects;
 
@@ -36,9 +37,76 @@ public class IndexedCollectionsDto {
 	/** The indexedd object. */
 	public Object indexedObject;
 
-	/** The children. */
+	/** The children - the indexed collections / maps held by the indexed object, keyed by their otc-token. */
 	public Map<String, IndexedCollectionsDto> children;
 
+	/** The members - of the indexed collection / array, by position. */
+	public IndexedCollectionsDto[] members;
+
+	/** The map keys - of the indexed map, by position. */
+	public IndexedCollectionsDto[] mapKeys;
+
+	/** The map values - of the indexed map, by position. */
+	public IndexedCollectionsDto[] mapValues;
+
+	/** The size - number of members or map-entries. */
+	public int size;
+
+	/**
+	 * Gets the child.
+	 *
+	 * @param otcToken the otc token
+	 * @return the indexed collections dto
+	 */
+	public IndexedCollectionsDto child(String otcToken) {
+		return children == null ? null : children.get(otcToken);
+	}
+
+	/**
+	 * Gets the member.
+	 *
+	 * @param idx the idx
+	 * @return the indexed collections dto
+	 */
+	public IndexedCollectionsDto member(int idx) {
+		return slot(members, idx);
+	}
+
+	/**
+	 * Gets the map key.
+	 *
+	 * @param idx the idx
+	 * @return the indexed collections dto
+	 */
+	public IndexedCollectionsDto mapKey(int idx) {
+		return slot(mapKeys, idx);
+	}
+
+	/**
+	 * Gets the map value.
+	 *
+	 * @param idx the idx
+	 * @return the indexed collections dto
+	 */
+	public IndexedCollectionsDto mapValue(int idx) {
+		return slot(mapValues, idx);
+	}
+
+	/**
+	 * Checks if is empty.
+	 *
+	 * @return true, if neither members / map-entries nor children are indexed
+	 */
+	public boolean isEmpty() {
+		return size == 0 && (children == null || children.isEmpty());
+	}
+
+	private static IndexedCollectionsDto slot(IndexedCollectionsDto[] slots, int idx) {
+		if (slots == null || idx < 0 || idx >= slots.length) {
+			return null;
+		}
+		return slots[idx];
+	}
 
 	@Override
 	public String toString() {
@@ -46,6 +114,10 @@ public class IndexedCollectionsDto {
 				"id='" + id + '\'' +
 				", indexedObject=" + indexedObject +
 				", children=" + children +
+				", members=" + (members == null ? null : Arrays.toString(Arrays.copyOf(members, size))) +
+				", mapKeys=" + (mapKeys == null ? null : Arrays.toString(Arrays.copyOf(mapKeys, size))) +
+				", mapValues=" + (mapValues == null ? null : Arrays.toString(Arrays.copyOf(mapValues, size))) +
+				", size=" + size +
 				'}';
 	}
 
@@ -54,11 +126,26 @@ public class IndexedCollectionsDto {
 		if (this == o) return true;
 		if (o == null || getClass() != o.getClass()) return false;
 		IndexedCollectionsDto that = (IndexedCollectionsDto) o;
-		return Objects.equals(id, that.id) && Objects.equals(indexedObject, that.indexedObject) && Objects.equals(children, that.children);
+		return size == that.size && Objects.equals(id, that.id) && Objects.equals(indexedObject, that.indexedObject)
+				&& Objects.equals(children, that.children) && slotsEqual(members, that.members, size)
+				&& slotsEqual(mapKeys, that.mapKeys, size) && slotsEqual(mapValues, that.mapValues, size);
 	}
 
 	@Override
 	public int hashCode() {
-		return Objects.hash(id, indexedObject, children);
+		int result = Objects.hash(id, indexedObject, children, size);
+		for (int idx = 0; idx < size; idx++) {
+			result = 31 * result + Objects.hash(member(idx), mapKey(idx), mapValue(idx));
+		}
+		return result;
+	}
+
+	private static boolean slotsEqual(IndexedCollectionsDto[] slots, IndexedCollectionsDto[] otherSlots, int size) {
+		for (int idx = 0; idx < size; idx++) {
+			if (!Objects.equals(slot(slots, idx), slot(otherSlots, idx))) {
+				return false;
+			}
+		}
+		return true;
 	}
 }
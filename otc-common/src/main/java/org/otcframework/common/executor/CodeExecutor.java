@@ -23,6 +23,7 @@
 package org.otcframework.common.executor;
 
 import org.otcframework.common.engine.indexer.dto.IndexedCollectionsDto;
+import org.otcframework.common.exception.OtcException;
 
 import java.util.Map;
 
@@ -34,6 +35,12 @@ import java.util.Map;
  */
 public interface CodeExecutor<S, T> {
 
+	/**
+	 * The Constant CODE_VERSION - of the indexed-collections layout the generated code reads and writes. Executors
+	 * generated for an older layout are refused at registration.
+	 */
+	public static final int CODE_VERSION = 1;
+
 	/**
 	 * Execute.
 	 *
@@ -43,4 +50,53 @@ public interface CodeExecutor<S, T> {
 	 * @return the t
 	 */
 	public T execute(S srcObject, IndexedCollectionsDto sourcePCD, Map<String, Object> appData);
+
+	/**
+	 * Execute into an existing target - the members and collections already in the target graph are reused
+	 * instead of being re-created.
+	 *
+	 * @param srcObject the src object
+	 * @param sourcePCD the source PCD
+	 * @param target    the existing target
+	 * @param targetPCD the target PCD - the index of the collections in the existing target, null if none
+	 * @param appData   the appData
+	 * @return the target
+	 * @throws OtcException if the executor was generated before executeInto was supported - its OTCS file needs
+	 *                      to be recompiled
+	 */
+	public default T executeInto(S srcObject, IndexedCollectionsDto sourcePCD, T target,
+			IndexedCollectionsDto targetPCD, Map<String, Object> appData) {
+		throw new OtcException("", "Executor '" + getClass().getName()
+				+ "' does not support executeInto - recompile its OTCS file with this version of the OTC compiler.");
+	}
+
+	/**
+	 * Execute commands - executes only the selected commands of the OTCS file into an existing target.
+	 *
+	 * @param srcObject the src object
+	 * @param sourcePCD the source PCD
+	 * @param target    the existing target
+	 * @param targetPCD the target PCD - the index of the collections in the existing target, null if none
+	 * @param commands  the commands - indexed by their position in the OTCS file, null to execute all
+	 * @param appData   the appData
+	 * @return the target
+	 * @throws OtcException if the executor was generated before executeCommands was supported - its OTCS file
+	 *                      needs to be recompiled
+	 */
+	public default T executeCommands(S srcObject, IndexedCollectionsDto sourcePCD, T target,
+			IndexedCollectionsDto targetPCD, boolean[] commands, Map<String, Object> appData) {
+		throw new OtcException("", "Executor '" + getClass().getName()
+				+ "' does not support executeCommands - recompile its OTCS file with this version of the OTC "
+				+ "compiler.");
+	}
+
+	/**
+	 * Gets the code version.
+	 *
+	 * @return the code version - of the compiler which generated the executor, 0 if generated before the code was
+	 *         versioned
+	 */
+	public default int getCodeVersion() {
+		return 0;
+	}
 }
@@ -0,0 +1,209 @@
+/**
+* Copyright (c) otcframework.org
+*
+* @author  Franklin J Abel
+* @version 1.0
+* @since   2020-06-08 
+*
+* This file is part of the OTC framework.
+* 
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*      https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*
+*/
+package org.otcframework.common.executor;
+
+import org.otcframework.common.config.OtcConfig;
+import org.slf4j.Logger;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The Class SkippedNulls - the per-thread tally of the null members / missing map-keys skipped by the generated
+ * code when compiled with the 'compiler.guardedLogging' property. While an execution is entered, the skips are
+ * counted per message and reported in one log-line when the outermost execution exits; outside an execution each
+ * skip is logged on its own, guarded by the level of the logger.
+ */
+public final class SkippedNulls {
+
+	private static final boolean ENABLED = OtcConfig.getGuardedLogging();
+
+	private static final ThreadLocal<SkippedNulls> TALLIES = ThreadLocal.withInitial(SkippedNulls::new);
+
+	/** The total skipped - across the executions of all the threads. */
+	private static final LongAdder TOTAL_SKIPPED = new LongAdder();
+
+	/** The counts - by message. */
+	private final Map<String, Integer> counts = new LinkedHashMap<>();
+
+	/** The logger of the first skip - the one reporting the tally. */
+	private Logger logger;
+
+	/** The most severe level skipped at - 0 for error through 4 for trace. */
+	private int level = Integer.MAX_VALUE;
+
+	/** The nesting depth of the executions on the thread. */
+	private int depth;
+
+	private SkippedNulls() {}
+
+	/**
+	 * Enters the tally of the current thread.
+	 *
+	 * @return the tally, or null if guarded logging is not enabled
+	 */
+	public static SkippedNulls enter() {
+		if (!ENABLED) {
+			return null;
+		}
+		SkippedNulls skippedNulls = TALLIES.get();
+		skippedNulls.depth++;
+		return skippedNulls;
+	}
+
+	/**
+	 * Exits the tally - which is reported and reset when the outermost execution exits.
+	 */
+	public void exit() {
+		if (--depth == 0 && logger != null) {
+			report();
+		}
+	}
+
+	/**
+	 * Gets the total skipped - across the executions of all the threads.
+	 *
+	 * @return the total skipped
+	 */
+	public static long getTotalSkipped() {
+		return TOTAL_SKIPPED.sum();
+	}
+
+	/**
+	 * Skips at error level.
+	 *
+	 * @param logger the logger
+	 * @param msg    the msg
+	 */
+	public static void error(Logger logger, String msg) {
+		skip(logger, 0, msg);
+	}
+
+	/**
+	 * Skips at warn level.
+	 *
+	 * @param logger the logger
+	 * @param msg    the msg
+	 */
+	public static void warn(Logger logger, String msg) {
+		skip(logger, 1, msg);
+	}
+
+	/**
+	 * Skips at info level.
+	 *
+	 * @param logger the logger
+	 * @param msg    the msg
+	 */
+	public static void info(Logger logger, String msg) {
+		skip(logger, 2, msg);
+	}
+
+	/**
+	 * Skips at debug level.
+	 *
+	 * @param logger the logger
+	 * @param msg    the msg
+	 */
+	public static void debug(Logger logger, String msg) {
+		skip(logger, 3, msg);
+	}
+
+	/**
+	 * Skips at trace level.
+	 *
+	 * @param logger the logger
+	 * @param msg    the msg
+	 */
+	public static void trace(Logger logger, String msg) {
+		skip(logger, 4, msg);
+	}
+
+	private static void skip(Logger logger, int level, String msg) {
+		TOTAL_SKIPPED.increment();
+		if (ENABLED) {
+			SkippedNulls skippedNulls = TALLIES.get();
+			if (skippedNulls.depth > 0) {
+				skippedNulls.count(logger, level, msg);
+				return;
+			}
+		}
+		if (isEnabled(logger, level)) {
+			log(logger, level, msg);
+		}
+	}
+
+	private void count(Logger logger, int level, String msg) {
+		if (this.logger == null) {
+			this.logger = logger;
+		}
+		if (level < this.level) {
+			this.level = level;
+		}
+		counts.merge(msg, 1, Integer::sum);
+	}
+
+	private void report() {
+		if (isEnabled(logger, level)) {
+			log(logger, level, "Skipped null / missing members - " + counts);
+		}
+		counts.clear();
+		logger = null;
+		level = Integer.MAX_VALUE;
+	}
+
+	private static boolean isEnabled(Logger logger, int level) {
+		switch (level) {
+			case 0:
+				return logger.isErrorEnabled();
+			case 1:
+				return logger.isWarnEnabled();
+			case 2:
+				return logger.isInfoEnabled();
+			case 3:
+				return logger.isDebugEnabled();
+			default:
+				return logger.isTraceEnabled();
+		}
+	}
+
+	private static void log(Logger logger, int level, String msg) {
+		switch (level) {
+			case 0:
+				logger.error(msg);
+				break;
+			case 1:
+				logger.warn(msg);
+				break;
+			case 2:
+				logger.info(msg);
+				break;
+			case 3:
+				logger.debug(msg);
+				break;
+			default:
+				logger.trace(msg);
+		}
+	}
+}
@@ -0,0 +1,137 @@
+/**
+ * Copyright (c) otcframework.org
+ *
+ * @author  Franklin J Abel
+ * @version 1.0
+ * @since   2020-06-08
+ *
+ * This file is part of the OTC framework.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package org.otcframework.common.indexer;
+
+import org.otcframework.common.config.OtcConfig;
+import org.otcframework.common.engine.indexer.dto.IndexedCollectionsDto;
+
+import java.util.Arrays;
+
+/**
+ * A per-thread arena of IndexedCollectionsDto objects. When enabled through the 'executor.indexedCollectionsArena'
+ * property, the ICDs handed out by the {@link IndexedCollectionsDtoFactory} during an execution are recycled once
+ * the outermost execution on the thread exits the arena. The ICDs must therefore not escape the execution.
+ */
+public final class IndexedCollectionsDtoArena {
+
+	private static final boolean ENABLED = OtcConfig.getIndexedCollectionsArena();
+
+	private static final int DEFAULT_CAPACITY = 64;
+
+	/** The max ICDs retained by an arena across executions - the rest are left to the garbage collector. */
+	private static final int MAX_RETAINED = 1 << 14;
+
+	/** The max slots of an ICD retained across executions - larger slot arrays are dropped instead of cleared. */
+	private static final int MAX_RETAINED_SLOTS = 256;
+
+	private static final ThreadLocal<IndexedCollectionsDtoArena> ARENAS = ThreadLocal.withInitial(
+			IndexedCollectionsDtoArena::new);
+
+	private IndexedCollectionsDto[] icds = new IndexedCollectionsDto[DEFAULT_CAPACITY];
+
+	/** The number of ICDs handed out in the current execution. */
+	private int cursor;
+
+	/** The nesting depth of the executions on the thread. */
+	private int depth;
+
+	private IndexedCollectionsDtoArena() {}
+
+	/**
+	 * Enters the arena of the current thread.
+	 *
+	 * @return the arena, or null if the arena is not enabled
+	 */
+	public static IndexedCollectionsDtoArena enter() {
+		if (!ENABLED) {
+			return null;
+		}
+		IndexedCollectionsDtoArena arena = ARENAS.get();
+		arena.depth++;
+		return arena;
+	}
+
+	/**
+	 * Exits the arena - the ICDs handed out are reset for reuse when the outermost execution exits.
+	 */
+	public void exit() {
+		if (--depth == 0) {
+			reset();
+		}
+	}
+
+	/**
+	 * Allocates an ICD - from the arena of the current thread if it is entered, else a new one.
+	 *
+	 * @return the indexed collections dto
+	 */
+	static IndexedCollectionsDto allocate() {
+		if (ENABLED) {
+			IndexedCollectionsDtoArena arena = ARENAS.get();
+			if (arena.depth > 0) {
+				return arena.next();
+			}
+		}
+		return new IndexedCollectionsDto();
+	}
+
+	private IndexedCollectionsDto next() {
+		if (cursor == icds.length) {
+			icds = Arrays.copyOf(icds, cursor * 2);
+		}
+		IndexedCollectionsDto icd = icds[cursor];
+		if (icd == null) {
+			icd = new IndexedCollectionsDto();
+			icds[cursor] = icd;
+		}
+		cursor++;
+		return icd;
+	}
+
+	private void reset() {
+		for (int idx = 0; idx < cursor; idx++) {
+			IndexedCollectionsDto icd = icds[idx];
+			icd.id = null;
+			icd.indexedObject = null;
+			if (icd.children != null) {
+				icd.children.clear();
+			}
+			icd.members = clearSlots(icd.members, icd.size);
+			icd.mapKeys = clearSlots(icd.mapKeys, icd.size);
+			icd.mapValues = clearSlots(icd.mapValues, icd.size);
+			icd.size = 0;
+		}
+		if (cursor > MAX_RETAINED) {
+			icds = Arrays.copyOf(icds, MAX_RETAINED);
+		}
+		cursor = 0;
+	}
+
+	private static IndexedCollectionsDto[] clearSlots(IndexedCollectionsDto[] slots, int size) {
+		if (slots == null || slots.length > MAX_RETAINED_SLOTS) {
+			return null;
+		}
+		Arrays.fill(slots, 0, Math.min(size, slots.length), null);
+		return slots;
+	}
+}
@@ -24,25 +24,125 @@ package org.otcframework.common.indexer;
 
 import org.otcframework.common.engine.indexer.dto.IndexedCollectionsDto;
 
+import java.lang.reflect.Array;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.Map;
 
 /**
  * A factory for creating IndexedCollectionsDto objects.
  */
 public class IndexedCollectionsDtoFactory {
 
+	private static final int DEFAULT_CAPACITY = 10;
+
 	private IndexedCollectionsDtoFactory() {}
 
-	public static IndexedCollectionsDto create(IndexedCollectionsDto parentICD, Object value, String idxStr, boolean hasChildren) {
-		IndexedCollectionsDto childICD = new IndexedCollectionsDto();
-		if (parentICD != null && idxStr != null) {
-			parentICD.children.put(idxStr, childICD);
+	/**
+	 * Creates the ICD of a collection / map and registers it in the parent ICD against its otc-token.
+	 *
+	 * @param parentICD the parent ICD
+	 * @param value     the value
+	 * @param otcToken  the otc token
+	 * @return the indexed collections dto
+	 */
+	public static IndexedCollectionsDto create(IndexedCollectionsDto parentICD, Object value, String otcToken) {
+		IndexedCollectionsDto childICD = IndexedCollectionsDtoArena.allocate();
+		if (parentICD != null && otcToken != null) {
+			if (parentICD.children == null) {
+				parentICD.children = new HashMap<>();
+			}
+			parentICD.children.put(otcToken, childICD);
 		}
-		childICD.id = idxStr;
+		childICD.id = otcToken;
 		childICD.indexedObject = value;
-		if (hasChildren && childICD.children == null) {
-			childICD.children = new HashMap<>();
-		}
 		return childICD;
 	}
+
+	/**
+	 * Creates the ICD of the collection / array member at the idx.
+	 *
+	 * @param parentICD the parent ICD
+	 * @param value     the value
+	 * @param idx       the idx
+	 * @return the indexed collections dto
+	 */
+	public static IndexedCollectionsDto createMember(IndexedCollectionsDto parentICD, Object value, int idx) {
+		IndexedCollectionsDto memberICD = create(null, value, null);
+		parentICD.members = ensureCapacity(parentICD.members, idx, parentICD.indexedObject);
+		parentICD.members[idx] = memberICD;
+		updateSize(parentICD, idx);
+		return memberICD;
+	}
+
+	/**
+	 * Creates the ICD of the map key at the idx.
+	 *
+	 * @param parentICD the parent ICD
+	 * @param value     the value
+	 * @param idx       the idx
+	 * @return the indexed collections dto
+	 */
+	public static IndexedCollectionsDto createMapKey(IndexedCollectionsDto parentICD, Object value, int idx) {
+		IndexedCollectionsDto keyICD = create(null, value, null);
+		parentICD.mapKeys = ensureCapacity(parentICD.mapKeys, idx, parentICD.indexedObject);
+		parentICD.mapKeys[idx] = keyICD;
+		updateSize(parentICD, idx);
+		return keyICD;
+	}
+
+	/**
+	 * Creates the ICD of the map value at the idx.
+	 *
+	 * @param parentICD the parent ICD
+	 * @param value     the value
+	 * @param idx       the idx
+	 * @return the indexed collections dto
+	 */
+	public static IndexedCollectionsDto createMapValue(IndexedCollectionsDto parentICD, Object value, int idx) {
+		IndexedCollectionsDto valueICD = create(null, value, null);
+		parentICD.mapValues = ensureCapacity(parentICD.mapValues, idx, parentICD.indexedObject);
+		parentICD.mapValues[idx] = valueICD;
+		updateSize(parentICD, idx);
+		return valueICD;
+	}
+
+	private static void updateSize(IndexedCollectionsDto parentICD, int idx) {
+		if (parentICD.size <= idx) {
+			parentICD.size = idx + 1;
+		}
+	}
+
+	private static IndexedCollectionsDto[] ensureCapacity(IndexedCollectionsDto[] slots, int idx,
+			Object indexedObject) {
+		if (slots != null && idx < slots.length) {
+			return slots;
+		}
+		int capacity;
+		if (slots == null) {
+			capacity = initialCapacity(indexedObject);
+		} else {
+			capacity = slots.length * 2;
+		}
+		if (capacity <= idx) {
+			capacity = idx + 1;
+		}
+		if (slots == null) {
+			return new IndexedCollectionsDto[capacity];
+		}
+		return Arrays.copyOf(slots, capacity);
+	}
+
+	private static int initialCapacity(Object indexedObject) {
+		int size = 0;
+		if (indexedObject instanceof Collection) {
+			size = ((Collection<?>) indexedObject).size();
+		} else if (indexedObject instanceof Map) {
+			size = ((Map<?, ?>) indexedObject).size();
+		} else if (indexedObject != null && indexedObject.getClass().isArray()) {
+			size = Array.getLength(indexedObject);
+		}
+		return size > 0 ? size : DEFAULT_CAPACITY;
+	}
 }
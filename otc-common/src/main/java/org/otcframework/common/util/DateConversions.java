@@ -0,0 +1,86 @@
+/**
+* Copyright (c) otcframework.org
+*
+* @author  Franklin J Abel
+* @version 1.0
+* @since   2020-06-08 
+*
+* This file is part of the OTC framework.
+* 
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*      https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*
+*/
+package org.otcframework.common.util;
+
+import etree.dateconverters.DateConverterFacade;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.TemporalQuery;
+
+/**
+ * The Class DateConversions - the run-time support of the date / time conversions specialised by the compiler.
+ */
+public final class DateConversions {
+
+	private DateConversions() {
+	}
+
+	/**
+	 * Parses the string with the ISO formatter held in a static field of the generated code - falling back to the
+	 * {@link DateConverterFacade} for the strings not in the ISO format. The shape of the string is checked first,
+	 * so that the strings in other formats do not cost a {@link DateTimeParseException} each.
+	 *
+	 * @param <T>        the generic type
+	 * @param value      the value
+	 * @param formatter  the formatter
+	 * @param query      the query
+	 * @param targetType the target type
+	 * @return the t
+	 */
+	public static <T> T parse(String value, DateTimeFormatter formatter, TemporalQuery<T> query,
+			Class<T> targetType) {
+		if (!isIsoShaped(value, targetType)) {
+			return DateConverterFacade.convert(value, targetType);
+		}
+		try {
+			return formatter.parse(value, query);
+		} catch (DateTimeParseException e) {
+			return DateConverterFacade.convert(value, targetType);
+		}
+	}
+
+	/**
+	 * Checks if the string is shaped as the ISO representation of the target type - its separators in place,
+	 * the digits being left to the formatter.
+	 *
+	 * @param value      the value
+	 * @param targetType the target type
+	 * @return true, if is ISO shaped
+	 */
+	static boolean isIsoShaped(String value, Class<?> targetType) {
+		int length = value.length();
+		if (LocalTime.class == targetType) {
+			return length >= 5 && value.charAt(2) == ':';
+		}
+		if (length < 10 || value.charAt(4) != '-' || value.charAt(7) != '-') {
+			return false;
+		}
+		if (LocalDate.class == targetType) {
+			return length == 10;
+		}
+		return length > 10 && (value.charAt(10) == 'T' || value.charAt(10) == 't');
+	}
+}
@@ -0,0 +1,134 @@
+/**
+* Copyright (c) otcframework.org
+*
+* @author  Franklin J Abel
+* @version 1.0
+* @since   2020-06-08 
+*
+* This file is part of the OTC framework.
+* 
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*      https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*
+*/
+package org.otcframework.common.util;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The Class EnumTranslations - builds the translation tables held in static fields by the generated code, so that
+ * each enum copy is a single array load or map lookup. The mappings are pairs of from / to names, overriding the
+ * default translation by name; a null to-name maps the from-name explicitly to null. Translating a name which has
+ * neither a counterpart nor a mapping fails, as Enum.valueOf would.
+ */
+public final class EnumTranslations {
+
+	private EnumTranslations() {
+	}
+
+	/**
+	 * Enum to enum - the target constants by the source constants. The source constants without a counterpart are
+	 * left out, unless explicitly mapped to null.
+	 *
+	 * @param <S>       the generic type
+	 * @param <T>       the generic type
+	 * @param sourceClz the source clz
+	 * @param targetClz the target clz
+	 * @param mappings  the mappings
+	 * @return the target constants
+	 */
+	public static <S extends Enum<S>, T extends Enum<T>> Map<S, T> enumToEnum(Class<S> sourceClz, Class<T> targetClz,
+			String... mappings) {
+		Map<String, T> targetConstants = stringToEnum(targetClz);
+		Map<String, String> names = toMap(mappings);
+		Map<S, T> table = new EnumMap<>(sourceClz);
+		for (S sourceConstant : sourceClz.getEnumConstants()) {
+			String name = sourceConstant.name();
+			if (names.containsKey(name)) {
+				name = names.get(name);
+				table.put(sourceConstant, name == null ? null : targetConstants.get(name));
+			} else if (targetConstants.containsKey(name)) {
+				table.put(sourceConstant, targetConstants.get(name));
+			}
+		}
+		return table;
+	}
+
+	/**
+	 * Enum to string - the strings indexed by the ordinal of the source constants.
+	 *
+	 * @param <S>       the generic type
+	 * @param sourceClz the source clz
+	 * @param mappings  the mappings
+	 * @return the strings
+	 */
+	public static <S extends Enum<S>> String[] enumToString(Class<S> sourceClz, String... mappings) {
+		Map<String, String> names = toMap(mappings);
+		S[] sourceConstants = sourceClz.getEnumConstants();
+		String[] table = new String[sourceConstants.length];
+		for (S sourceConstant : sourceConstants) {
+			String name = sourceConstant.name();
+			table[sourceConstant.ordinal()] = names.containsKey(name) ? names.get(name) : sourceConstant.toString();
+		}
+		return table;
+	}
+
+	/**
+	 * String to enum - the target constants by their names, and by the mapped strings.
+	 *
+	 * @param <T>       the generic type
+	 * @param targetClz the target clz
+	 * @param mappings  the mappings
+	 * @return the target constants
+	 */
+	public static <T extends Enum<T>> Map<String, T> stringToEnum(Class<T> targetClz, String... mappings) {
+		T[] targetConstants = targetClz.getEnumConstants();
+		Map<String, T> table = new HashMap<>((int) ((targetConstants.length + mappings.length / 2) / 0.75f) + 1);
+		for (T targetConstant : targetConstants) {
+			table.put(targetConstant.name(), targetConstant);
+		}
+		for (int idx = 0; idx + 1 < mappings.length; idx += 2) {
+			table.put(mappings[idx], mappings[idx + 1] == null ? null : Enum.valueOf(targetClz, mappings[idx + 1]));
+		}
+		return table;
+	}
+
+	/**
+	 * Translate - looks up the from-value in the translation table.
+	 *
+	 * @param <F>       the generic type
+	 * @param <T>       the generic type
+	 * @param table     the table
+	 * @param from      the from value
+	 * @param targetClz the target clz
+	 * @return the target constant - null if the from-value is null or explicitly mapped to null
+	 * @throws IllegalArgumentException if the from-value has neither a counterpart nor a mapping
+	 */
+	public static <F, T extends Enum<T>> T translate(Map<F, T> table, F from, Class<T> targetClz) {
+		T target = table.get(from);
+		if (target == null && from != null && !table.containsKey(from)) {
+			throw new IllegalArgumentException("No enum constant " + targetClz.getCanonicalName() + "."
+					+ (from instanceof Enum ? ((Enum<?>) from).name() : from));
+		}
+		return target;
+	}
+
+	private static Map<String, String> toMap(String[] mappings) {
+		Map<String, String> map = new HashMap<>();
+		for (int idx = 0; idx + 1 < mappings.length; idx += 2) {
+			map.put(mappings[idx], mappings[idx + 1]);
+		}
+		return map;
+	}
+}
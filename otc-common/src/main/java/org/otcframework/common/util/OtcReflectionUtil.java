@@ -27,6 +27,10 @@ import org.otcframework.common.exception.OtcException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.WrongMethodTypeException;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.util.Map;
@@ -60,11 +64,14 @@ public class OtcReflectionUtil {
 	/** The Constant ZERO_LENGTH_CLASS_ARRAY. */
 	private static final Class[] ZERO_LENGTH_CLASS_ARRAY = new Class[0];
 
+	/** The Constant FIELD_GETTER_TYPE - the type of the field getter handles, invoked exactly. */
+	private static final MethodType FIELD_GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
 	/** The Constant fieldsCache. */
 	private static final Map<Class<?>, Field[]> fieldsCache = new ConcurrentHashMap<>(100);
 
 	/**
-	 * Read field value.
+	 * Read field value. The field is left accessible, as another thread may be reading it at the same time.
 	 *
 	 * @param field the field
 	 * @param value the value
@@ -79,12 +86,54 @@ public class OtcReflectionUtil {
 			value = field.get(value);
 		} catch (IllegalAccessException ex) {
 			LOGGER.warn(ex.getMessage());
-		} finally {
-			field.setAccessible(false);
 		}
 		return value;
 	}
 
+	/**
+	 * Creates the field getter handle. The field is opened once here so that subsequent reads do not
+	 * pay for the access-check on every call, and the handle is adapted once to (Object)Object so that
+	 * it is invoked exactly, without the per-call adaptation of a generic invoke.
+	 *
+	 * @param field the field
+	 * @return the method handle
+	 */
+	public static MethodHandle createFieldGetter(Field field) {
+		if (field == null) {
+			return null;
+		}
+		try {
+			field.setAccessible(true);
+			return MethodHandles.lookup().unreflectGetter(field).asType(FIELD_GETTER_TYPE);
+		} catch (IllegalAccessException | SecurityException | WrongMethodTypeException ex) {
+			LOGGER.warn(ex.getMessage());
+		}
+		return null;
+	}
+
+	/**
+	 * Read field value using the getter-handle of the otc command dto if resolved; otherwise falls back to
+	 * {@link #readFieldValue(Field, Object)}.
+	 *
+	 * @param otcCommandDto the otc command dto
+	 * @param value         the value
+	 * @return the object
+	 */
+	public static Object readFieldValue(OtcCommandDto otcCommandDto, Object value) {
+		MethodHandle fieldGetter = otcCommandDto.fieldGetter;
+		if (fieldGetter == null) {
+			return readFieldValue(otcCommandDto.field, value);
+		}
+		if (value == null) {
+			throw new OtcException("", "Property value cannot be null!.");
+		}
+		try {
+			return (Object) fieldGetter.invokeExact(value);
+		} catch (Throwable ex) {
+			throw new OtcException("", ex);
+		}
+	}
+
 	/**
 	 * Find getter name.
 	 *
@@ -173,6 +173,38 @@ public class OtcUtils {
 		return otcChain;
 	}
 
+	/**
+	 * Converts the otc-chain to its property-path - drops the anchors, the indexes / map-notations and the map
+	 * key / value references, so that 'items[*].id' and 'itemMap[*,*]<V>.id' become 'items.id' and 'itemMap.id'.
+	 *
+	 * @param otcChain the otc chain
+	 * @return the property path
+	 */
+	public static String toPropertyPath(String otcChain) {
+		StringBuilder propertyPath = new StringBuilder(otcChain.length());
+		int idx = 0;
+		while (idx < otcChain.length()) {
+			char ch = otcChain.charAt(idx);
+			if (ch == '[') {
+				idx = otcChain.indexOf(OtcConstants.CLOSE_BRACKET, idx) + 1;
+				if (idx == 0) {
+					break;
+				}
+				continue;
+			}
+			if (otcChain.startsWith(OtcConstants.MAP_KEY_REF, idx)
+					|| otcChain.startsWith(OtcConstants.MAP_VALUE_REF, idx)) {
+				idx += OtcConstants.MAP_KEY_REF.length();
+				continue;
+			}
+			if (!otcChain.startsWith(OtcConstants.ANCHOR, idx)) {
+				propertyPath.append(ch);
+			}
+			idx++;
+		}
+		return propertyPath.toString();
+	}
+
 	/**
 	 * Retrieve leaf OCD.
 	 *
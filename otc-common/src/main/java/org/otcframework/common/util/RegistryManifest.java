@@ -0,0 +1,477 @@
+/**
+ * Copyright (c) otcframework.org
+ *
+ * @author  Franklin J Abel
+ * @version 1.0
+ * @since   2020-06-08
+ *
+ * This file is part of the OTC framework.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package org.otcframework.common.util;
+
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import org.otcframework.common.OtcConstants.TARGET_SOURCE;
+import org.otcframework.common.dto.OtcChainDto;
+import org.otcframework.common.dto.OtcCommandDto;
+import org.otcframework.common.dto.OtcCommandDto.CollectionDescriptor;
+import org.otcframework.common.dto.RegistryDto;
+import org.otcframework.common.dto.RegistryDto.CompiledInfo;
+import org.otcframework.common.exception.OtcException;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The Class RegistryManifest - a compact binary registry of the OTCS files compiled into a tmd directory, read
+ * into memory in one go and decoded per registration on demand. The strings of all the registrations are interned
+ * in a single string-table, and the command trees of each registration are flattened into a node-table shared by
+ * its compiled-infos.
+ */
+public final class RegistryManifest {
+
+	private static final int MAGIC = 0x4F544342;
+	private static final int VERSION = 1;
+	private static final int NULL = -1;
+
+	private static final int ROOT_NODE = 1;
+	private static final int FIRST_NODE = 1 << 1;
+	private static final int COLLECTION_NOTATION = 1 << 2;
+	private static final int MAP_NOTATION = 1 << 3;
+	private static final int GETTER_HELPER = 1 << 4;
+	private static final int SETTER_HELPER = 1 << 5;
+	private static final int GETTER_INITIALIZED = 1 << 6;
+	private static final int SETTER_INITIALIZED = 1 << 7;
+
+	private static final TARGET_SOURCE[] TARGET_SOURCES = TARGET_SOURCE.values();
+	private static final CollectionDescriptor[] COLLECTION_DESCRIPTORS = CollectionDescriptor.values();
+
+	/** The buffer - of the manifest's contents. */
+	private final ByteBuffer buffer;
+
+	/** The strings. */
+	private final String[] strings;
+
+	/** The entry offsets - by registry id. */
+	private final Map<String, Integer> entryOffsets;
+
+	private RegistryManifest(ByteBuffer buffer, String[] strings, Map<String, Integer> entryOffsets) {
+		this.buffer = buffer;
+		this.strings = strings;
+		this.entryOffsets = entryOffsets;
+	}
+
+	/**
+	 * Writes the registry dtos into the manifest - through a temporary file which then replaces the manifest, so
+	 * that readers never see a partly written one. Readers hold no handle on the manifest once opened.
+	 *
+	 * @param file         the file
+	 * @param registryDtos the registry dtos
+	 */
+	public static void write(File file, Collection<RegistryDto> registryDtos) {
+		Map<String, Integer> stringIds = new LinkedHashMap<>();
+		List<Integer> registryIds = new ArrayList<>();
+		ByteArrayOutputStream entriesBytes = new ByteArrayOutputStream();
+		List<Integer> entryOffsets = new ArrayList<>();
+		try {
+			DataOutputStream entriesOut = new DataOutputStream(entriesBytes);
+			for (RegistryDto registryDto : registryDtos) {
+				registryIds.add(stringId(stringIds, registryDto.registryId));
+				entryOffsets.add(entriesOut.size());
+				writeRegistryDto(entriesOut, stringIds, registryDto);
+			}
+			ByteArrayOutputStream manifestBytes = new ByteArrayOutputStream();
+			DataOutputStream out = new DataOutputStream(manifestBytes);
+			out.writeInt(MAGIC);
+			out.writeInt(VERSION);
+			out.writeInt(stringIds.size());
+			for (String str : stringIds.keySet()) {
+				byte[] bytes = str.getBytes(StandardCharsets.UTF_8);
+				out.writeInt(bytes.length);
+				out.write(bytes);
+			}
+			out.writeInt(registryIds.size());
+			for (int idx = 0; idx < registryIds.size(); idx++) {
+				out.writeInt(registryIds.get(idx));
+				out.writeInt(entryOffsets.get(idx));
+			}
+			entriesBytes.writeTo(out);
+			out.flush();
+			Path path = file.toPath();
+			Path tmpPath = path.resolveSibling(path.getFileName() + ".tmp");
+			Files.write(tmpPath, manifestBytes.toByteArray());
+			Files.move(tmpPath, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} catch (IOException e) {
+			throw new OtcException("", "Unable to write registry-manifest " + file.getAbsolutePath(), e);
+		}
+	}
+
+	/**
+	 * Opens the manifest - reads the file into memory, closing it, and decodes its string-table and entry-table.
+	 *
+	 * @param file the file
+	 * @return the registry manifest
+	 */
+	public static RegistryManifest open(File file) {
+		ByteBuffer manifestBuffer;
+		try {
+			manifestBuffer = ByteBuffer.wrap(Files.readAllBytes(file.toPath()));
+		} catch (IOException e) {
+			throw new OtcException("", "Unable to read registry-manifest " + file.getAbsolutePath(), e);
+		}
+		if (manifestBuffer.getInt() != MAGIC || manifestBuffer.getInt() != VERSION) {
+			throw new OtcException("", "Invalid or incompatible registry-manifest " + file.getAbsolutePath());
+		}
+		String[] strings = new String[manifestBuffer.getInt()];
+		for (int idx = 0; idx < strings.length; idx++) {
+			byte[] bytes = new byte[manifestBuffer.getInt()];
+			manifestBuffer.get(bytes);
+			strings[idx] = new String(bytes, StandardCharsets.UTF_8);
+		}
+		int entriesCount = manifestBuffer.getInt();
+		int[] registryIds = new int[entriesCount];
+		int[] offsets = new int[entriesCount];
+		for (int idx = 0; idx < entriesCount; idx++) {
+			registryIds[idx] = manifestBuffer.getInt();
+			offsets[idx] = manifestBuffer.getInt();
+		}
+		int entriesPosition = manifestBuffer.position();
+		Map<String, Integer> entryOffsets = new LinkedHashMap<>();
+		for (int idx = 0; idx < entriesCount; idx++) {
+			entryOffsets.put(strings[registryIds[idx]], entriesPosition + offsets[idx]);
+		}
+		return new RegistryManifest(manifestBuffer, strings, Collections.unmodifiableMap(entryOffsets));
+	}
+
+	/**
+	 * Gets the registry ids.
+	 *
+	 * @return the registry ids
+	 */
+	public Set<String> getRegistryIds() {
+		return entryOffsets.keySet();
+	}
+
+	/**
+	 * Reads the registry dto.
+	 *
+	 * @param registryId the registry id
+	 * @return the registry dto - null if not in the manifest
+	 */
+	public RegistryDto read(String registryId) {
+		Integer offset = entryOffsets.get(registryId);
+		if (offset == null) {
+			return null;
+		}
+		ByteBuffer entryBuffer = buffer.duplicate();
+		entryBuffer.position(offset);
+		return readRegistryDto(entryBuffer);
+	}
+
+	/**
+	 * Reads all the registry dtos.
+	 *
+	 * @return the list
+	 */
+	public List<RegistryDto> readAll() {
+		List<RegistryDto> registryDtos = new ArrayList<>(entryOffsets.size());
+		for (String registryId : entryOffsets.keySet()) {
+			registryDtos.add(read(registryId));
+		}
+		return registryDtos;
+	}
+
+	private static void writeRegistryDto(DataOutputStream out, Map<String, Integer> stringIds,
+			RegistryDto registryDto) throws IOException {
+		out.writeInt(stringId(stringIds, registryDto.registryId));
+		out.writeInt(stringId(stringIds, registryDto.otcNamespace));
+		out.writeInt(stringId(stringIds, registryDto.otcFileName));
+		out.writeInt(stringId(stringIds, registryDto.registryFileName));
+		out.writeInt(stringId(stringIds, registryDto.mainClass));
+		out.writeInt(stringId(stringIds, registryDto.sourceIndexerClass));
+		out.writeInt(classId(stringIds, registryDto.sourceClz));
+		out.writeInt(classId(stringIds, registryDto.targetClz));
+		out.writeBoolean(registryDto.hasError);
+		out.writeBoolean(registryDto.isProfilingRequried);
+		Map<OtcCommandDto, Integer> nodeIds = new IdentityHashMap<>();
+		List<OtcCommandDto> nodes = new ArrayList<>();
+		if (registryDto.compiledInfos != null) {
+			for (CompiledInfo compiledInfo : registryDto.compiledInfos.values()) {
+				collectNodes(compiledInfo.sourceOCDStem, nodeIds, nodes);
+				collectNodes(compiledInfo.targetOCDStem, nodeIds, nodes);
+			}
+		}
+		out.writeInt(nodes.size());
+		for (OtcCommandDto node : nodes) {
+			writeNode(out, stringIds, nodeIds, node);
+		}
+		if (registryDto.compiledInfos == null) {
+			out.writeInt(NULL);
+			return;
+		}
+		out.writeInt(registryDto.compiledInfos.size());
+		for (Map.Entry<String, CompiledInfo> entry : registryDto.compiledInfos.entrySet()) {
+			CompiledInfo compiledInfo = entry.getValue();
+			out.writeInt(stringId(stringIds, entry.getKey()));
+			out.writeInt(stringId(stringIds, compiledInfo.id));
+			out.writeInt(stringId(stringIds, compiledInfo.factoryClassName));
+			out.writeInt(nodeId(nodeIds, compiledInfo.sourceOCDStem));
+			out.writeInt(nodeId(nodeIds, compiledInfo.targetOCDStem));
+			writeOtcChainDto(out, stringIds, compiledInfo.sourceOtcChainDto);
+			writeOtcChainDto(out, stringIds, compiledInfo.targetOtcChainDto);
+		}
+	}
+
+	private static void collectNodes(OtcCommandDto otcCommandDto, Map<OtcCommandDto, Integer> nodeIds,
+			List<OtcCommandDto> nodes) {
+		if (otcCommandDto == null || nodeIds.containsKey(otcCommandDto)) {
+			return;
+		}
+		nodeIds.put(otcCommandDto, nodes.size());
+		nodes.add(otcCommandDto);
+		if (otcCommandDto.children != null) {
+			for (OtcCommandDto childOCD : otcCommandDto.children.values()) {
+				collectNodes(childOCD, nodeIds, nodes);
+			}
+		}
+	}
+
+	private static void writeNode(DataOutputStream out, Map<String, Integer> stringIds,
+			Map<OtcCommandDto, Integer> nodeIds, OtcCommandDto otcCommandDto) throws IOException {
+		out.writeInt(stringId(stringIds, otcCommandDto.tokenPath));
+		out.writeInt(stringId(stringIds, otcCommandDto.otcToken));
+		out.writeInt(stringId(stringIds, otcCommandDto.fieldName));
+		out.writeInt(stringId(stringIds, otcCommandDto.concreteTypeName));
+		out.writeInt(stringId(stringIds, otcCommandDto.mapKeyConcreteType));
+		out.writeInt(stringId(stringIds, otcCommandDto.mapValueConcreteType));
+		out.writeInt(stringId(stringIds, otcCommandDto.getter));
+		out.writeInt(stringId(stringIds, otcCommandDto.setter));
+		out.writeInt(classId(stringIds, otcCommandDto.fieldType));
+		out.writeInt(classId(stringIds, otcCommandDto.concreteType));
+		out.writeInt(classId(stringIds, otcCommandDto.declaringClass));
+		out.writeInt(otcCommandDto.otcTokenIndex);
+		out.writeByte(otcCommandDto.enumTargetSource == null ? NULL : otcCommandDto.enumTargetSource.ordinal());
+		out.writeByte(otcCommandDto.collectionDescriptor == null ? NULL
+				: otcCommandDto.collectionDescriptor.ordinal());
+		int flags = 0;
+		flags |= otcCommandDto.isRootNode ? ROOT_NODE : 0;
+		flags |= otcCommandDto.isFirstNode ? FIRST_NODE : 0;
+		flags |= otcCommandDto.hasCollectionNotation ? COLLECTION_NOTATION : 0;
+		flags |= otcCommandDto.hasMapNotation ? MAP_NOTATION : 0;
+		flags |= otcCommandDto.enableGetterHelper ? GETTER_HELPER : 0;
+		flags |= otcCommandDto.enableSetterHelper ? SETTER_HELPER : 0;
+		flags |= otcCommandDto.isGetterInitialized ? GETTER_INITIALIZED : 0;
+		flags |= otcCommandDto.isSetterInitialized ? SETTER_INITIALIZED : 0;
+		out.writeByte(flags);
+		if (otcCommandDto.children == null) {
+			out.writeInt(NULL);
+		} else {
+			out.writeInt(otcCommandDto.children.size());
+			for (Map.Entry<String, OtcCommandDto> entry : otcCommandDto.children.entrySet()) {
+				out.writeInt(stringId(stringIds, entry.getKey()));
+				out.writeInt(nodeId(nodeIds, entry.getValue()));
+			}
+		}
+		writeStrings(out, stringIds, otcCommandDto.occursInCommands == null ? null
+				: otcCommandDto.occursInCommands.toArray(new String[0]));
+	}
+
+	private static void writeOtcChainDto(DataOutputStream out, Map<String, Integer> stringIds,
+			OtcChainDto otcChainDto) throws IOException {
+		out.writeBoolean(otcChainDto != null);
+		if (otcChainDto == null) {
+			return;
+		}
+		out.writeInt(stringId(stringIds, otcChainDto.otcChain));
+		out.writeInt(otcChainDto.collectionCount);
+		out.writeInt(otcChainDto.dictionaryCount);
+		writeStrings(out, stringIds, otcChainDto.rawOtcTokens);
+		writeStrings(out, stringIds, otcChainDto.otcTokens);
+	}
+
+	private static void writeStrings(DataOutputStream out, Map<String, Integer> stringIds, String[] strs)
+			throws IOException {
+		if (strs == null) {
+			out.writeInt(NULL);
+			return;
+		}
+		out.writeInt(strs.length);
+		for (String str : strs) {
+			out.writeInt(stringId(stringIds, str));
+		}
+	}
+
+	private static int stringId(Map<String, Integer> stringIds, String str) {
+		if (str == null) {
+			return NULL;
+		}
+		Integer stringId = stringIds.get(str);
+		if (stringId == null) {
+			stringId = stringIds.size();
+			stringIds.put(str, stringId);
+		}
+		return stringId;
+	}
+
+	private static int classId(Map<String, Integer> stringIds, Class<?> clz) {
+		return clz == null ? NULL : stringId(stringIds, clz.getName());
+	}
+
+	private static int nodeId(Map<OtcCommandDto, Integer> nodeIds, OtcCommandDto otcCommandDto) {
+		return otcCommandDto == null ? NULL : nodeIds.get(otcCommandDto);
+	}
+
+	private RegistryDto readRegistryDto(ByteBuffer entryBuffer) {
+		RegistryDto registryDto = new RegistryDto();
+		registryDto.registryId = readString(entryBuffer);
+		registryDto.otcNamespace = readString(entryBuffer);
+		registryDto.otcFileName = readString(entryBuffer);
+		registryDto.registryFileName = readString(entryBuffer);
+		registryDto.mainClass = readString(entryBuffer);
+		registryDto.sourceIndexerClass = readString(entryBuffer);
+		registryDto.sourceClz = readClass(entryBuffer);
+		registryDto.targetClz = readClass(entryBuffer);
+		registryDto.hasError = entryBuffer.get() != 0;
+		registryDto.isProfilingRequried = entryBuffer.get() != 0;
+		OtcCommandDto[] nodes = new OtcCommandDto[entryBuffer.getInt()];
+		for (int idx = 0; idx < nodes.length; idx++) {
+			nodes[idx] = OtcCommandDto.newBuilder().build();
+		}
+		for (OtcCommandDto node : nodes) {
+			readNode(entryBuffer, nodes, node);
+		}
+		int compiledInfosCount = entryBuffer.getInt();
+		if (compiledInfosCount == NULL) {
+			return registryDto;
+		}
+		registryDto.compiledInfos = new LinkedHashMap<>();
+		for (int idx = 0; idx < compiledInfosCount; idx++) {
+			String key = readString(entryBuffer);
+			CompiledInfo compiledInfo = new CompiledInfo();
+			compiledInfo.id = readString(entryBuffer);
+			compiledInfo.factoryClassName = readString(entryBuffer);
+			compiledInfo.sourceOCDStem = readNodeRef(entryBuffer, nodes);
+			compiledInfo.targetOCDStem = readNodeRef(entryBuffer, nodes);
+			compiledInfo.sourceOtcChainDto = readOtcChainDto(entryBuffer);
+			compiledInfo.targetOtcChainDto = readOtcChainDto(entryBuffer);
+			registryDto.compiledInfos.put(key, compiledInfo);
+		}
+		return registryDto;
+	}
+
+	private void readNode(ByteBuffer entryBuffer, OtcCommandDto[] nodes, OtcCommandDto otcCommandDto) {
+		otcCommandDto.tokenPath = readString(entryBuffer);
+		otcCommandDto.otcToken = readString(entryBuffer);
+		otcCommandDto.fieldName = readString(entryBuffer);
+		otcCommandDto.concreteTypeName = readString(entryBuffer);
+		otcCommandDto.mapKeyConcreteType = readString(entryBuffer);
+		otcCommandDto.mapValueConcreteType = readString(entryBuffer);
+		otcCommandDto.getter = readString(entryBuffer);
+		otcCommandDto.setter = readString(entryBuffer);
+		otcCommandDto.fieldType = readClass(entryBuffer);
+		otcCommandDto.concreteType = readClass(entryBuffer);
+		otcCommandDto.declaringClass = readClass(entryBuffer);
+		otcCommandDto.otcTokenIndex = entryBuffer.getInt();
+		byte enumTargetSource = entryBuffer.get();
+		otcCommandDto.enumTargetSource = enumTargetSource == NULL ? null : TARGET_SOURCES[enumTargetSource];
+		byte collectionDescriptor = entryBuffer.get();
+		otcCommandDto.collectionDescriptor = collectionDescriptor == NULL ? null
+				: COLLECTION_DESCRIPTORS[collectionDescriptor];
+		int flags = entryBuffer.get();
+		otcCommandDto.isRootNode = (flags & ROOT_NODE) != 0;
+		otcCommandDto.isFirstNode = (flags & FIRST_NODE) != 0;
+		otcCommandDto.hasCollectionNotation = (flags & COLLECTION_NOTATION) != 0;
+		otcCommandDto.hasMapNotation = (flags & MAP_NOTATION) != 0;
+		otcCommandDto.enableGetterHelper = (flags & GETTER_HELPER) != 0;
+		otcCommandDto.enableSetterHelper = (flags & SETTER_HELPER) != 0;
+		otcCommandDto.isGetterInitialized = (flags & GETTER_INITIALIZED) != 0;
+		otcCommandDto.isSetterInitialized = (flags & SETTER_INITIALIZED) != 0;
+		int childrenCount = entryBuffer.getInt();
+		if (childrenCount != NULL) {
+			otcCommandDto.children = new LinkedHashMap<>();
+			for (int idx = 0; idx < childrenCount; idx++) {
+				String key = readString(entryBuffer);
+				otcCommandDto.children.put(key, readNodeRef(entryBuffer, nodes));
+			}
+		}
+		String[] occursInCommands = readStrings(entryBuffer);
+		if (occursInCommands != null) {
+			otcCommandDto.occursInCommands = new ArrayList<>(occursInCommands.length);
+			Collections.addAll(otcCommandDto.occursInCommands, occursInCommands);
+		}
+	}
+
+	private OtcChainDto readOtcChainDto(ByteBuffer entryBuffer) {
+		if (entryBuffer.get() == 0) {
+			return null;
+		}
+		OtcChainDto otcChainDto = new OtcChainDto();
+		otcChainDto.otcChain = readString(entryBuffer);
+		otcChainDto.collectionCount = entryBuffer.getInt();
+		otcChainDto.dictionaryCount = entryBuffer.getInt();
+		otcChainDto.rawOtcTokens = readStrings(entryBuffer);
+		otcChainDto.otcTokens = readStrings(entryBuffer);
+		return otcChainDto;
+	}
+
+	private static OtcCommandDto readNodeRef(ByteBuffer entryBuffer, OtcCommandDto[] nodes) {
+		int nodeId = entryBuffer.getInt();
+		return nodeId == NULL ? null : nodes[nodeId];
+	}
+
+	private String[] readStrings(ByteBuffer entryBuffer) {
+		int length = entryBuffer.getInt();
+		if (length == NULL) {
+			return null;
+		}
+		String[] strs = new String[length];
+		for (int idx = 0; idx < length; idx++) {
+			strs[idx] = readString(entryBuffer);
+		}
+		return strs;
+	}
+
+	private String readString(ByteBuffer entryBuffer) {
+		int stringId = entryBuffer.getInt();
+		return stringId == NULL ? null : strings[stringId];
+	}
+
+	private Class<?> readClass(ByteBuffer entryBuffer) {
+		String clzName = readString(entryBuffer);
+		if (clzName == null) {
+			return null;
+		}
+		try {
+			return TypeFactory.defaultInstance().findClass(clzName);
+		} catch (ClassNotFoundException e) {
+			throw new OtcException("", "Unable to load class " + clzName + " of registry-manifest.", e);
+		}
+	}
+}
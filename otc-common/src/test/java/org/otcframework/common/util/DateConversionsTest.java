@@ -0,0 +1,117 @@
+/**
+ * Copyright (c) otcframework.org
+ *
+ * @author  Franklin J Abel
+ * @version 1.0
+ * @since   2020-06-08
+ *
+ * This file is part of the OTC framework.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package org.otcframework.common.util;
+
+import etree.dateconverters.DateConverterFacade;
+import org.junit.Test;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalQuery;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * The Class DateConversionsTest.
+ */
+public class DateConversionsTest {
+
+	/**
+	 * ISO shaped strings are told apart from the others of each target type by their separators.
+	 */
+	@Test
+	public void isIsoShapedChecksTheSeparatorsOfEachType() {
+		assertTrue(DateConversions.isIsoShaped("2024-05-06", LocalDate.class));
+		assertFalse(DateConversions.isIsoShaped("06-05-2024", LocalDate.class));
+		assertFalse(DateConversions.isIsoShaped("2024/05/06", LocalDate.class));
+		assertFalse(DateConversions.isIsoShaped("2024-05-06T10:15", LocalDate.class));
+
+		assertTrue(DateConversions.isIsoShaped("2024-05-06T10:15:30", LocalDateTime.class));
+		assertTrue(DateConversions.isIsoShaped("2024-05-06t10:15", LocalDateTime.class));
+		assertFalse(DateConversions.isIsoShaped("2024-05-06 10:15:30", LocalDateTime.class));
+		assertFalse(DateConversions.isIsoShaped("2024-05-06", LocalDateTime.class));
+
+		assertTrue(DateConversions.isIsoShaped("2024-05-06T10:15:30Z", Instant.class));
+		assertFalse(DateConversions.isIsoShaped("2024-05-06 10:15:30Z", Instant.class));
+		assertFalse(DateConversions.isIsoShaped("1714990530", Instant.class));
+
+		assertTrue(DateConversions.isIsoShaped("10:15:30", LocalTime.class));
+		assertTrue(DateConversions.isIsoShaped("10:15", LocalTime.class));
+		assertFalse(DateConversions.isIsoShaped("9:15", LocalTime.class));
+		assertFalse(DateConversions.isIsoShaped("1015", LocalTime.class));
+	}
+
+	/**
+	 * ISO shaped strings are parsed by the ISO formatter of each type.
+	 */
+	@Test
+	public void parseIsoShapedWithTheFormatter() {
+		assertEquals(LocalDate.of(2024, 5, 6),
+				DateConversions.parse("2024-05-06", DateTimeFormatter.ISO_LOCAL_DATE, LocalDate::from,
+						LocalDate.class));
+		assertEquals(LocalDateTime.of(2024, 5, 6, 10, 15, 30),
+				DateConversions.parse("2024-05-06T10:15:30", DateTimeFormatter.ISO_LOCAL_DATE_TIME,
+						LocalDateTime::from, LocalDateTime.class));
+		assertEquals(Instant.parse("2024-05-06T10:15:30Z"),
+				DateConversions.parse("2024-05-06T10:15:30Z", DateTimeFormatter.ISO_INSTANT, Instant::from,
+						Instant.class));
+		assertEquals(LocalTime.of(10, 15),
+				DateConversions.parse("10:15", DateTimeFormatter.ISO_LOCAL_TIME, LocalTime::from, LocalTime.class));
+	}
+
+	/**
+	 * Strings not ISO shaped, or ISO shaped but not parsable, are converted by the DateConverterFacade.
+	 */
+	@Test
+	public void parseOthersWithTheFacade() {
+		assertConvertedByFacade("2024/05/06", DateTimeFormatter.ISO_LOCAL_DATE, LocalDate::from, LocalDate.class);
+		assertConvertedByFacade("2024-13-45", DateTimeFormatter.ISO_LOCAL_DATE, LocalDate::from, LocalDate.class);
+		assertConvertedByFacade("2024-05-06 10:15:30", DateTimeFormatter.ISO_LOCAL_DATE_TIME, LocalDateTime::from,
+				LocalDateTime.class);
+		assertConvertedByFacade("2024-05-06 10:15:30Z", DateTimeFormatter.ISO_INSTANT, Instant::from,
+				Instant.class);
+		assertConvertedByFacade("9:15", DateTimeFormatter.ISO_LOCAL_TIME, LocalTime::from, LocalTime.class);
+	}
+
+	private static <T> void assertConvertedByFacade(String value, DateTimeFormatter formatter,
+			TemporalQuery<T> query, Class<T> targetType) {
+		Object expected;
+		try {
+			expected = DateConverterFacade.convert(value, targetType);
+		} catch (RuntimeException ex) {
+			expected = ex.getClass();
+		}
+		Object actual;
+		try {
+			actual = DateConversions.parse(value, formatter, query, targetType);
+		} catch (RuntimeException ex) {
+			actual = ex.getClass();
+		}
+		assertEquals(value, expected, actual);
+	}
+}
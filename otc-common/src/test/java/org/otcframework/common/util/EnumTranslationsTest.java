@@ -0,0 +1,125 @@
+/**
+ * Copyright (c) otcframework.org
+ *
+ * @author  Franklin J Abel
+ * @version 1.0
+ * @since   2020-06-08
+ *
+ * This file is part of the OTC framework.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package org.otcframework.common.util;
+
+import org.junit.Test;
+
+import java.util.Map;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * The Class EnumTranslationsTest.
+ */
+public class EnumTranslationsTest {
+
+	/**
+	 * The Enum Color - with a toString() other than its names.
+	 */
+	enum Color {
+		RED, GREEN, BLUE, GRAY;
+
+		@Override
+		public String toString() {
+			return name().toLowerCase();
+		}
+	}
+
+	/**
+	 * The Enum Shade.
+	 */
+	enum Shade {
+		RED, GREEN, DARK_BLUE
+	}
+
+	/**
+	 * Enum to enum translates by name - not by toString() - unless mapped, and a '~' mapping translates to null.
+	 */
+	@Test
+	public void enumToEnumTranslatesByNameAndMappings() {
+		Map<Color, Shade> table = EnumTranslations.enumToEnum(Color.class, Shade.class, "BLUE", "DARK_BLUE", "GRAY",
+				null);
+		assertEquals(Shade.RED, EnumTranslations.translate(table, Color.RED, Shade.class));
+		assertEquals(Shade.GREEN, EnumTranslations.translate(table, Color.GREEN, Shade.class));
+		assertEquals(Shade.DARK_BLUE, EnumTranslations.translate(table, Color.BLUE, Shade.class));
+		assertTrue(table.containsKey(Color.GRAY));
+		assertNull(EnumTranslations.translate(table, Color.GRAY, Shade.class));
+		assertNull(EnumTranslations.translate(table, null, Shade.class));
+	}
+
+	/**
+	 * Enum to enum fails on a source constant with neither a counterpart nor a mapping.
+	 */
+	@Test
+	public void enumToEnumFailsOnUnknownName() {
+		Map<Color, Shade> table = EnumTranslations.enumToEnum(Color.class, Shade.class, "GRAY", null);
+		assertFalse(table.containsKey(Color.BLUE));
+		try {
+			EnumTranslations.translate(table, Color.BLUE, Shade.class);
+			fail("Translated a constant without a counterpart.");
+		} catch (IllegalArgumentException ex) {
+			assertTrue(ex.getMessage(), ex.getMessage().endsWith("Shade.BLUE"));
+		}
+	}
+
+	/**
+	 * String to enum translates the names and the mapped strings, and a '~' mapping translates to null.
+	 */
+	@Test
+	public void stringToEnumTranslatesNamesAndMappings() {
+		Map<String, Shade> table = EnumTranslations.stringToEnum(Shade.class, "rouge", "RED", "gris", null);
+		assertEquals(Shade.RED, EnumTranslations.translate(table, "RED", Shade.class));
+		assertEquals(Shade.RED, EnumTranslations.translate(table, "rouge", Shade.class));
+		assertEquals(Shade.DARK_BLUE, EnumTranslations.translate(table, "DARK_BLUE", Shade.class));
+		assertNull(EnumTranslations.translate(table, "gris", Shade.class));
+		assertNull(EnumTranslations.translate(table, null, Shade.class));
+	}
+
+	/**
+	 * String to enum fails on a string with neither a counterpart nor a mapping - as Enum.valueOf would.
+	 */
+	@Test
+	public void stringToEnumFailsOnUnknownName() {
+		Map<String, Shade> table = EnumTranslations.stringToEnum(Shade.class, "rouge", "RED");
+		try {
+			EnumTranslations.translate(table, "BLUE", Shade.class);
+			fail("Translated a string without a counterpart.");
+		} catch (IllegalArgumentException ex) {
+			assertTrue(ex.getMessage(), ex.getMessage().endsWith("Shade.BLUE"));
+		}
+	}
+
+	/**
+	 * Enum to string translates by toString() unless mapped, and a '~' mapping translates to null.
+	 */
+	@Test
+	public void enumToStringTranslatesByToStringAndMappings() {
+		String[] table = EnumTranslations.enumToString(Color.class, "GREEN", "verde", "GRAY", null);
+		assertArrayEquals(new String[] { "red", "verde", "blue", null }, table);
+	}
+}
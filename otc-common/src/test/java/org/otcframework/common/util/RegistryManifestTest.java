@@ -0,0 +1,283 @@
+/**
+ * Copyright (c) otcframework.org
+ *
+ * @author  Franklin J Abel
+ * @version 1.0
+ * @since   2020-06-08
+ *
+ * This file is part of the OTC framework.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package org.otcframework.common.util;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.otcframework.common.OtcConstants.TARGET_SOURCE;
+import org.otcframework.common.dto.OtcChainDto;
+import org.otcframework.common.dto.OtcCommandDto;
+import org.otcframework.common.dto.OtcCommandDto.CollectionDescriptor;
+import org.otcframework.common.dto.RegistryDto;
+import org.otcframework.common.dto.RegistryDto.CompiledInfo;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+/**
+ * The Class RegistryManifestTest.
+ */
+public class RegistryManifestTest {
+
+	/** The temporary folder. */
+	@Rule
+	public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+	/**
+	 * The registry dtos read back from the manifest have the same command trees as the ones written - with their
+	 * collection and map members, null properties and shared stems.
+	 *
+	 * @throws Exception the exception
+	 */
+	@Test
+	public void registryDtosRoundTrip() throws Exception {
+		File file = temporaryFolder.newFile("registry.manifest");
+		RegistryDto registryDto = createRegistryDto("ns.OrderToInvoice");
+		RegistryDto otherRegistryDto = createRegistryDto("ns.OrderToShipment");
+		otherRegistryDto.otcNamespace = null;
+		otherRegistryDto.compiledInfos = null;
+		RegistryManifest.write(file, Arrays.asList(registryDto, otherRegistryDto));
+
+		RegistryManifest registryManifest = RegistryManifest.open(file);
+		assertEquals(2, registryManifest.getRegistryIds().size());
+		assertNull(registryManifest.read("ns.Unknown"));
+		assertRegistryDto(registryDto, registryManifest.read(registryDto.registryId));
+		assertRegistryDto(otherRegistryDto, registryManifest.read(otherRegistryDto.registryId));
+		assertEquals(2, registryManifest.readAll().size());
+
+		RegistryDto readRegistryDto = registryManifest.read(registryDto.registryId);
+		assertSame(readRegistryDto.compiledInfos.get("items").sourceOCDStem,
+				readRegistryDto.compiledInfos.get("attributes").sourceOCDStem);
+	}
+
+	/**
+	 * An opened manifest keeps reading its registrations after the manifest file is replaced.
+	 *
+	 * @throws Exception the exception
+	 */
+	@Test
+	public void openedManifestSurvivesRewrite() throws Exception {
+		File file = temporaryFolder.newFile("registry.manifest");
+		RegistryDto registryDto = createRegistryDto("ns.OrderToInvoice");
+		RegistryManifest.write(file, Collections.singletonList(registryDto));
+		RegistryManifest registryManifest = RegistryManifest.open(file);
+
+		RegistryManifest.write(file, Collections.singletonList(createRegistryDto("ns.OrderToShipment")));
+		assertRegistryDto(registryDto, registryManifest.read(registryDto.registryId));
+		assertNull(RegistryManifest.open(file).read(registryDto.registryId));
+	}
+
+	private static RegistryDto createRegistryDto(String registryId) {
+		RegistryDto registryDto = new RegistryDto();
+		registryDto.registryId = registryId;
+		registryDto.otcNamespace = "ns";
+		registryDto.otcFileName = registryId.substring(registryId.indexOf('.') + 1) + ".otcs";
+		registryDto.registryFileName = "/otc/tmd/" + registryId + ".tmd";
+		registryDto.mainClass = registryId;
+		registryDto.sourceIndexerClass = null;
+		registryDto.sourceClz = Map.class;
+		registryDto.targetClz = List.class;
+		registryDto.isProfilingRequried = true;
+
+		OtcCommandDto order = createNode(TARGET_SOURCE.SOURCE, "order", "order", 0, Map.class);
+		order.isRootNode = true;
+		OtcCommandDto items = addChild(order, createNode(TARGET_SOURCE.SOURCE, "items", "order.items", 1, List.class));
+		items.collectionDescriptor = CollectionDescriptor.LIST;
+		items.hasCollectionNotation = true;
+		items.concreteTypeName = ArrayList.class.getName();
+		items.concreteType = ArrayList.class;
+		OtcCommandDto item = addChild(items, createNode(TARGET_SOURCE.SOURCE, "items", "order.items[*]", 1,
+				String.class));
+		item.collectionDescriptor = CollectionDescriptor.COLLECTION_MEMBER;
+		item.hasCollectionNotation = true;
+		item.getter = null;
+		item.occursInCommands = new ArrayList<>(Arrays.asList("items"));
+		OtcCommandDto attributes = addChild(order, createNode(TARGET_SOURCE.SOURCE, "attributes",
+				"order.attributes", 1, Map.class));
+		attributes.collectionDescriptor = CollectionDescriptor.MAP;
+		attributes.hasMapNotation = true;
+		attributes.mapKeyConcreteType = String.class.getName();
+		attributes.mapValueConcreteType = Integer.class.getName();
+		attributes.enableGetterHelper = true;
+		OtcCommandDto attributeKey = addChild(attributes, createNode(TARGET_SOURCE.SOURCE, "<K>attributes",
+				"order.attributes[*].<K>", 1, String.class));
+		attributeKey.collectionDescriptor = CollectionDescriptor.MAP_KEY;
+		attributeKey.hasMapNotation = true;
+		attributeKey.occursInCommands = new ArrayList<>(Arrays.asList("attributes"));
+		OtcCommandDto attributeValue = addChild(attributes, createNode(TARGET_SOURCE.SOURCE, "<V>attributes",
+				"order.attributes[*].<V>", 1, Integer.class));
+		attributeValue.collectionDescriptor = CollectionDescriptor.MAP_VALUE;
+		attributeValue.hasMapNotation = true;
+		attributeValue.declaringClass = null;
+		attributeValue.occursInCommands = new ArrayList<>();
+
+		OtcCommandDto lines = createNode(TARGET_SOURCE.TARGET, "lines", "lines", 0, List.class);
+		lines.isRootNode = true;
+		lines.collectionDescriptor = CollectionDescriptor.LIST;
+		lines.hasCollectionNotation = true;
+		lines.enableSetterHelper = true;
+		lines.isSetterInitialized = true;
+		lines.enumTargetSource = null;
+
+		registryDto.compiledInfos = new LinkedHashMap<>();
+		registryDto.compiledInfos.put("items", createCompiledInfo("items", order, lines, "order.items[*]"));
+		registryDto.compiledInfos.put("attributes", createCompiledInfo("attributes", order, null,
+				"order.attributes{*}"));
+		return registryDto;
+	}
+
+	private static OtcCommandDto createNode(TARGET_SOURCE enumTargetSource, String otcToken, String tokenPath,
+			int otcTokenIndex, Class<?> fieldType) {
+		OtcCommandDto otcCommandDto = OtcCommandDto.newBuilder().build();
+		otcCommandDto.enumTargetSource = enumTargetSource;
+		otcCommandDto.otcToken = otcToken;
+		otcCommandDto.tokenPath = tokenPath;
+		otcCommandDto.otcTokenIndex = otcTokenIndex;
+		otcCommandDto.isFirstNode = otcTokenIndex == 0;
+		otcCommandDto.fieldName = otcToken;
+		otcCommandDto.fieldType = fieldType;
+		otcCommandDto.declaringClass = Map.class;
+		otcCommandDto.getter = "get" + otcToken;
+		otcCommandDto.isGetterInitialized = true;
+		return otcCommandDto;
+	}
+
+	private static OtcCommandDto addChild(OtcCommandDto parent, OtcCommandDto child) {
+		if (parent.children == null) {
+			parent.children = new LinkedHashMap<>();
+		}
+		parent.children.put(child.otcToken, child);
+		return child;
+	}
+
+	private static CompiledInfo createCompiledInfo(String id, OtcCommandDto sourceOCDStem,
+			OtcCommandDto targetOCDStem, String sourceOtcChain) {
+		CompiledInfo compiledInfo = new CompiledInfo();
+		compiledInfo.id = id;
+		compiledInfo.factoryClassName = "ns." + id + "Factory";
+		compiledInfo.sourceOCDStem = sourceOCDStem;
+		compiledInfo.targetOCDStem = targetOCDStem;
+		compiledInfo.sourceOtcChainDto = new OtcChainDto();
+		compiledInfo.sourceOtcChainDto.otcChain = sourceOtcChain;
+		compiledInfo.sourceOtcChainDto.collectionCount = 1;
+		compiledInfo.sourceOtcChainDto.rawOtcTokens = sourceOtcChain.split("\\.");
+		compiledInfo.sourceOtcChainDto.otcTokens = null;
+		compiledInfo.targetOtcChainDto = targetOCDStem == null ? null : new OtcChainDto();
+		return compiledInfo;
+	}
+
+	private static void assertRegistryDto(RegistryDto expected, RegistryDto actual) {
+		assertNotNull(actual);
+		assertEquals(expected.registryId, actual.registryId);
+		assertEquals(expected.otcNamespace, actual.otcNamespace);
+		assertEquals(expected.otcFileName, actual.otcFileName);
+		assertEquals(expected.registryFileName, actual.registryFileName);
+		assertEquals(expected.mainClass, actual.mainClass);
+		assertEquals(expected.sourceIndexerClass, actual.sourceIndexerClass);
+		assertEquals(expected.sourceClz, actual.sourceClz);
+		assertEquals(expected.targetClz, actual.targetClz);
+		assertEquals(expected.hasError, actual.hasError);
+		assertEquals(expected.isProfilingRequried, actual.isProfilingRequried);
+		if (expected.compiledInfos == null) {
+			assertNull(actual.compiledInfos);
+			return;
+		}
+		assertEquals(new ArrayList<>(expected.compiledInfos.keySet()),
+				new ArrayList<>(actual.compiledInfos.keySet()));
+		for (Map.Entry<String, CompiledInfo> entry : expected.compiledInfos.entrySet()) {
+			CompiledInfo expectedInfo = entry.getValue();
+			CompiledInfo actualInfo = actual.compiledInfos.get(entry.getKey());
+			assertEquals(expectedInfo.id, actualInfo.id);
+			assertEquals(expectedInfo.factoryClassName, actualInfo.factoryClassName);
+			assertNode(expectedInfo.sourceOCDStem, actualInfo.sourceOCDStem);
+			assertNode(expectedInfo.targetOCDStem, actualInfo.targetOCDStem);
+			assertOtcChainDto(expectedInfo.sourceOtcChainDto, actualInfo.sourceOtcChainDto);
+			assertOtcChainDto(expectedInfo.targetOtcChainDto, actualInfo.targetOtcChainDto);
+		}
+	}
+
+	private static void assertNode(OtcCommandDto expected, OtcCommandDto actual) {
+		if (expected == null) {
+			assertNull(actual);
+			return;
+		}
+		assertNotNull(expected.tokenPath, actual);
+		assertEquals(expected.tokenPath, actual.tokenPath);
+		assertEquals(expected.tokenPath, expected.otcToken, actual.otcToken);
+		assertEquals(expected.tokenPath, expected.fieldName, actual.fieldName);
+		assertEquals(expected.tokenPath, expected.concreteTypeName, actual.concreteTypeName);
+		assertEquals(expected.tokenPath, expected.mapKeyConcreteType, actual.mapKeyConcreteType);
+		assertEquals(expected.tokenPath, expected.mapValueConcreteType, actual.mapValueConcreteType);
+		assertEquals(expected.tokenPath, expected.getter, actual.getter);
+		assertEquals(expected.tokenPath, expected.setter, actual.setter);
+		assertEquals(expected.tokenPath, expected.fieldType, actual.fieldType);
+		assertEquals(expected.tokenPath, expected.concreteType, actual.concreteType);
+		assertEquals(expected.tokenPath, expected.declaringClass, actual.declaringClass);
+		assertEquals(expected.tokenPath, expected.otcTokenIndex, actual.otcTokenIndex);
+		assertEquals(expected.tokenPath, expected.enumTargetSource, actual.enumTargetSource);
+		assertEquals(expected.tokenPath, expected.collectionDescriptor, actual.collectionDescriptor);
+		assertEquals(expected.tokenPath, expected.isRootNode, actual.isRootNode);
+		assertEquals(expected.tokenPath, expected.isFirstNode, actual.isFirstNode);
+		assertEquals(expected.tokenPath, expected.hasCollectionNotation, actual.hasCollectionNotation);
+		assertEquals(expected.tokenPath, expected.hasMapNotation, actual.hasMapNotation);
+		assertEquals(expected.tokenPath, expected.enableGetterHelper, actual.enableGetterHelper);
+		assertEquals(expected.tokenPath, expected.enableSetterHelper, actual.enableSetterHelper);
+		assertEquals(expected.tokenPath, expected.isGetterInitialized, actual.isGetterInitialized);
+		assertEquals(expected.tokenPath, expected.isSetterInitialized, actual.isSetterInitialized);
+		assertEquals(expected.tokenPath, expected.occursInCommands, actual.occursInCommands);
+		if (expected.children == null) {
+			assertNull(expected.tokenPath, actual.children);
+			return;
+		}
+		assertEquals(expected.tokenPath, new ArrayList<>(expected.children.keySet()),
+				new ArrayList<>(actual.children.keySet()));
+		for (Map.Entry<String, OtcCommandDto> entry : expected.children.entrySet()) {
+			assertNode(entry.getValue(), actual.children.get(entry.getKey()));
+		}
+	}
+
+	private static void assertOtcChainDto(OtcChainDto expected, OtcChainDto actual) {
+		if (expected == null) {
+			assertNull(actual);
+			return;
+		}
+		assertNotNull(actual);
+		assertEquals(expected.otcChain, actual.otcChain);
+		assertEquals(expected.collectionCount, actual.collectionCount);
+		assertEquals(expected.dictionaryCount, actual.dictionaryCount);
+		assertArrayEquals(expected.rawOtcTokens, actual.rawOtcTokens);
+		assertArrayEquals(expected.otcTokens, actual.otcTokens);
+	}
+}
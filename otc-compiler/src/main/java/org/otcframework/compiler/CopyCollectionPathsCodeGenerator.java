@@ -25,6 +25,7 @@ package org.otcframework.compiler;
 import org.otcframework.common.OtcConstants.ALGORITHM_ID;
 import org.otcframework.common.OtcConstants.LogLevel;
 import org.otcframework.common.compiler.OtcCommandContext;
+import org.otcframework.common.config.OtcConfig;
 import org.otcframework.common.dto.OtcCommandDto;
 import org.otcframework.common.dto.ScriptDto;
 import org.otcframework.compiler.command.ExecutionContext;
@@ -63,12 +64,14 @@ final class CopyCollectionPathsCodeGenerator extends AbstractOtcCodeGenerator {
 			@SuppressWarnings("unused")
 			int dummy = 0;
 		}
+		scriptDto.isSourceIndexFree = OtcConfig.getIndexFreeSourceLoops() && !targetOCC.hasAnchorInChain;
 		TargetOtcCommandContext clonedTargetOCC = targetOCC.clone();
 		executionContext.targetOCC = clonedTargetOCC;
 		otcCommand.clearCache();
 		otcCommand.appendBeginClass(clonedTargetOCC, sourceOCC, targetClz, sourceClz, addLogger);
 		otcCommand.appendPreloopVars(clonedTargetOCC);
-		generateCode(executionContext);
+		generateSourceLoops(executionContext);
+		generateTargetCode(executionContext);
 		if (clonedTargetOCC.loopsCounter > 0) {
 			for (int bracesIdx = 0; bracesIdx < clonedTargetOCC.loopsCounter; bracesIdx++) {
 				clonedTargetOCC.appendCode("\n}");
@@ -78,18 +81,16 @@ final class CopyCollectionPathsCodeGenerator extends AbstractOtcCodeGenerator {
 	}
 
 	/**
-	 * Generate code.
+	 * Generate source loops - up to the null-check of the source leaf.
 	 *
 	 * @param executionContext the execution context
 	 */
-	private static void generateCode(ExecutionContext executionContext) {
+	static void generateSourceLoops(ExecutionContext executionContext) {
 		OtcCommand otcCommand = executionContext.otcCommand;
 		TargetOtcCommandContext targetOCC = executionContext.targetOCC;
 		SourceOtcCommandContext sourceOCC = executionContext.sourceOCC;
 		OtcCommandDto sourceOCD = sourceOCC.otcCommandDto;
 		int sourceCollectionsCount = sourceOCC.collectionsCount;
-		OtcCommandDto targetOCD = targetOCC.otcCommandDto;
-		int targetCollectionsCount = targetOCC.collectionsCount;
 		if (!sourceOCD.isCollectionOrMap()) {
 			sourceOCD = OtcCommand.retrieveNextCollectionOrMapOCD(sourceOCC);
 			sourceOCC.otcCommandDto = sourceOCD;
@@ -110,9 +111,24 @@ final class CopyCollectionPathsCodeGenerator extends AbstractOtcCodeGenerator {
 			}
 			sourceOCC.otcCommandDto = sourceOCD;
 		}
+	}
+
+	/**
+	 * Generate target code - within the source loops, from the target root to the target leaf.
+	 *
+	 * @param executionContext the execution context
+	 */
+	static void generateTargetCode(ExecutionContext executionContext) {
+		OtcCommand otcCommand = executionContext.otcCommand;
+		TargetOtcCommandContext targetOCC = executionContext.targetOCC;
+		SourceOtcCommandContext sourceOCC = executionContext.sourceOCC;
+		OtcCommandDto targetOCD = targetOCC.otcCommandDto;
+		int targetCollectionsCount = targetOCC.collectionsCount;
 		OtcCommandDto memberOCD = null;
 		while (targetCollectionsCount > 0) {
+			targetOCC.collectionSizeVar = fetchCollectionSizeVar(executionContext);
 			otcCommand.appendInitUptoNextCollectionWithContinue(targetOCC, LogLevel.WARN);
+			targetOCC.collectionSizeVar = null;
 			memberOCD = OtcCommand.retrieveMemberOCD(targetOCC);
 			targetOCC.otcCommandDto = memberOCD;
 			executionContext.shouldIncrementOffsetIdx = false;
@@ -161,6 +177,37 @@ final class CopyCollectionPathsCodeGenerator extends AbstractOtcCodeGenerator {
 		}
 	}
 
+	/**
+	 * Fetch collection size var - the size of the source loop whose index is used for the members of the next
+	 * target collection, as resolved by {@link #appendInitNonAnchored(ExecutionContext, OtcCommand)}; the target
+	 * collection is pre-sized to it when created.
+	 *
+	 * @param executionContext the execution context
+	 * @return the string - null if the next target collection is anchored or flattened from the source loops
+	 */
+	private static String fetchCollectionSizeVar(ExecutionContext executionContext) {
+		TargetOtcCommandContext targetOCC = executionContext.targetOCC;
+		if (targetOCC.hasAnchorInChain) {
+			return null;
+		}
+		OtcCommandContext sourceOCC = executionContext.sourceOCC;
+		int collectionTokenIndex = targetOCC.currentCollectionTokenIndex + 1;
+		Integer sourceLoopIdx = null;
+		if (executionContext.isLargeTarget()) {
+			int remainingCollections = targetOCC.collectionsCount - collectionTokenIndex;
+			if (remainingCollections < sourceOCC.collectionsCount) {
+				sourceLoopIdx = sourceOCC.collectionsCount - (remainingCollections + 1);
+			}
+		} else if (executionContext.isLargeSource()) {
+			if (collectionTokenIndex < targetOCC.collectionsCount) {
+				sourceLoopIdx = collectionTokenIndex - 1;
+			}
+		} else if (collectionTokenIndex <= targetOCC.collectionsCount) {
+			sourceLoopIdx = collectionTokenIndex - 1;
+		}
+		return sourceLoopIdx == null ? null : "size" + sourceLoopIdx;
+	}
+
 	/**
 	 * Append init anchored.
 	 *
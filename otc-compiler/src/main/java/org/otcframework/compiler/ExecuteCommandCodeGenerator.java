@@ -135,6 +135,8 @@ final class ExecuteCommandCodeGenerator extends AbstractOtcCodeGenerator {
 					targetOCC.otcCommandDto = targetOCD;
 				}
 			}
+		} else {
+			otcCommand.appendInit(targetOCC, null, false, LogLevel.WARN);
 		}
 		// innermost loop - if null continue code.
 		if (scriptDto.hasExecutionOrder) {
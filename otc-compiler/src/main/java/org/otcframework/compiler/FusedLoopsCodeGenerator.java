@@ -0,0 +1,218 @@
+/**
+* Copyright (c) otcframework.org
+*
+* @author  Franklin J Abel
+* @version 1.0
+* @since   2020-06-08 
+*
+* This file is part of the OTC framework.
+* 
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*      https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*
+*/
+package org.otcframework.compiler;
+
+import org.otcframework.common.OtcConstants;
+import org.otcframework.common.OtcConstants.ALGORITHM_ID;
+import org.otcframework.common.config.OtcConfig;
+import org.otcframework.common.dto.ClassDto;
+import org.otcframework.common.dto.OtcChainDto;
+import org.otcframework.common.dto.ScriptDto;
+import org.otcframework.compiler.command.ExecutionContext;
+import org.otcframework.compiler.command.OtcCommand;
+import org.otcframework.compiler.command.SourceOtcCommandContext;
+import org.otcframework.compiler.command.TargetOtcCommandContext;
+import org.otcframework.compiler.templates.FusedLoopTemplate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * The Class FusedLoopsCodeGenerator - fuses the source loops of consecutive collection commands.
+ * <p>
+ * Consecutive commands copying from the same source path into members of the same target collections are run from
+ * one loop nest, in the factory-class of the first of them, which the main-class calls once for all of them. As they
+ * skip the same source elements, each target collection member is created by the same source element, and in the
+ * same order, as when every command runs its own loops. The rest of each command runs in a block of its own, in
+ * command order, so that its 'continue' skips only that command. Commands with anchors or maps in the target, or
+ * flattening source collections into the target, keep their own loops. No factory-class is generated for the other
+ * commands of a loop nest - they are registered with the one of the first.
+ */
+final class FusedLoopsCodeGenerator {
+
+	/** The Constant LOGGER. */
+	private static final Logger LOGGER = LoggerFactory.getLogger(FusedLoopsCodeGenerator.class);
+
+	/** The fused commands - the commands sharing a loop nest, by each of them. */
+	private final Map<ScriptDto, List<ScriptDto>> fusedCommands = new HashMap<>();
+
+	/** The fused class dto - of the loop nest being generated. */
+	private ClassDto fusedClassDto;
+
+	/** The loops source OCC - at the source leaf, as left by the loop nest being generated. */
+	private SourceOtcCommandContext loopsSourceOCC;
+
+	/** The loops counter - of the loop nest being generated. */
+	private int loopsCounter;
+
+	/**
+	 * Instantiates a new fused loops code generator.
+	 *
+	 * @param scriptDtos the script dtos - in command order
+	 */
+	FusedLoopsCodeGenerator(List<ScriptDto> scriptDtos) {
+		List<ScriptDto> commands = new ArrayList<>();
+		for (ScriptDto scriptDto : scriptDtos) {
+			boolean isFusable = isFusable(scriptDto);
+			if (!commands.isEmpty() && !(isFusable && isSameLoops(commands.get(0), scriptDto))) {
+				addFusedCommands(commands);
+				commands = new ArrayList<>();
+			}
+			if (isFusable) {
+				commands.add(scriptDto);
+			}
+		}
+		addFusedCommands(commands);
+	}
+
+	/**
+	 * Checks if is fused.
+	 *
+	 * @param scriptDto the script dto
+	 * @return true, if the command shares its loops with others
+	 */
+	boolean isFused(ScriptDto scriptDto) {
+		return fusedCommands.containsKey(scriptDto);
+	}
+
+	/**
+	 * Generate source code - of a fused command, into the factory-class of the first command of its loop nest.
+	 *
+	 * @param executionContext the execution context
+	 */
+	void generateSourceCode(ExecutionContext executionContext) {
+		OtcCommand otcCommand = executionContext.otcCommand;
+		Class<?> targetClz = executionContext.targetClz;
+		Class<?> sourceClz = executionContext.sourceClz;
+		TargetOtcCommandContext targetOCC = executionContext.targetOCC;
+		targetOCC.algorithmId = ALGORITHM_ID.COLLECTIONS;
+		ScriptDto scriptDto = targetOCC.scriptDto;
+		List<ScriptDto> commands = fusedCommands.get(scriptDto);
+		scriptDto.isSourceIndexFree = OtcConfig.getIndexFreeSourceLoops();
+		TargetOtcCommandContext clonedTargetOCC = targetOCC.clone();
+		executionContext.targetOCC = clonedTargetOCC;
+		if (commands.get(0) == scriptDto) {
+			fusedClassDto = new ClassDto();
+			fusedClassDto.packageName = targetOCC.factoryClassDto.packageName;
+			fusedClassDto.className = targetOCC.factoryClassDto.className;
+			fusedClassDto.fullyQualifiedClassName = targetOCC.factoryClassDto.fullyQualifiedClassName;
+			clonedTargetOCC.factoryClassDto = fusedClassDto;
+			otcCommand.clearCache();
+			List<Integer> commandIdxs = IntStream.range(targetOCC.commandIdx, targetOCC.commandIdx + commands.size())
+					.boxed().collect(Collectors.toList());
+			otcCommand.appendBeginFusedClass(clonedTargetOCC, executionContext.sourceOCC, targetClz, sourceClz, true,
+					commandIdxs);
+			otcCommand.appendPreloopVars(clonedTargetOCC);
+			CopyCollectionPathsCodeGenerator.generateSourceLoops(executionContext);
+			loopsSourceOCC = executionContext.sourceOCC.clone();
+			loopsCounter = clonedTargetOCC.loopsCounter;
+		} else {
+			otcCommand.deleteClassFiles(targetOCC.factoryClassDto.fullyQualifiedClassName);
+			clonedTargetOCC.factoryClassDto = fusedClassDto;
+			clonedTargetOCC.loopsCounter = loopsCounter;
+			otcCommand.clearTargetCache();
+		}
+		executionContext.sourceOCC = loopsSourceOCC.clone();
+		clonedTargetOCC.appendCode(FusedLoopTemplate.generateCommandBlockBeginCode(targetOCC.commandIdx));
+		CopyCollectionPathsCodeGenerator.generateTargetCode(executionContext);
+		clonedTargetOCC.appendCode(FusedLoopTemplate.generateCommandBlockEndCode());
+		if (commands.get(commands.size() - 1) == scriptDto) {
+			for (int bracesIdx = 0; bracesIdx < loopsCounter; bracesIdx++) {
+				clonedTargetOCC.appendCode("\n}");
+			}
+			otcCommand.createJavaFile(clonedTargetOCC, targetClz, sourceClz);
+			LOGGER.debug("Fused the source loops of commands {} into factory-class '{}'.", commands.stream()
+					.map(command -> command.command.id).collect(Collectors.joining(", ")), fusedClassDto.className);
+			fusedClassDto = null;
+			loopsSourceOCC = null;
+		}
+	}
+
+	/**
+	 * Adds the fused commands - if more than one share the loops.
+	 *
+	 * @param commands the commands
+	 */
+	private void addFusedCommands(List<ScriptDto> commands) {
+		if (commands.size() < 2) {
+			return;
+		}
+		String factoryClassName = commands.get(0).command.factoryClassName;
+		for (ScriptDto scriptDto : commands) {
+			fusedCommands.put(scriptDto, commands);
+			if (scriptDto != commands.get(0)) {
+				scriptDto.fusedFactoryClassName = factoryClassName;
+			}
+		}
+	}
+
+	/**
+	 * Checks if is fusable - the command copying between collections of the same count, without anchors or maps in
+	 * the target, into a property of the target collection members.
+	 *
+	 * @param scriptDto the script dto
+	 * @return true, if is fusable
+	 */
+	private static boolean isFusable(ScriptDto scriptDto) {
+		OtcChainDto sourceOtcChainDto = scriptDto.sourceOtcChainDto;
+		OtcChainDto targetOtcChainDto = scriptDto.targetOtcChainDto;
+		if (scriptDto.hasSetValues || scriptDto.hasExecuteModule || scriptDto.hasExecuteConverter
+				|| sourceOtcChainDto == null || targetOtcChainDto.dictionaryCount > 0) {
+			return false;
+		}
+		int sourceCollectionsCount = sourceOtcChainDto.collectionCount + sourceOtcChainDto.dictionaryCount;
+		String targetOtcChain = targetOtcChainDto.otcChain;
+		return sourceCollectionsCount > 0 && sourceCollectionsCount == targetOtcChainDto.collectionCount
+				&& !targetOtcChain.contains(OtcConstants.ANCHOR)
+				&& !targetOtcChain.endsWith(OtcConstants.CLOSE_BRACKET);
+	}
+
+	/**
+	 * Checks if is same loops - both commands having the same source path, and the same target collections.
+	 *
+	 * @param scriptDto      the script dto
+	 * @param otherScriptDto the other script dto
+	 * @return true, if is same loops
+	 */
+	private static boolean isSameLoops(ScriptDto scriptDto, ScriptDto otherScriptDto) {
+		return scriptDto.sourceOtcChainDto.otcChain.equals(otherScriptDto.sourceOtcChainDto.otcChain)
+				&& fetchMembersOtcChain(scriptDto).equals(fetchMembersOtcChain(otherScriptDto));
+	}
+
+	/**
+	 * Fetch members otc chain - the target path up to the members of its last collection.
+	 *
+	 * @param scriptDto the script dto
+	 * @return the string
+	 */
+	private static String fetchMembersOtcChain(ScriptDto scriptDto) {
+		String targetOtcChain = scriptDto.targetOtcChainDto.otcChain;
+		return targetOtcChain.substring(0, targetOtcChain.lastIndexOf(OtcConstants.CLOSE_BRACKET) + 1);
+	}
+}
@@ -22,12 +22,12 @@
 */
 package org.otcframework.compiler;
 
+import org.otcframework.common.config.OtcConfig;
 import org.otcframework.common.dto.ClassDto;
 import org.otcframework.common.dto.OtcChainDto;
 import org.otcframework.common.dto.OtcCommandDto;
 import org.otcframework.common.dto.OtcDto;
 import org.otcframework.common.dto.otc.OtcFileDto;
-import org.otcframework.common.util.CommonUtils;
 import org.otcframework.compiler.command.*;
 import org.otcframework.compiler.exception.CodeGeneratorException;
 import org.otcframework.compiler.templates.ClassBeginTemplate;
@@ -123,6 +123,8 @@ final class OtcCodeGeneratorImpl extends AbstractOtcCodeGenerator implements Otc
 			targetOCC.helper = otcFileDto.metadata.helper;
 		}
 		ExecutionContext executionContext = new ExecutionContext();
+		FusedLoopsCodeGenerator fusedLoopsCodeGenerator = OtcConfig.getFuseCollectionLoops()
+				? new FusedLoopsCodeGenerator(otcDto.scriptDtos) : null;
 		otcDto.scriptDtos.forEach(scriptDto -> {
 			try {
 				if (scriptDto.command.debug) {
@@ -133,6 +135,7 @@ final class OtcCodeGeneratorImpl extends AbstractOtcCodeGenerator implements Otc
 				}
 				targetOCC.factoryClassDto.packageName = otcNamespace;
 				resetOCC(targetOCC, scriptDto);
+				targetOCC.commandIdx = otcDto.scriptDtos.indexOf(scriptDto);
 				OtcCommandDto targetOCD = targetOCDStems.get(targetOCC.otcTokens[0]);
 				targetOCC.otcCommandDto = targetOCD;
 				OtcChainDto targetOtcChainDto = scriptDto.targetOtcChainDto;
@@ -162,7 +165,11 @@ final class OtcCodeGeneratorImpl extends AbstractOtcCodeGenerator implements Otc
 				if (!isCopyValues && !isExtensions) {
 					if (targetOCC.collectionsCount > 0 && sourceOCC.collectionsCount > 0) {
 						executionContext.initCollectionSizeType();
-						CopyCollectionPathsCodeGenerator.generateSourceCode(executionContext);
+						if (fusedLoopsCodeGenerator != null && fusedLoopsCodeGenerator.isFused(scriptDto)) {
+							fusedLoopsCodeGenerator.generateSourceCode(executionContext);
+						} else {
+							CopyCollectionPathsCodeGenerator.generateSourceCode(executionContext);
+						}
 					} else {
 						CopyFlatAndMixedPathsCodeGenerator.generateSourceCode(executionContext);
 					}
@@ -174,9 +181,12 @@ final class OtcCodeGeneratorImpl extends AbstractOtcCodeGenerator implements Otc
 				throw new CodeGeneratorException(ex);
 			}
 		});
-		String rootTargetVariable = CommonUtils.initLower(targetClz.getSimpleName());
-		String endExecuteMethod = MethodEndTemplate.generateCode(rootTargetVariable);
-		targetOCC.mainClassDto.codeBuilder.append(endExecuteMethod).append("\n}");
+		SourceIndexerCodeGenerator.generateSourceCode(otcDto, otcCommand);
+		String endExecuteMethod = MethodEndTemplate.generateCode("");
+		targetOCC.mainClassDto.codeBuilder.append(endExecuteMethod)
+				.append(ClassBeginTemplate.generateMainClassExecuteModuleCode(otcDto.sourceIndexerClassDto,
+						targetType, sourceType))
+				.append("\n}");
 		String javaCode = targetOCC.mainClassDto.codeBuilder.toString();
 		String fqClzName = mainClassDto.className;
 		JavaCodeStringObject javaStringObject = new JavaCodeStringObject(fqClzName, javaCode);
@@ -93,9 +93,9 @@ final class OtcExtensionsValidator {
 				if (execute.module != null) {
 					script.hasExecuteModule = true;
 				}
-				if (execute.converter != null) {
-					script.hasExecuteConverter = true;
-				}
+			}
+			if (execute.converter != null) {
+				script.hasExecuteConverter = true;
 			}
 		}
 		builderTargetOtcChainDto.addOtcChain(targetOtcChain);
@@ -32,6 +32,7 @@ import org.otcframework.common.dto.RegistryDto.CompiledInfo;
 import org.otcframework.common.exception.OtcException;
 import org.otcframework.common.util.CommonUtils;
 import org.otcframework.common.util.OtcUtils;
+import org.otcframework.common.util.RegistryManifest;
 import org.otcframework.compiler.command.JavaCodeStringObject;
 import org.otcframework.compiler.exception.CodeGeneratorException;
 import org.otcframework.compiler.exception.OtcCompilerException;
@@ -43,8 +44,10 @@ import javax.tools.*;
 import java.io.*;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Set;
 
 /**
  * The Class OtcCompilerImpl.
@@ -78,6 +81,9 @@ public final class OtcsCompilerImpl implements OtcsCompiler {
 	/** The Constant depFileFilter. */
 	private static final FileFilter TMD_FILE_FILTER = CommonUtils.createFilenameFilter(OtcConstants.OTC_TMD_EXTN);
 
+	/** The Constant BINARY_REGISTRY. */
+	private static final boolean BINARY_REGISTRY = OtcConfig.getBinaryRegistry();
+
 	/** The Constant objectMapper. */
 	private static final ObjectMapper objectMapper;
 
@@ -106,6 +112,9 @@ public final class OtcsCompilerImpl implements OtcsCompiler {
 			optionList.add(System.getProperty("java.class.path") + File.pathSeparator + OTC_TARGET_LOCATION
 					+ otcLibClassPath.toString());
 		}
+		// -- lets javac pick up the main-classes of linked modules not yet compiled.
+		optionList.add("-sourcepath");
+		optionList.add(SOURCE_CODE_LOCATION);
 	}
 
 	/**
@@ -130,11 +139,15 @@ public final class OtcsCompilerImpl implements OtcsCompiler {
 		if (!unitTestDirectory.exists()) {
 			throw new OtcCompilerException("", String.format("Missing '%s' folder.", UNIT_TEST_LOCATION));
 		}
-		List<CompilationReport> compilationReports = compileAll(unitTestDirectory, null);
+		List<RegistryDto> registryDtos = BINARY_REGISTRY ? new ArrayList<>() : null;
+		List<CompilationReport> compilationReports = compileAll(unitTestDirectory, null, registryDtos);
 		if (compilationReports == null) {
 			LOGGER.info("No OTCS files to compile in '{}'", UNIT_TEST_LOCATION);
 			return null;
 		}
+		if (registryDtos != null) {
+			createRegistryManifest(registryDtos);
+		}
 		int successful = 0;
 		int failed = 0;
 		for (CompilationReport compilationReport : compilationReports) {
@@ -159,18 +172,20 @@ public final class OtcsCompilerImpl implements OtcsCompiler {
 	 *
 	 * @param directory    the directory
 	 * @param otcNamespace the otc namespace
+	 * @param registryDtos the registry dtos - collected for the registry-manifest, null if not binary
 	 * @return the list
 	 */
-	private List<CompilationReport> compileAll(File directory, String otcNamespace) {
+	private List<CompilationReport> compileAll(File directory, String otcNamespace, List<RegistryDto> registryDtos) {
 		List<CompilationReport> compilationReports = null;
 		for (File file : directory.listFiles(OTC_FILE_FILTER)) {
 			if (file.isDirectory()) {
 				String newOtcNamespacePackage = otcNamespace == null ? file.getName()
 						: otcNamespace + "." + file.getName();
 				if (compilationReports == null) {
-					compilationReports = compileAll(file, newOtcNamespacePackage);
+					compilationReports = compileAll(file, newOtcNamespacePackage, registryDtos);
 				} else {
-					List<CompilationReport> childCompilationReports = compileAll(file, newOtcNamespacePackage);
+					List<CompilationReport> childCompilationReports = compileAll(file, newOtcNamespacePackage,
+							registryDtos);
 					if (childCompilationReports != null) {
 						compilationReports.addAll(childCompilationReports);
 					}
@@ -188,7 +203,11 @@ public final class OtcsCompilerImpl implements OtcsCompiler {
 				tmdFileName = OTC_TMD_LOCATION + tmdFileName;
 				RegistryDto registryDto = createRegistryDto(compilationReport);
 				registryDto.registryFileName = tmdFileName;
-				createRegistrationFile(registryDto);
+				if (registryDtos == null) {
+					createRegistrationFile(registryDto);
+				} else {
+					registryDtos.add(registryDto);
+				}
 				compilationReports.add(compilationReport);
 			}
 		}
@@ -211,6 +230,20 @@ public final class OtcsCompilerImpl implements OtcsCompiler {
 		}
 	}
 
+	/**
+	 * Creates the registry manifest - the binary registry of all the registrations in the tmd directory.
+	 *
+	 * @param registryDtos the registry dtos
+	 */
+	private void createRegistryManifest(List<RegistryDto> registryDtos) {
+		OtcUtils.creteDirectory(OTC_TMD_LOCATION);
+		try {
+			RegistryManifest.write(new File(OTC_TMD_LOCATION + OtcConstants.OTC_REGISTRY_MANIFEST), registryDtos);
+		} catch (OtcException e) {
+			throw new OtcCompilerException(e);
+		}
+	}
+
 	/**
 	 * Creates the registry dto.
 	 *
@@ -221,6 +254,9 @@ public final class OtcsCompilerImpl implements OtcsCompiler {
 		RegistryDto registryDto = new RegistryDto();
 		OtcDto otcDto = compilationReport.otcDto;
 		registryDto.mainClass = otcDto.mainClassDto.fullyQualifiedClassName;
+		if (otcDto.sourceIndexerClassDto != null) {
+			registryDto.sourceIndexerClass = otcDto.sourceIndexerClassDto.fullyQualifiedClassName;
+		}
 		registryDto.sourceClz = otcDto.sourceClz;
 		registryDto.targetClz = otcDto.targetClz;
 		registryDto.otcNamespace = otcDto.otcNamespace;
@@ -237,13 +273,15 @@ public final class OtcsCompilerImpl implements OtcsCompiler {
 			String id = scriptDto.command.id;
 			CompiledInfo compiledInfo = new CompiledInfo();
 			registryDto.compiledInfos.put(id, compiledInfo);
-			compiledInfo.factoryClassName = scriptDto.command.factoryClassName;
+			compiledInfo.factoryClassName = scriptDto.fusedFactoryClassName != null ? scriptDto.fusedFactoryClassName
+					: scriptDto.command.factoryClassName;
 			if (otcDto.sourceOCDStems != null && scriptDto.sourceOtcChainDto != null) {
 				compiledInfo.sourceOtcChainDto = scriptDto.sourceOtcChainDto;
 				String[] otcTokens = scriptDto.sourceOtcChainDto.otcTokens;
 				compiledInfo.sourceOCDStem = otcDto.sourceOCDStems.get(otcTokens[0]);
 				nullifyFields(compiledInfo.sourceOCDStem);
-				if (!registryDto.isProfilingRequried && (scriptDto.sourceOtcChainDto.collectionCount > 0
+				if (!registryDto.isProfilingRequried && !scriptDto.isSourceIndexFree
+						&& (scriptDto.sourceOtcChainDto.collectionCount > 0
 						|| scriptDto.sourceOtcChainDto.dictionaryCount > 0)) {
 					registryDto.isProfilingRequried = true;
 				}
@@ -336,13 +374,19 @@ public final class OtcsCompilerImpl implements OtcsCompiler {
 		LOGGER.info("Compiling source-code files. Please wait.......");
 		long startTime = System.nanoTime();
 		File binDir = new File(OTC_TMD_LOCATION);
+		File manifestFile = new File(binDir, OtcConstants.OTC_REGISTRY_MANIFEST);
+		boolean isManifested = BINARY_REGISTRY && manifestFile.exists();
 		File[] files = binDir.listFiles(TMD_FILE_FILTER);
-		if (files == null) {
+		if (files == null && !isManifested) {
 			LOGGER.info("No Token-Metadata file(s) found in '{}' for registration", OTC_TMD_LOCATION);
 			return;
 		}
 		List<RegistryDto> registryDtos = null;
 		Thread.currentThread().setContextClassLoader(OtcUtils.fetchCurrentURLClassLoader());
+		if (isManifested) {
+			registryDtos = RegistryManifest.open(manifestFile).readAll();
+			files = new File[0];
+		}
 		for (File depFile : files) {
 			try (FileInputStream fis = new FileInputStream(depFile)) {
 				byte[] bytes = new byte[fis.available()];
@@ -392,12 +436,27 @@ public final class OtcsCompilerImpl implements OtcsCompiler {
 				javaFileObjects = new ArrayList<>();
 			}
 			javaFileObjects.add(new JavaCodeStringObject(file));
+			String sourceIndexerClz = registryDto.sourceIndexerClass;
+			if (sourceIndexerClz != null) {
+				absoluteFileName = SOURCE_CODE_LOCATION + sourceIndexerClz.replace(".", File.separator)
+						+ OtcConstants.SOURCE_CODE_EXTN;
+				file = new File(absoluteFileName);
+				if (!file.exists()) {
+					throw new OtcCompilerException("", "Source-indexer class " + sourceIndexerClz + " is missing!.");
+				}
+				javaFileObjects.add(new JavaCodeStringObject(file));
+			}
+			// -- commands with fused loops share the factory-class of the first of them.
+			Set<String> factoryClassNames = new HashSet<>();
 			for (CompiledInfo compiledInfo : registryDto.compiledInfos.values()) {
 				String factoryClassName = compiledInfo.factoryClassName;
 				String otcNamespace = registryDto.otcNamespace;
 				if (!CommonUtils.isTrimmedAndEmpty(otcNamespace) && !factoryClassName.startsWith(otcNamespace)) {
 					factoryClassName = otcNamespace + "." + factoryClassName;
 				}
+				if (!factoryClassNames.add(factoryClassName)) {
+					continue;
+				}
 				absoluteFileName = SOURCE_CODE_LOCATION + File.separator + factoryClassName.replace(".", File.separator)
 						+ OtcConstants.SOURCE_CODE_EXTN;
 				file = new File(absoluteFileName);
@@ -442,7 +501,9 @@ public final class OtcsCompilerImpl implements OtcsCompiler {
 			if (registryDto.hasError) {
 				throw new OtcCompilerException("", "Source code compilation failed.");
 			}
-			createRegistrationFile(registryDto);
+			if (!BINARY_REGISTRY) {
+				createRegistrationFile(registryDto);
+			}
 		} else {
 			javaFileObjects.forEach(javaFile ->
 				LOGGER.debug("Compiled source code : {}", javaFile.getName()));
@@ -0,0 +1,176 @@
+/**
+* Copyright (c) otcframework.org
+*
+* @author  Franklin J Abel
+* @version 1.0
+* @since   2020-06-08 
+*
+* This file is part of the OTC framework.
+* 
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*      https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*
+*/
+package org.otcframework.compiler;
+
+import org.otcframework.common.compiler.OtcCommandContext;
+import org.otcframework.common.dto.ClassDto;
+import org.otcframework.common.dto.OtcChainDto;
+import org.otcframework.common.dto.OtcCommandDto;
+import org.otcframework.common.dto.OtcDto;
+import org.otcframework.common.dto.ScriptDto;
+import org.otcframework.compiler.command.OtcCommand;
+import org.otcframework.compiler.templates.SourceIndexerTemplate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.*;
+
+/**
+ * The Class SourceIndexerCodeGenerator - generates the typed indexer of the source-object's collections which is
+ * used by the executor in place of the reflection based object-indexer.
+ */
+final class SourceIndexerCodeGenerator {
+
+	/** The Constant LOGGER. */
+	private static final Logger LOGGER = LoggerFactory.getLogger(SourceIndexerCodeGenerator.class);
+
+	/** The Constant SOURCE_INDEXER_CLASS_SUFFIX. */
+	private static final String SOURCE_INDEXER_CLASS_SUFFIX = "SourceIndexer";
+
+	/** The Constant ROOT_ICD. */
+	private static final String ROOT_ICD = "rootICD";
+
+	/**
+	 * Instantiates a new source indexer code generator.
+	 */
+	private SourceIndexerCodeGenerator() {
+	}
+
+	/**
+	 * Generate source code.
+	 *
+	 * @param otcDto     the otc dto
+	 * @param otcCommand the otc command
+	 */
+	public static void generateSourceCode(OtcDto otcDto, OtcCommand otcCommand) {
+		Class<?> sourceClz = otcDto.sourceClz;
+		if (sourceClz == null || otcDto.sourceOCDStems == null) {
+			return;
+		}
+		List<OtcChainDto> otcChainDtos = new ArrayList<>();
+		Set<String> otcChains = new HashSet<>();
+		for (ScriptDto scriptDto : otcDto.scriptDtos) {
+			OtcChainDto sourceOtcChainDto = scriptDto.sourceOtcChainDto;
+			if (sourceOtcChainDto == null || scriptDto.isSourceIndexFree
+					|| sourceOtcChainDto.collectionCount + sourceOtcChainDto.dictionaryCount == 0) {
+				continue;
+			}
+			if (otcChains.add(sourceOtcChainDto.otcChain)) {
+				otcChainDtos.add(sourceOtcChainDto);
+			}
+		}
+		if (otcChainDtos.isEmpty()) {
+			return;
+		}
+		ClassDto mainClassDto = otcDto.mainClassDto;
+		ClassDto classDto = new ClassDto();
+		classDto.packageName = mainClassDto.packageName;
+		classDto.className = mainClassDto.className + SOURCE_INDEXER_CLASS_SUFFIX;
+		classDto.fullyQualifiedClassName = mainClassDto.fullyQualifiedClassName + SOURCE_INDEXER_CLASS_SUFFIX;
+		String helper = null;
+		if (otcDto.otcFileDto != null && otcDto.otcFileDto.metadata != null) {
+			helper = otcDto.otcFileDto.metadata.helper;
+		}
+		StringBuilder codeBuilder = classDto.codeBuilder;
+		StringBuilder methodsCodeBuilder = new StringBuilder();
+		codeBuilder.append(SourceIndexerTemplate.generateClassBeginCode(classDto, sourceClz));
+		int methodIdx = 0;
+		for (OtcChainDto otcChainDto : otcChainDtos) {
+			OtcCommandDto sourceOCD = otcDto.sourceOCDStems.get(otcChainDto.otcTokens[0]);
+			if (sourceOCD == null) {
+				continue;
+			}
+			String methodName = "index" + methodIdx++;
+			codeBuilder.append(SourceIndexerTemplate.generateChainMethodCallCode(methodName, sourceClz));
+			Set<String> varNamesSet = new HashSet<>();
+			Map<String, String> varNamesMap = new HashMap<>();
+			methodsCodeBuilder.append(SourceIndexerTemplate.generateChainMethodBeginCode(methodName,
+					otcChainDto.otcChain, sourceClz, varNamesSet));
+			OtcCommandContext otcCommandContext = new OtcCommandContext();
+			otcCommandContext.otcTokens = otcChainDto.otcTokens;
+			otcCommandContext.rawOtcTokens = otcChainDto.rawOtcTokens;
+			generateIndexCode(methodsCodeBuilder, otcCommandContext, sourceOCD, sourceClz, helper, ROOT_ICD, false,
+					varNamesSet, varNamesMap);
+			methodsCodeBuilder.append("\n}");
+		}
+		codeBuilder.append(SourceIndexerTemplate.generateMethodEndCode());
+		codeBuilder.append(methodsCodeBuilder).append("\n}");
+		otcCommand.createJavaFile(classDto);
+		otcDto.sourceIndexerClassDto = classDto;
+		LOGGER.debug("Generated source-code '{}.java' for indexing {} source-path(s).", classDto.className,
+				methodIdx);
+	}
+
+	/**
+	 * Generate index code - walks the getters up to the next collection / map in the otc-chain, indexes its
+	 * members and recurses into the members if the chain has further collections / maps.
+	 *
+	 * @param codeBuilder       the code builder
+	 * @param otcCommandContext the otc command context
+	 * @param otcCommandDto     the otc command dto
+	 * @param sourceClz         the source clz
+	 * @param helper            the helper
+	 * @param parentIcdVarName  the parent icd var name
+	 * @param isInLoop          the is in loop
+	 * @param varNamesSet       the var names set
+	 * @param varNamesMap       the var names map
+	 */
+	private static void generateIndexCode(StringBuilder codeBuilder, OtcCommandContext otcCommandContext,
+			OtcCommandDto otcCommandDto, Class<?> sourceClz, String helper, String parentIcdVarName,
+			boolean isInLoop, Set<String> varNamesSet, Map<String, String> varNamesMap) {
+		String[] otcTokens = otcCommandContext.otcTokens;
+		while (true) {
+			codeBuilder.append(SourceIndexerTemplate.generateGetterIfNullCode(otcCommandDto, sourceClz, helper,
+					isInLoop, varNamesSet, varNamesMap));
+			if (otcCommandDto.isCollectionOrMap()) {
+				break;
+			}
+			otcCommandDto = otcCommandDto.children.get(otcTokens[otcCommandDto.otcTokenIndex + 1]);
+		}
+		otcCommandContext.otcCommandDto = otcCommandDto;
+		codeBuilder.append(SourceIndexerTemplate.generateIfEmptyCode(otcCommandDto, isInLoop, varNamesSet,
+				varNamesMap));
+		String icdKey;
+		if (otcCommandContext.hasAncestralCollectionOrMap()) {
+			icdKey = otcCommandDto.otcToken;
+		} else {
+			icdKey = otcCommandDto.tokenPath.substring(0, otcCommandDto.tokenPath.indexOf("]") + 1);
+		}
+		String[] icdVarAndCode = SourceIndexerTemplate.generateRetrieveOrCreateIcdCode(otcCommandDto, icdKey,
+				parentIcdVarName, varNamesSet, varNamesMap);
+		codeBuilder.append(icdVarAndCode[1]);
+		OtcCommandDto memberOCD = OtcCommand.retrieveMemberOCD(otcCommandContext);
+		String[] memberIcdVarAndCode = SourceIndexerTemplate.generateForEachMemberCode(otcCommandDto, memberOCD,
+				icdVarAndCode[0], varNamesSet, varNamesMap);
+		codeBuilder.append(memberIcdVarAndCode[1]);
+		otcCommandContext.otcCommandDto = memberOCD;
+		if (otcCommandContext.hasDescendantCollectionOrMap()) {
+			codeBuilder.append(SourceIndexerTemplate.generateIfNullContinueCode(memberOCD, varNamesSet,
+					varNamesMap));
+			OtcCommandDto childOCD = memberOCD.children.get(otcTokens[memberOCD.otcTokenIndex + 1]);
+			generateIndexCode(codeBuilder, otcCommandContext, childOCD, sourceClz, helper, memberIcdVarAndCode[0],
+					true, varNamesSet, varNamesMap);
+		}
+		codeBuilder.append("\n}");
+	}
+}
@@ -123,6 +123,7 @@ public class OtcCommand {
 			Class<?> sourceClz) {
 		String methodEndCode = MethodEndTemplate.generateCode("");
 		targetOCC.appendCode(methodEndCode);
+		targetOCC.appendCode(ClassBeginTemplate.generateStaticFieldsCode(targetOCC.factoryClassDto));
 		targetOCC.appendCode("\n}");
 		StringBuilder importsBuilder = new StringBuilder();
 		targetOCC.factoryClassDto.retrieveImportFqNames().forEach(fqTypeName ->
@@ -243,11 +244,20 @@ public class OtcCommand {
 	 * @param targetOCC the target OCC
 	 * @param targetClz the target clz
 	 * @param sourceClz the source clz
+	 * @param fusedCommandIdxs the command idxs run from the factory-class - null if its loops are not fused
 	 */
-	private void appendMethodCall(TargetOtcCommandContext targetOCC, Class<?> targetClz, Class<?> sourceClz) {
+	private void appendMethodCall(TargetOtcCommandContext targetOCC, Class<?> targetClz, Class<?> sourceClz,
+			List<Integer> fusedCommandIdxs) {
 		StringBuilder executeMethodCallCodeBuilder = new StringBuilder("\n");
 		String factoryClzName = targetOCC.factoryClassDto.fullyQualifiedClassName;
-		String factoryMethodCallCode = ExecuteFactoryMethodCallTemplate.generateCode(factoryClzName, targetClz, sourceClz);
+		String factoryMethodCallCode = null;
+		if (fusedCommandIdxs == null) {
+			factoryMethodCallCode = ExecuteFactoryMethodCallTemplate.generateCode(factoryClzName, targetClz, sourceClz,
+					targetOCC.commandIdx);
+		} else {
+			factoryMethodCallCode = FusedLoopTemplate.generateMethodCallCode(factoryClzName, targetClz, sourceClz,
+					fusedCommandIdxs);
+		}
 		executeMethodCallCodeBuilder.append(factoryMethodCallCode);
 		targetOCC.mainClassDto.codeBuilder.append(executeMethodCallCodeBuilder);
 	}
@@ -263,7 +273,7 @@ public class OtcCommand {
 	 */
 	public void appendBeginModuleClass(TargetOtcCommandContext targetOCC, SourceOtcCommandContext sourceOCC,
 			Class<?> targetClz, Class<?> sourceClz, boolean addLogger) {
-		appendBeginClass(targetOCC, sourceOCC, targetClz, sourceClz, addLogger, true);
+		appendBeginClass(targetOCC, sourceOCC, targetClz, sourceClz, addLogger, true, null);
 	}
 
 	/**
@@ -277,7 +287,22 @@ public class OtcCommand {
 	 */
 	public void appendBeginClass(TargetOtcCommandContext targetOCC, SourceOtcCommandContext sourceOCC,
 			Class<?> targetClz, Class<?> sourceClz, boolean addLogger) {
-		appendBeginClass(targetOCC, sourceOCC, targetClz, sourceClz, addLogger, false);
+		appendBeginClass(targetOCC, sourceOCC, targetClz, sourceClz, addLogger, false, null);
+	}
+
+	/**
+	 * Append begin fused class - of the factory-class running the fused loops of the given commands.
+	 *
+	 * @param targetOCC        the target OCC
+	 * @param sourceOCC        the source OCC
+	 * @param targetClz        the target clz
+	 * @param sourceClz        the source clz
+	 * @param addLogger        the add logger
+	 * @param fusedCommandIdxs the fused command idxs
+	 */
+	public void appendBeginFusedClass(TargetOtcCommandContext targetOCC, SourceOtcCommandContext sourceOCC,
+			Class<?> targetClz, Class<?> sourceClz, boolean addLogger, List<Integer> fusedCommandIdxs) {
+		appendBeginClass(targetOCC, sourceOCC, targetClz, sourceClz, addLogger, false, fusedCommandIdxs);
 	}
 
 	/**
@@ -289,22 +314,15 @@ public class OtcCommand {
 	 * @param sourceClz the source clz
 	 * @param addLogger the add logger
 	 * @param isModule  the is module
+	 * @param fusedCommandIdxs the fused command idxs - null if the loops are not fused
 	 */
 	private void appendBeginClass(TargetOtcCommandContext targetOCC, SourceOtcCommandContext sourceOCC,
-			Class<?> targetClz, Class<?> sourceClz, boolean addLogger, boolean isModule) {
-		String fileName = targetOCC.factoryClassDto.fullyQualifiedClassName.replace(".", File.separator);
-		try {
-			OtcUtils.deleteFileOrFolder(TARGET_LOCATION + fileName + OtcConstants.CLASS_EXTN);
-		} catch (Exception e) {
-			LOGGER.error(e.getMessage());
-		}
-		try {
-			OtcUtils.deleteFileOrFolder(SOURCE_CODE_FOLDER + fileName + OtcConstants.SOURCE_CODE_EXTN);
-		} catch (Exception e) {
-			LOGGER.error(e.getMessage());
-		}
+			Class<?> targetClz, Class<?> sourceClz, boolean addLogger, boolean isModule,
+			List<Integer> fusedCommandIdxs) {
+		deleteClassFiles(targetOCC.factoryClassDto.fullyQualifiedClassName);
 		targetOCC.factoryClassDto.codeBuilder = new StringBuilder();
 		targetOCC.factoryClassDto.clearImports();
+		targetOCC.factoryClassDto.clearStaticFields();
 		targetOCC.factoryClassDto.addImport(Map.class.getName());
 		String factoryClassBegin = null;
 		String targetType = targetOCC.factoryClassDto.addImport(targetClz.getName());
@@ -312,18 +330,44 @@ public class OtcCommand {
 		if (sourceClz != null) {
 			sourceType = targetOCC.factoryClassDto.addImport(sourceClz.getName());
 		}
+		String otcConverter = targetOCC.hasExecuteConverter ? targetOCC.executeOtcConverter : null;
 		if (isModule) {
 			factoryClassBegin = ClassBeginTemplate.generateModuleClassCode(targetOCC.factoryClassDto, sourceType,
+					targetType, addLogger, otcConverter, varNamesSet);
+		} else if (fusedCommandIdxs != null) {
+			factoryClassBegin = ClassBeginTemplate.generateFusedFactoryClassCode(targetOCC.factoryClassDto, sourceType,
 					targetType, addLogger, varNamesSet);
 		} else {
 			factoryClassBegin = ClassBeginTemplate.generateFactoryClassCode(targetOCC.factoryClassDto, sourceType,
-					targetType, addLogger, varNamesSet);
+					targetType, addLogger, otcConverter, varNamesSet);
+		}
+		String memberPcdCode = PcdInitTemplate.generateMemberPcdCode(targetOCC, sourceOCC, varNamesSet);
+		if (memberPcdCode != null) {
+			factoryClassBegin += memberPcdCode;
 		}
-		factoryClassBegin += PcdInitTemplate.generateMemberPcdCode(targetOCC, sourceOCC, varNamesSet);
-		appendMethodCall(targetOCC, targetClz, sourceClz);
+		appendMethodCall(targetOCC, targetClz, sourceClz, fusedCommandIdxs);
 		targetOCC.appendCode(factoryClassBegin);
 	}
 
+	/**
+	 * Delete class files - the source-code and the compiled class of a factory-class.
+	 *
+	 * @param fullyQualifiedClassName the fully qualified class name
+	 */
+	public void deleteClassFiles(String fullyQualifiedClassName) {
+		String fileName = fullyQualifiedClassName.replace(".", File.separator);
+		try {
+			OtcUtils.deleteFileOrFolder(TARGET_LOCATION + fileName + OtcConstants.CLASS_EXTN);
+		} catch (Exception e) {
+			LOGGER.error(e.getMessage());
+		}
+		try {
+			OtcUtils.deleteFileOrFolder(SOURCE_CODE_FOLDER + fileName + OtcConstants.SOURCE_CODE_EXTN);
+		} catch (Exception e) {
+			LOGGER.error(e.getMessage());
+		}
+	}
+
 	/**
 	 * Append preloop vars.
 	 *
@@ -70,6 +70,12 @@ public final class TargetOtcCommandContext extends OtcCommandContext {
 	/** The anchor index. */
 	public int anchorIndex;
 
+	/** The collection size var - the size of the source collection populating the next target collection. */
+	public String collectionSizeVar;
+
+	/** The command idx - the position of the command in the OTCS file, selecting it in incremental executions. */
+	public int commandIdx;
+
 	/**
 	 * Instantiates a new target otc command context.
 	 */
@@ -108,6 +114,7 @@ public final class TargetOtcCommandContext extends OtcCommandContext {
 		targetOtcCommandContext.algorithmId = algorithmId;
 		targetOtcCommandContext.collectionsCount = collectionsCount;
 		targetOtcCommandContext.currentCollectionTokenIndex = currentCollectionTokenIndex;
+		targetOtcCommandContext.commandIdx = commandIdx;
 		return targetOtcCommandContext;
 	}
 
@@ -22,11 +22,14 @@
 */
 package org.otcframework.compiler.templates;
 
+import etree.dateconverters.DateConverterFacade;
 import org.otcframework.common.OtcConstants;
 import org.otcframework.common.OtcConstants.TARGET_SOURCE;
 import org.otcframework.common.config.OtcConfig;
 import org.otcframework.common.dto.OtcCommandDto;
+import org.otcframework.common.executor.CodeExecutor;
 import org.otcframework.common.util.CommonUtils;
+import org.otcframework.common.util.OtcUtils;
 import org.otcframework.compiler.command.OtcCommand;
 import org.otcframework.compiler.command.SourceOtcCommandContext;
 import org.otcframework.compiler.command.TargetOtcCommandContext;
@@ -36,6 +39,7 @@ import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.net.URL;
 import java.util.*;
+import java.util.function.Function;
 
 /**
  * The Class AbstractTemplate.
@@ -45,6 +49,12 @@ public abstract class AbstractTemplate {
 	/** The Constant convertFromStringExpressions. */
 	private static final Map<Class<?>, String> convertFromStringExpressions = new IdentityHashMap<>(10);
 
+	/** The Constant convertFromStringFunctions - the compile-time counterparts of the convert expressions. */
+	private static final Map<Class<?>, Function<String, Object>> convertFromStringFunctions = new IdentityHashMap<>(10);
+
+	/** The Constant CONSTANT - the name-prefix of the constants hoisted from the literal values. */
+	protected static final String CONSTANT = "CONSTANT";
+
 	protected static Map<Class<?>, String> concreteTypes = OtcConfig.getConcreteTypes();
 
 	static {
@@ -74,6 +84,16 @@ public abstract class AbstractTemplate {
 		convertFromStringExpressions.put(BigInteger.class, "new BigInteger(%s)");
 		convertFromStringExpressions.put(BigDecimal.class, "new BigDecimal(%s)");
 		convertFromStringExpressions.put(URL.class, "new URL(%s)");
+
+		convertFromStringFunctions.put(Boolean.class, Boolean::valueOf);
+		convertFromStringFunctions.put(Byte.class, Byte::valueOf);
+		convertFromStringFunctions.put(Double.class, Double::valueOf);
+		convertFromStringFunctions.put(Float.class, Float::valueOf);
+		convertFromStringFunctions.put(Integer.class, Integer::valueOf);
+		convertFromStringFunctions.put(Long.class, Long::valueOf);
+		convertFromStringFunctions.put(Short.class, Short::valueOf);
+		convertFromStringFunctions.put(BigInteger.class, BigInteger::new);
+		convertFromStringFunctions.put(BigDecimal.class, BigDecimal::new);
 	}
 
 	AbstractTemplate() {}
@@ -129,18 +149,26 @@ public abstract class AbstractTemplate {
 	private static final String ARRAYS_COPY = "\n%s = Arrays.copyOf(%s, len + 1);";
 	private static final String IMPORT_ICD = "\nimport org.otcframework.common.engine.indexer.dto.IndexedCollectionsDto;";
 	private static final String IF_MEMBER_ICD = "\nif (memberICD%s == null) {";
-	private static final String LOGGER = "\nLOGGER.%s(\"%s\");";
-	private static final String RETURN = "\nreturn;";
-	private static final String CONTINUE = "\ncontinue;";
-	private static final String CHILDREN_GET = "\n%s = %s.children.get(%s);";
+	private static final String LOGGER = OtcConfig.getGuardedLogging()
+			? "\norg.otcframework.common.executor.SkippedNulls.%s(LOGGER, \"%s\");"
+			: "\nLOGGER.%s(\"%s\");";
+	protected static final String RETURN = "\nreturn;";
+	protected static final String CONTINUE = "\ncontinue;";
+	private static final String CHILDREN_GET = "\n%s = %s.%s(%s);";
 	private static final String PUT = "\n%s.put(%s, %s);";
 	private static final String IF_KEY_TARGET_ICD = "\nif (keyTargetICD == null) {";
 	private static final String IF_S_NULL = "\nif (%s == null) {";
-	private static final String KEY_TARGET_ICD = "\nkeyTargetICD = parentTargetICD.children.get(%s);";
+	private static final String KEY_TARGET_ICD = "\nkeyTargetICD = parentTargetICD.mapKey(%s);";
 
 	protected static final String NEW = "new %s()";
-	protected static final String SIZE = ".size();";
-	protected static final String SIZE_DIVIDED_BY_2 = ".size() / 2;";
+	protected static final String CHILD = "child";
+	protected static final String MEMBER = "member";
+	protected static final String MAP_KEY = "mapKey";
+	protected static final String MAP_VALUE = "mapValue";
+	protected static final String CREATE = "create";
+	protected static final String CREATE_MEMBER = "createMember";
+	protected static final String CREATE_MAP_KEY = "createMapKey";
+	protected static final String CREATE_MAP_VALUE = "createMapValue";
 	protected static final String MEMBER_ICD_VAR = "memberICD";
 	public static final String INVALID_CALL_TO_TEMPLATE = "Invalid call to method in OTC-command : ";
 	public static final String TOKEN_SHOULD_NOT_BE = "! Token should not be of a member for this operation.";
@@ -154,28 +182,88 @@ public abstract class AbstractTemplate {
 			+ CR_LF + CR_LF
 			+ PACKAGE + IMPORT_ICD
 			+ "\nimport org.otcframework.common.executor.CodeExecutor;" + "\nimport java.util.Map;"
+			+ "\nimport org.otcframework.common.indexer.IndexedCollectionsDtoFactory;"
 			+ "\nimport java.util.HashMap;" + OtcCommand.CODE_TO_IMPORT + "\npublic class %s"
 			+ "\nimplements CodeExecutor<%s, %s> {" + "\n\n@Override"
+			+ "\npublic int getCodeVersion() {" + "\nreturn " + CodeExecutor.CODE_VERSION + ";" + "\n}" + "\n\n@Override"
 			+ "\npublic %s execute(%s %s, IndexedCollectionsDto sourceICD, " + APP_DATA_VAR
-			+ "\n\n%s %s = new %s();" + "\nIndexedCollectionsDto targetICD = new IndexedCollectionsDto();"
-			+ "\ntargetICD.children = new HashMap<>();";
+			+ "\n\n%s %s = new %s();"
+			+ "\nexecuteModule(%s, sourceICD, %s, null, data);"
+			+ "\nreturn %s;" + "\n}" + "\n\n@Override"
+			+ "\npublic %s executeInto(%s %s, IndexedCollectionsDto sourceICD, "
+			+ "\n%s %s, IndexedCollectionsDto targetICD, " + APP_DATA_VAR
+			+ "\nexecuteModule(%s, sourceICD, %s, targetICD, data);"
+			+ "\nreturn %s;" + "\n}"
+			+ "\n\n@Override"
+			+ "\npublic %s executeCommands(%s %s, IndexedCollectionsDto sourceICD, "
+			+ "\n%s %s, IndexedCollectionsDto targetICD, boolean[] commands, " + APP_DATA_VAR
+			+ "\nexecuteModule(%s, sourceICD, %s, targetICD, commands, data);"
+			+ "\nreturn %s;" + "\n}"
+			+ "\n\npublic static void executeModule(%s %s, IndexedCollectionsDto sourceICD, "
+			+ "\n%s %s, IndexedCollectionsDto targetICD, " + APP_DATA_VAR
+			+ "\nexecuteModule(%s, sourceICD, %s, targetICD, null, data);" + "\n}"
+			+ "\n\npublic static void executeModule(%s %s, IndexedCollectionsDto sourceICD, "
+			+ "\n%s %s, IndexedCollectionsDto targetICD, boolean[] commands, " + APP_DATA_VAR
+			+ "\nif (targetICD == null) {"
+			+ "\ntargetICD = IndexedCollectionsDtoFactory.create(null, null, null);" + "\n}";
+
+	/** The Constant mainClassExecuteModuleTemplate - the entry point of compile-time linked module calls. */
+	protected static final String MAIN_CLASS_EXECUTE_MODULE_TEMPLATE = "\n\npublic static void executeModule(%s %s, "
+			+ "\n%s %s, " + APP_DATA_VAR
+			+ "\nexecuteModule(%s, %s, %s, null, data);" + "\n}";
+
+	/** The Constant mainClassSourceIndexerTemplate. */
+	protected static final String MAIN_CLASS_SOURCE_INDEXER_TEMPLATE = "\n\nprivate static final %s SOURCE_INDEXER = "
+			+ "new %s();";
 
 	/** The Constant loggerInitTemplate. */
 	protected static final String LOGGER_INIT_TEMPLATE = "\n\nprivate static final Logger LOGGER = "
 			+ "LoggerFactory.getLogger(%s.class); ";
 
-	/** The Constant factoryClassBeginCodeTemplate. */
-	protected static final String FACTORY_CLASS_BEGIN_CODE_TEMPLATE = "// This file was generated by the OTC Compiler. \r\n"
+	/** The Constant executeMethodBeginTemplate. */
+	protected static final String EXECUTE_METHOD_BEGIN_TEMPLATE = "\n\npublic static void execute(";
+
+	/** The Constant staticFieldTemplate. */
+	protected static final String STATIC_FIELD_TEMPLATE = "\n\nprivate static final %s;";
+
+	/** The Constant converterFieldTemplate. */
+	protected static final String CONVERTER_FIELD_TEMPLATE = "\n\nprivate static final %s %s = "
+			+ "OtclConverterRegistry.getConverter(%s.class);";
+
+	/** The Constant factoryClassBeginCodePrefix - shared by the factory-classes up to their 'targetICD' parameter. */
+	private static final String FACTORY_CLASS_BEGIN_CODE_PREFIX = "// This file was generated by the OTC Compiler. \r\n"
 			+ "// See <a href=\"https://otcframework.org\">https://otcframework.org</a> \r\n"
 			+ "// Any modifications to this file will be lost upon recompilation of the respective OTC file. \r\n"
 			+ "//\r\n" + PACKAGE+ IMPORT_ICD + "\n"
 			+ OtcCommand.CODE_TO_IMPORT + "\n\npublic class %s {" + LOGGER_INIT_TEMPLATE
-			+ "\n\npublic static void execute(%s %s, IndexedCollectionsDto sourceICD, "
-			+ "\n%s %s, IndexedCollectionsDto targetICD, " + APP_DATA_VAR;
+			+ EXECUTE_METHOD_BEGIN_TEMPLATE + "%s %s, IndexedCollectionsDto sourceICD, "
+			+ "\n%s %s, IndexedCollectionsDto targetICD, ";
+
+	/** The Constant factoryClassBeginCodeTemplate. */
+	protected static final String FACTORY_CLASS_BEGIN_CODE_TEMPLATE = FACTORY_CLASS_BEGIN_CODE_PREFIX + APP_DATA_VAR;
+
+	/** The Constant fusedFactoryClassBeginCodeTemplate - the factory-class of fused loops runs the selected commands. */
+	protected static final String FUSED_FACTORY_CLASS_BEGIN_CODE_TEMPLATE = FACTORY_CLASS_BEGIN_CODE_PREFIX
+			+ "boolean[] commands, " + APP_DATA_VAR;
 
 	/** The Constant executeFactoryMethodCallTemplate. */
 	protected static final String EXECUTE_FACTORY_METHOD_CALL_TEMPLATE = "\n%s.execute(%s, %s, %s, targetICD, data);";
 
+	/** The Constant executeSelectedFactoryMethodCallTemplate - all commands run when 'commands' is null. */
+	protected static final String EXECUTE_SELECTED_FACTORY_METHOD_CALL_TEMPLATE = "\nif (commands == null || "
+			+ "commands[%s]) {" + EXECUTE_FACTORY_METHOD_CALL_TEMPLATE + "\n}";
+
+	/** The Constant executeFusedFactoryMethodCallTemplate - the factory-class of fused loops runs the selected ones. */
+	protected static final String EXECUTE_FUSED_FACTORY_METHOD_CALL_TEMPLATE = "\nif (commands == null || %s) {"
+			+ "\n%s.execute(%s, %s, %s, targetICD, commands, data);" + "\n}";
+
+	/** The Constant fusedCommandBlockBeginTemplate - a 'continue' in the block skips only the rest of its command. */
+	protected static final String FUSED_COMMAND_BLOCK_BEGIN_TEMPLATE = "\nif (commands == null || commands[%s]) {"
+			+ "\ndo {";
+
+	/** The Constant fusedCommandBlockEndTemplate. */
+	protected static final String FUSED_COMMAND_BLOCK_END_TEMPLATE = "\n} while (false);" + "\n}";
+
 	/** The Constant factoryModuleClassBeginCodeTemplate. */
 	protected static final String FACTORY_MODULE_CLASS_BEGIN_CODE_TEMPLATE =
 			"// This file was generated by the OTC Framework's Compiler. \r\n"
@@ -184,13 +272,16 @@ public abstract class AbstractTemplate {
 			+ "//\r\n" + PACKAGE + IMPORT_ICD
 			+ "\nimport org.otcframework.executor.module.AbstractOtcModuleExecutor;" + "\n" + OtcCommand.CODE_TO_IMPORT
 			+ "\n\npublic class %s extends AbstractOtcModuleExecutor {" + LOGGER_INIT_TEMPLATE
-			+ "\n\npublic static void execute(%s %s, IndexedCollectionsDto sourceICD, "
+			+ EXECUTE_METHOD_BEGIN_TEMPLATE + "%s %s, IndexedCollectionsDto sourceICD, "
 			+ "\n%s %s, IndexedCollectionsDto targetICD," + APP_DATA_VAR;
 
 	/** The Constant executeModuleTemplate. */
 	protected static final String EXECUTE_MODULE_TEMPLATE = "\nString otcNamespace = \"%s\";"
 			+ "\nexecuteModule(otcNamespace, %s, %s, data);";
 
+	/** The Constant executeLinkedModuleTemplate. */
+	protected static final String EXECUTE_LINKED_MODULE_TEMPLATE = "\n%s.executeModule(%s, %s, data);";
+
 	/** The Constant executeConverterTemplate. */
 	protected static final String EXECUTE_CONVERTER_TEMPLATE = "\n%s.convert(%s, %s, data);";
 
@@ -245,18 +336,25 @@ public abstract class AbstractTemplate {
 	protected static final String SET_HELPER_TEMPLATE = "\n%s.%s(%s, %s.%s());";
 	protected static final String SET_HELPER_GET_HELPER_TEMPLATE = "\n%s.%s(%s, %s.%s(%s));";
 	protected static final String SETTER_TEMPLATE = "\n%s.%s(%s);";
-	protected static final String SETTER_TARGET_ENUM_TEMPLATE = "\n%s.%s(%s.valueOf(%s));";
-	protected static final String SETTER_SOURCE_ENUM_TEMPLATE = "\n%s.%s(%s.toString());";
-	protected static final String SETTER_BOTH_ENUM_TEMPLATE = "\n%s.%s(%s.valueOf(%s.toString()));";
+	protected static final String SETTER_ENUM_TABLE_TEMPLATE = "\n%s.%s(%s[%s.ordinal()]);";
+	protected static final String SETTER_ENUM_LOOKUP_TEMPLATE = "\n%s.%s(EnumTranslations.translate(%s, %s, %s.class));";
+	protected static final String ENUM_TO_ENUM_TABLE_TEMPLATE = "EnumTranslations.enumToEnum(%s.class, %s.class%s)";
+	protected static final String ENUM_TO_STRING_TABLE_TEMPLATE = "EnumTranslations.enumToString(%s.class%s)";
+	protected static final String STRING_TO_ENUM_TABLE_TEMPLATE = "EnumTranslations.stringToEnum(%s.class%s)";
 	protected static final String IF_NULL_ENUM_CREATE_AND_SET_TEMPLATE = IF_S_NULL + "\n%s = %s.valueOf(%s);"
 			+ SETTER_TEMPLATE + "\n}";
 	protected static final String HELPER_SETTER_TEMPLATE = "\n%s.%s(%s, %s);";
-	protected static final String DATE_CONVERTER_TEMPLATE = "\n%s.%s(DateConverterFacade.convert(%s, %s.class));";
+	protected static final String DATE_VALUE_TEMPLATE = "DateConverterFacade.convert(%s, %s.class)";
 	protected static final String DATE_TO_STRING_CONVERTER_TEMPLATE = "\n%s.%s(%s.toString());";
 	protected static final String IF_NULL_CREATE_AND_SET_TEMPLATE = IF_S_NULL + "\n%s = new %s();"
 			+ SETTER_TEMPLATE + "\n}";
 	protected static final String IF_NULL_CREATE_AND_HELPER_SET_TEMPLATE = IF_S_NULL + "\n%s = new %s();"
 			+ HELPER_SETTER_TEMPLATE + "\n}";
+	protected static final String IF_NULL_CREATE_SIZED_AND_SET_TEMPLATE = IF_S_NULL + "\n%s = new %s(%s);"
+			+ SETTER_TEMPLATE + "\n}";
+	protected static final String IF_NULL_CREATE_SIZED_AND_HELPER_SET_TEMPLATE = IF_S_NULL + "\n%s = new %s(%s);"
+			+ HELPER_SETTER_TEMPLATE + "\n}";
+	protected static final String HASHED_CAPACITY_TEMPLATE = "(int) (%s / 0.75f) + 1";
 	protected static final String GETTER_IF_NULL_RETURN_TEMPLATE = GETTER_TEMPLATE + IF_S_NULL
 			+ LOGGER + RETURN + "\n}";
 	protected static final String GETTER_IF_NULL_CONTINUE_TEMPLATE = GETTER_TEMPLATE + IF_S_NULL
@@ -266,25 +364,25 @@ public abstract class AbstractTemplate {
 	protected static final String HELPER_GET_IF_NULL_CONTINUE_TEMPLATE = HELPER_GETTER_TEMPLATE + IF_S_NULL
 			+ LOGGER + CONTINUE + "\n}";
 	protected static final String METHOD_END_TEMPLATE = "\nreturn %s;" + "\n}";
-	protected static final String IF_NULL_TARGET_ROOT_ICD_CREATE_TEMPLATE = "\nparentTargetICD = targetICD.children.get(\"%s\");"
+	protected static final String IF_NULL_TARGET_ROOT_ICD_CREATE_TEMPLATE = "\nparentTargetICD = targetICD.child(\"%s\");"
 			+ "\nif (parentTargetICD == null) {"
-			+ "\nparentTargetICD = IndexedCollectionsDtoFactory.create(targetICD, %s, \"%s\", true);" + "\n}";
-	protected static final String IF_NULL_TARGET_ROOT_ICD_RETURN_TEMPLATE = "\nparentTargetICD = targetICD.children.get(\"%s\");"
-			+ "\nif (parentTargetICD == null || parentTargetICD.children == null || parentTargetICD.children.size() == 0) {"
+			+ "\nparentTargetICD = IndexedCollectionsDtoFactory.create(targetICD, %s, \"%s\");" + "\n}";
+	protected static final String IF_NULL_TARGET_ROOT_ICD_RETURN_TEMPLATE = "\nparentTargetICD = targetICD.child(\"%s\");"
+			+ "\nif (parentTargetICD == null || parentTargetICD.isEmpty()) {"
 			+ LOGGER + RETURN + "\n}";
 	protected static final String IF_NULL_SOURCE_ICD_RETURN_TEMPLATE = "\nif (sourceICD == null) {"
 			+ "\nLOGGER.warn(\"Cannot continue! No collections present in source-object.\");" + RETURN + "\n}";
 	protected static final String IF_NULL_SOURCE_ROOT_ICD_RETURN_TEMPLATE = IF_NULL_SOURCE_ICD_RETURN_TEMPLATE
-			+ "\nparentSourceICD = sourceICD.children.get(\"%s\");"
-			+ "\nif (parentSourceICD == null || parentSourceICD.children == null || parentSourceICD.children.size() == 0) {"
+			+ "\nparentSourceICD = sourceICD.child(\"%s\");"
+			+ "\nif (parentSourceICD == null || parentSourceICD.isEmpty()) {"
 			+ LOGGER + RETURN + "\n}";
 	protected static final String IF_NULL_ICD_RETURN_TEMPLATE = CHILDREN_GET
-			+ "\nif (%s == null || %s.children == null || %s.children.size() == 0) {" + LOGGER
+			+ "\nif (%s == null || %s.isEmpty()) {" + LOGGER
 			+ RETURN + "\n}";
 	protected static final String IF_NULL_LAST_ICD_RETURN_TEMPLATE = CHILDREN_GET + IF_S_NULL
 			+ LOGGER + RETURN + "\n}";
 	protected static final String IF_NULL_TARGET_ICD_CREATE_TEMPLATE = CHILDREN_GET + IF_S_NULL
-			+ "\n%s = IndexedCollectionsDtoFactory.create(%s, %s, %s, true);" + "\n}";
+			+ "\n%s = IndexedCollectionsDtoFactory.%s(%s, %s, %s);" + "\n}";
 
 	/** The Constant retrieveMemberFromIcdTemplate. */
 	protected static final String RETRIEVE_MEMBER_FROM_ICD_TEMPLATE = "\n%s %s = (%s) %s.indexedObject;";
@@ -298,35 +396,34 @@ public abstract class AbstractTemplate {
 			+ ARRAYS_COPY + HELPER_SETTER_TEMPLATE + CREATE_INSTANCE_TEMPLATE
 			+ "\n%s[%s] = %s;";
 
-	/** The Constant resizeArrayAndAddAtEndTemplate. */
-	protected static final String RESIZE_ARRAY_AND_ADD_AT_END_TEMPLATE = LEN
-			+ ARRAYS_COPY + CODE_TO_REPLACE + "\n%s[len] = %s;";
+	/** The Constant fillArrayTemplate - sets the member in place, growing the array only if short of the index. */
+	protected static final String FILL_ARRAY_TEMPLATE = "\nif (%s.length <= %s) {"
+			+ "\n%s = Arrays.copyOf(%s, %s + 1);" + CODE_TO_REPLACE + "\n}" + "\n%s[%s] = %s;";
 
 	/** The Constant addToCollectionTemplate. */
 	protected static final String ADD_TO_COLLECTION_TEMPLATE = "\n%s.add(%s);";
 
 	/** The Constant addCollectionMemberTemplate. */
 	protected static final String ADD_COLLECTION_MEMBER_TEMPLATE = CREATE_INIT_VAR_TEMPLATE
-			+ "\nmemberTargetICD = parentTargetICD.children.get(%s);" + "\nif (memberTargetICD != null) {"
+			+ "\nmemberTargetICD = parentTargetICD.member(%s);" + "\nif (memberTargetICD != null) {"
 			+ "\n%s = (%s) memberTargetICD.indexedObject;" + "\n}" + IF_S_NULL + CODE_TO_REPLACE
-			+ "\nmemberTargetICD = IndexedCollectionsDtoFactory.create(parentTargetICD, %s, %s, true);" + "\n}";
+			+ "\nmemberTargetICD = IndexedCollectionsDtoFactory.createMember(parentTargetICD, %s, %s);" + "\n}";
 
 	/** The Constant addCollectionMemberAtEndTemplate. */
-	protected static final String ADD_COLLECTION_MEMBER_AT_END_TEMPLATE = "\nidx = 0;"
-			+ "\nif (parentTargetICD.children.size() > 0) {" + "\nidx = parentTargetICD.children.size();" + "\n}"
+	protected static final String ADD_COLLECTION_MEMBER_AT_END_TEMPLATE = "\nidx = parentTargetICD.size;"
 			+ CODE_TO_REPLACE
-			+ "\nmemberTargetICD = IndexedCollectionsDtoFactory.create(parentTargetICD, %s, \"\" + idx, true);";
+			+ "\nmemberTargetICD = IndexedCollectionsDtoFactory.createMember(parentTargetICD, %s, idx);";
 
 	/** The Constant retrieveParentIcd. */
-	protected static final String RETRIEVE_PARENT_ICD = "\nIndexedCollectionsDto parentICD%s = %s.children.get(%s);";
+	protected static final String RETRIEVE_PARENT_ICD = "\nIndexedCollectionsDto parentICD%s = %s.child(%s);";
 
 	/** The Constant preLoopTemplate. */
 	protected static final String PRE_LOOP_TEMPLATE = RETRIEVE_PARENT_ICD
-			+ "\nif (parentICD%s == null || parentICD%s.children == null || parentICD%s.children.size() == 0) {"
-			+ LOGGER + CONTINUE + "\n}" + "\nint size%s = parentICD%s.children.size();";
+			+ "\nif (parentICD%s == null || parentICD%s.isEmpty()) {"
+			+ LOGGER + CONTINUE + "\n}" + "\nint size%s = parentICD%s.size;";
 
 	/** The Constant postLoopTemplate. */
-	protected static final String POST_LOOP_TEMPLATE = "\nif (memberICD%s == null || memberICD%s.children == null || memberICD%s.children.size() == 0) {"
+	protected static final String POST_LOOP_TEMPLATE = "\nif (memberICD%s == null || memberICD%s.isEmpty()) {"
 			+ LOGGER + CONTINUE + "\n}";
 
 	/** The Constant lastPostSourceLoopTemplate. */
@@ -334,28 +431,51 @@ public abstract class AbstractTemplate {
 			+ CONTINUE + "\n}" + RETRIEVE_MEMBER_FROM_ICD_TEMPLATE;
 
 	/** The Constant retrieveMemberIcd. */
-	protected static final String RETRIEVE_MEMBER_ICD = "\nIndexedCollectionsDto memberICD%s = %s.children.get(%s);";
+	protected static final String RETRIEVE_MEMBER_ICD = "\nIndexedCollectionsDto memberICD%s = %s.%s(%s);";
 
 	/** The Constant preTargetLoopTemplate. */
 	protected static final String PRE_TARGET_LOOP_TEMPLATE = "\nint size%s = 0;"
 			+ RETRIEVE_PARENT_ICD + "\nif (parentICD%s == null) {"
-			+ "\nparentICD%s = IndexedCollectionsDtoFactory.create(%s, %s, %s, true);" + "\nsize%s = 1;" + ELSE
-			+ "\nsize%s = parentICD%s.children.size();" + "\n}";
+			+ "\nparentICD%s = IndexedCollectionsDtoFactory.create(%s, %s, %s);" + "\nsize%s = 1;" + ELSE
+			+ "\nsize%s = parentICD%s.size;" + "\n}";
 
 	/** The Constant forLoopTemplate. */
 	protected static final String FOR_LOOP_TEMPLATE = "\nfor (int %s = 0; %s < size%s; %s++) {";
 
+	/** The Constant directPreLoopTemplate. */
+	protected static final String DIRECT_PRE_LOOP_TEMPLATE = "\nint size%s = %s.size();"
+			+ "\n%s<? extends %s> iterator%s = %s.iterator();";
+
+	/** The Constant directPreArrayLoopTemplate. */
+	protected static final String DIRECT_PRE_ARRAY_LOOP_TEMPLATE = "\nint size%s = %s.length;";
+
+	/** The Constant directPreMapLoopTemplate. */
+	protected static final String DIRECT_PRE_MAP_LOOP_TEMPLATE = "\nint size%s = %s.size();"
+			+ "\n%s<? extends %s.Entry<?, ?>> iterator%s = %s.entrySet().iterator();";
+
+	/** The Constant directRetrieveMemberTemplate. */
+	protected static final String DIRECT_RETRIEVE_MEMBER_TEMPLATE = "\n%s %s = iterator%s.next();";
+
+	/** The Constant directRetrieveArrayMemberTemplate. */
+	protected static final String DIRECT_RETRIEVE_ARRAY_MEMBER_TEMPLATE = "\n%s %s = %s[%s];";
+
+	/** The Constant directRetrieveMapMemberTemplate. */
+	protected static final String DIRECT_RETRIEVE_MAP_MEMBER_TEMPLATE = "\n%s %s = (%s) iterator%s.next().%s();";
+
+	/** The Constant directIfNullMemberContinueTemplate. */
+	protected static final String DIRECT_IF_NULL_MEMBER_CONTINUE_TEMPLATE = IF_S_NULL + LOGGER + CONTINUE + "\n}";
+
 	/** The Constant postTargetLoopTemplate. */
 	protected static final String POST_TARGET_LOOP_TEMPLATE = RETRIEVE_MEMBER_ICD
 			+ "\n%s %s = null;" + "\nif (memberICD%s != null) {" + "\n%s = (%s) memberICD%s.indexedObject;"
-			+ ELSE + CODE_TO_REPLACE + "\nmemberICD%s = IndexedCollectionsDtoFactory.create(%s, %s, %s, true);"
+			+ ELSE + CODE_TO_REPLACE + "\nmemberICD%s = IndexedCollectionsDtoFactory.%s(%s, %s, %s);"
 			+ "\n}";
 
 	/** The Constant postTargetLoopMapKeyTemplate. */
 	protected static final String POST_TARGET_LOOP_MAP_KEY_TEMPLATE = RETRIEVE_MEMBER_ICD
 			+ "\n%s %s = null;" + IF_MEMBER_ICD + CODE_TO_CREATE_MAPKEY + " " + CODE_TO_CREATE_MAPVALUE
-			+ " " + PUT + "\nmemberICD%s = IndexedCollectionsDtoFactory.create(%s, %s, %s, true);"
-			+ "\nvalueTargetICD = IndexedCollectionsDtoFactory.create(%s, %s, %s, true);" + ELSE
+			+ " " + PUT + "\nmemberICD%s = IndexedCollectionsDtoFactory.createMapKey(%s, %s, %s);"
+			+ "\nvalueTargetICD = IndexedCollectionsDtoFactory.createMapValue(%s, %s, %s);" + ELSE
 			+ "\n%s = (%s) memberICD%s.indexedObject;" + "\n}";
 
 	/** The Constant postTargetLoopMapValueTemplate. */
@@ -368,35 +488,92 @@ public abstract class AbstractTemplate {
 			+ "\n}";
 
 	/** The Constant ifNullMapKeyICDTemplate. */
-	protected static final String IF_NULL_MAP_KEY_ICD_TEMPLATE = "\nif (parentTargetICD.children != null) {"
-			+ KEY_TARGET_ICD + "\n}" + IF_KEY_TARGET_ICD
+	protected static final String IF_NULL_MAP_KEY_ICD_TEMPLATE = KEY_TARGET_ICD + IF_KEY_TARGET_ICD
 			+ CODE_TO_ADD_MAPENTRY + ELSE + CODE_TO_ADD_ELSE_MAPENTRY + "\n}";
 
 	/** The Constant addMapEntryTemplate. */
 	protected static final String ADD_MAP_ENTRY_TEMPLATE = CODE_TO_CREATE_MAPKEY + " " + CODE_TO_CREATE_MAPVALUE + " "
 			+ PUT
-			+ "\nkeyTargetICD = IndexedCollectionsDtoFactory.create(parentTargetICD, %s, %s + \"<K>\", true);"
-			+ "\nvalueTargetICD = IndexedCollectionsDtoFactory.create(parentTargetICD, %s, %s + \"<V>\", true);";
+			+ "\nkeyTargetICD = IndexedCollectionsDtoFactory.createMapKey(parentTargetICD, %s, %s);"
+			+ "\nvalueTargetICD = IndexedCollectionsDtoFactory.createMapValue(parentTargetICD, %s, %s);";
 
 	/** The Constant retrieveLastMapKeyTemplate. */
-	protected static final String RETRIEVE_LAST_MAP_KEY_TEMPLATE = "\nidx = parentTargetICD.children.size() / 2 - 1;"
-			+ "\nkeyTargetICD = parentTargetICD.children.get(idx + \"<K>\");"
-			+ "\nvalueTargetICD = parentTargetICD.children.get(idx + \"<V>\");";
+	protected static final String RETRIEVE_LAST_MAP_KEY_TEMPLATE = "\nidx = parentTargetICD.size - 1;"
+			+ "\nkeyTargetICD = parentTargetICD.mapKey(idx);"
+			+ "\nvalueTargetICD = parentTargetICD.mapValue(idx);";
 
 	/** The Constant ifNullMapKeyIcdReturnTemplate. */
 	protected static final String IF_NULL_MAP_KEY_ICD_RETURN_TEMPLATE = KEY_TARGET_ICD
 			+ IF_KEY_TARGET_ICD + LOGGER + RETURN + "\n}"
-			+ "\nvalueTargetICD = parentTargetICD.children.get(%s);";
+			+ "\nvalueTargetICD = parentTargetICD.mapValue(%s);";
 
 	/** The Constant ifNullMapKeyIcdContinueTemplate. */
 	protected static final String IF_NULL_MAP_KEY_ICD_CONTINUE_TEMPLATE = KEY_TARGET_ICD
 			+ IF_KEY_TARGET_ICD + LOGGER + CONTINUE + "\n}"
-			+ "\nvalueTargetICD = parentTargetICD.children.get(%s);";
+			+ "\nvalueTargetICD = parentTargetICD.mapValue(%s);";
 
 	/** The Constant addMapEntryUpdateIcdTemplate. */
 	protected static final String ADD_MAP_ENTRY_UPDATE_ICD_TEMPLATE = PUT
 			+ "\nvalueTargetICD.indexedObject = %s;";
 
+	/** The Constant sourceIndexerClassBeginCodeTemplate. */
+	protected static final String SOURCE_INDEXER_CLASS_BEGIN_CODE_TEMPLATE = "// This file was generated by the OTC Framework's Compiler."
+			+ CR_LF
+			+ "// For details on the framework, visit <a href=\"https://otcframework.org\">https://otcframework.org</a>"
+			+ CR_LF
+			+ "// Any modifications to this file will be lost upon recompilation of the respective OTCS file."
+			+ CR_LF + CR_LF
+			+ PACKAGE + IMPORT_ICD
+			+ "\nimport org.otcframework.common.executor.SourceIndexer;"
+			+ "\nimport org.otcframework.common.indexer.IndexedCollectionsDtoFactory;" + "\nimport java.util.Map;"
+			+ "\npublic class %s" + "\nimplements SourceIndexer<%s> {" + "\n\n@Override"
+			+ "\npublic IndexedCollectionsDto index(%s %s) {"
+			+ "\nIndexedCollectionsDto rootICD = IndexedCollectionsDtoFactory.create(null, %s, null);";
+
+	/** The Constant indexChainMethodCallTemplate. */
+	protected static final String INDEX_CHAIN_METHOD_CALL_TEMPLATE = "\n%s(%s, rootICD);";
+
+	/** The Constant indexMethodEndTemplate. */
+	protected static final String INDEX_METHOD_END_TEMPLATE = "\nif (rootICD.isEmpty()) {"
+			+ "\nreturn null;" + "\n}" + "\nreturn rootICD;" + "\n}";
+
+	/** The Constant indexChainMethodBeginTemplate. */
+	protected static final String INDEX_CHAIN_METHOD_BEGIN_TEMPLATE = "\n\nprivate static void %s(%s %s, "
+			+ "IndexedCollectionsDto rootICD) {";
+
+	/** The Constant indexGetterIfNullTemplate. */
+	protected static final String INDEX_GETTER_IF_NULL_TEMPLATE = GETTER_TEMPLATE + IF_S_NULL + "%s" + "\n}";
+
+	/** The Constant indexHelperGetterIfNullTemplate. */
+	protected static final String INDEX_HELPER_GETTER_IF_NULL_TEMPLATE = HELPER_GETTER_TEMPLATE + IF_S_NULL
+			+ "%s" + "\n}";
+
+	/** The Constant indexIfEmptyTemplate. */
+	protected static final String INDEX_IF_EMPTY_TEMPLATE = "\nif (%s.isEmpty()) {" + "%s" + "\n}";
+
+	/** The Constant indexIfEmptyArrayTemplate. */
+	protected static final String INDEX_IF_EMPTY_ARRAY_TEMPLATE = "\nif (%s.length == 0) {" + "%s" + "\n}";
+
+	/** The Constant indexIfNullContinueTemplate. */
+	protected static final String INDEX_IF_NULL_CONTINUE_TEMPLATE = IF_S_NULL + CONTINUE + "\n}";
+
+	/** The Constant indexRetrieveOrCreateIcdTemplate. */
+	protected static final String INDEX_RETRIEVE_OR_CREATE_ICD_TEMPLATE = "\nIndexedCollectionsDto %s = %s.%s(%s);"
+			+ IF_S_NULL + "\n%s = IndexedCollectionsDtoFactory.%s(%s, %s, %s);" + "\n}";
+
+	/** The Constant indexForEachMemberTemplate. */
+	protected static final String INDEX_FOR_EACH_MEMBER_TEMPLATE = "\nint %s = 0;" + "\nfor (%s %s : %s) {"
+			+ "\nint %s = %s++;";
+
+	/** The Constant indexForEachArrayMemberTemplate. */
+	protected static final String INDEX_FOR_EACH_ARRAY_MEMBER_TEMPLATE = "\nfor (int %s = 0; %s < %s.length; %s++) {"
+			+ "\n%s %s = %s[%s];";
+
+	/** The Constant indexForEachMapEntryTemplate. */
+	protected static final String INDEX_FOR_EACH_MAP_ENTRY_TEMPLATE = "\nint %s = 0;"
+			+ "\nfor (Map.Entry<?, ?> %s : %s.entrySet()) {" + "\n%s %s = (%s) %s.%s();"
+			+ "\nint %s = %s++;";
+
 	/** The Constant retrieveMapKeyFromIcdTemplate. */
 	protected static final String RETRIEVE_MAP_KEY_FROM_ICD_TEMPLATE = "\n%s %s = (%s) keyTargetICD.indexedObject;";
 
@@ -504,6 +681,37 @@ public abstract class AbstractTemplate {
 		return clzName;
 	}
 
+	/**
+	 * Creates the capacity expression - for the constructor of the concrete type of the collection / map, if it
+	 * takes an initial capacity.
+	 *
+	 * @param otcCommandDto the otc command dto
+	 * @param sizeVar       the size var
+	 * @return the string - null if the concrete type cannot be pre-sized
+	 */
+	protected static String createCapacityExpression(OtcCommandDto otcCommandDto, String sizeVar) {
+		Class<?> concreteType = otcCommandDto.concreteType;
+		if (concreteType == null) {
+			Class<?> fieldType = otcCommandDto.fieldType;
+			if (!fieldType.isInterface()) {
+				concreteType = fieldType;
+			} else if (concreteTypes.containsKey(fieldType)) {
+				concreteType = OtcUtils.loadClass(concreteTypes.get(fieldType));
+			} else {
+				return null;
+			}
+		}
+		try {
+			concreteType.getConstructor(int.class);
+		} catch (NoSuchMethodException e) {
+			return null;
+		}
+		if (Map.class.isAssignableFrom(concreteType) || Set.class.isAssignableFrom(concreteType)) {
+			return String.format(HASHED_CAPACITY_TEMPLATE, sizeVar);
+		}
+		return sizeVar;
+	}
+
 	/**
 	 * Fetch sanitized type name.
 	 *
@@ -629,7 +837,7 @@ public abstract class AbstractTemplate {
 	}
 
 	/**
-	 * Creates the icd key.
+	 * Creates the icd key - the position of the member in the parent ICD.
 	 *
 	 * @param memberOCD the member OCD
 	 * @param idxPrefix the idx prefix
@@ -644,29 +852,40 @@ public abstract class AbstractTemplate {
 		if (!memberOCD.isCollectionOrMapMember()) {
 			throw new CodeGeneratorException("", "Invalid call to the method! " + "Not a Collection / Map member.");
 		}
-		String mapKeyValueRef = null;
-		if (memberOCD.isMapMember()) {
-			if (memberOCD.isMapKey()) {
-				mapKeyValueRef = OtcConstants.MAP_KEY_REF;
-			} else {
-				mapKeyValueRef = OtcConstants.MAP_VALUE_REF;
-			}
-		}
-		String icdKey;
 		if (idxPrefix != null) {
-			if (memberOCD.isMapMember()) {
-				icdKey = idxPrefix + " + " + "\"" + mapKeyValueRef + "\"";
-			} else {
-				icdKey = "\"\"" + " + " + idxPrefix;
-			}
-		} else {
-			if (memberOCD.isMapMember()) {
-				icdKey = "\"" + idx + mapKeyValueRef + "\"";
-			} else {
-				icdKey = "\"" + idx + "\"";
-			}
+			return idxPrefix;
+		}
+		return idx.toString();
+	}
+
+	/**
+	 * Fetch icd accessor - the method of the parent ICD which retrieves the member's ICD.
+	 *
+	 * @param memberOCD the member OCD
+	 * @return the string
+	 */
+	protected static String fetchIcdAccessor(OtcCommandDto memberOCD) {
+		if (memberOCD.isMapKey()) {
+			return MAP_KEY;
+		} else if (memberOCD.isMapValue()) {
+			return MAP_VALUE;
 		}
-		return icdKey;
+		return MEMBER;
+	}
+
+	/**
+	 * Fetch icd factory method - the method of the IndexedCollectionsDtoFactory which creates the member's ICD.
+	 *
+	 * @param memberOCD the member OCD
+	 * @return the string
+	 */
+	protected static String fetchIcdFactoryMethod(OtcCommandDto memberOCD) {
+		if (memberOCD.isMapKey()) {
+			return CREATE_MAP_KEY;
+		} else if (memberOCD.isMapValue()) {
+			return CREATE_MAP_VALUE;
+		}
+		return CREATE_MEMBER;
 	}
 
 	/**
@@ -692,7 +911,7 @@ public abstract class AbstractTemplate {
 				}
 				valOrVar = createVarName(sourceOCD, createNewVarName, varNamesSet, varNamesMap);
 			} else {
-				valOrVar = createConvertExpression(memberOCD, value);
+				valOrVar = createConstant(targetOCC, memberOCD, value);
 			}
 		} else {
 			valOrVar = createVarName(memberOCD, createNewVarName, varNamesSet, varNamesMap);
@@ -725,6 +944,56 @@ public abstract class AbstractTemplate {
 		return expr;
 	}
 
+	/**
+	 * Creates the constant - the convert expression of the literal value held in a static field of the factory
+	 * class, so that it is evaluated once rather than on each execution. The expressions of mutable types, and of
+	 * those throwing checked exceptions, are returned as is.
+	 *
+	 * @param targetOCC     the target OCC
+	 * @param otcCommandDto the otc command dto
+	 * @param value         the value
+	 * @return the constant name or the convert expression
+	 */
+	protected static String createConstant(TargetOtcCommandContext targetOCC, OtcCommandDto otcCommandDto,
+			String value) {
+		String expr = createConvertExpression(otcCommandDto, value);
+		Class<?> clz = otcCommandDto.fieldType;
+		if (!otcCommandDto.isEnum() && (URL.class == clz || !convertFromStringExpressions.containsKey(clz))) {
+			return expr;
+		}
+		evaluateLiteral(targetOCC, clz, value);
+		String constantType = fetchSanitizedTypeName(targetOCC, otcCommandDto);
+		return targetOCC.factoryClassDto.addStaticField(CONSTANT, constantType, expr);
+	}
+
+	/**
+	 * Evaluate literal - converts the literal value as its constant would be, so that an invalid literal fails the
+	 * compilation of its command rather than the static initializer of the factory class.
+	 *
+	 * @param targetOCC the target OCC
+	 * @param clz       the clz
+	 * @param value     the value
+	 */
+	protected static void evaluateLiteral(TargetOtcCommandContext targetOCC, Class<?> clz, String value) {
+		String literal = value.length() > 1 && value.startsWith("\"") && value.endsWith("\"")
+				? value.substring(1, value.length() - 1) : value;
+		try {
+			if (clz.isEnum()) {
+				if (Arrays.stream(clz.getEnumConstants()).noneMatch(constant -> ((Enum<?>) constant).name()
+						.equals(literal))) {
+					throw new IllegalArgumentException("No such constant in the enum.");
+				}
+			} else if (DateConverterFacade.isOfAnyDateType(clz)) {
+				DateConverterFacade.convert(literal, clz);
+			} else if (convertFromStringFunctions.containsKey(clz)) {
+				convertFromStringFunctions.get(clz).apply(literal);
+			}
+		} catch (RuntimeException e) {
+			throw new CodeGeneratorException("", "Invalid literal value '" + literal + "' of type " + clz.getName()
+					+ " in OTC-command : " + targetOCC.commandId + "! " + e.getMessage(), e);
+		}
+	}
+
 	protected static String addInlineComments(String inlineComments, String generatedCode) {
 		if (CommonUtils.isTrimmedAndEmpty(generatedCode)) {
 			return null;
@@ -132,6 +132,8 @@ public final class AddMapKeyTemplate extends AbstractTemplate {
 		}
 		if (idxVar == null && idx != null) {
 			idxVar = String.valueOf(idx);
+		} else if (idxVar == null) {
+			idxVar = PARENT_TARGET_ICD + ".size";
 		}
 		String addMapEntryCode = String.format(ADD_MAP_ENTRY_TEMPLATE, mapVarName, keyVarName, valueVarName, keyVarName,
 				idxVar, valueVarName, idxVar);
@@ -202,7 +204,8 @@ public final class AddMapKeyTemplate extends AbstractTemplate {
 		}
 		String keyPcdId = createIcdKey(keyOCD, idxVar, null);
 		String valuePcdId = createIcdKey(valueOCD, idxVar, null);
-		String postTargetLoopMapKeyCode = String.format(POST_TARGET_LOOP_MAP_KEY_TEMPLATE, idx, icd, keyPcdId, keyType,
+		String postTargetLoopMapKeyCode = String.format(POST_TARGET_LOOP_MAP_KEY_TEMPLATE, idx, icd, MAP_KEY,
+				keyPcdId, keyType,
 				keyVarName, idx, mapVarName, keyVarName, valueVarName, idx, icd, keyVarName, keyPcdId, icd,
 				valueVarName, valuePcdId, keyVarName, keyConcreteType, idx);
 		String mapKeyCode = null;
@@ -209,8 +209,8 @@ public final class AddMapValueTemplate extends AbstractTemplate {
 			icd = "parentTargetICD";
 		}
 		String pdcId = createIcdKey(valueOCD, idxVar, null);
-		String postTargetLoopMapValueCode = String.format(POST_TARGET_LOOP_MAP_VALUE_TEMPLATE, idx, icd, pdcId, idx,
-				logLevel, logMsg, valueType, valueVarName, valueConcreteType, idx);
+		String postTargetLoopMapValueCode = String.format(POST_TARGET_LOOP_MAP_VALUE_TEMPLATE, idx, icd, MAP_VALUE,
+				pdcId, idx, logLevel, logMsg, valueType, valueVarName, valueConcreteType, idx);
 		return addInlineComments(INLINE_COMMENTS, postTargetLoopMapValueCode);
 	}
 }
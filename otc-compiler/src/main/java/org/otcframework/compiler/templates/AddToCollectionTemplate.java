@@ -103,8 +103,8 @@ public final class AddToCollectionTemplate extends AbstractTemplate {
 					+ ". Type should be a collection member for target-otc-chain : " + targetOCC.otcChain);
 		}
 		String memberType = fetchFieldTypeName(targetOCC, null, memberOCD, createNewVarName, varNamesMap);
-		String codeToReplace = generateCodeToReplace(targetOCC, memberOCD, value, sourceOCD, idx, createNewVarName,
-				varNamesSet, varNamesMap);
+		String codeToReplace = generateCodeToReplace(targetOCC, memberOCD, value, sourceOCD, idx, idxVar,
+				createNewVarName, varNamesSet, varNamesMap);
 		String initMembers = null;
 		String varName = createVarName(memberOCD, createNewVarName, varNamesSet, varNamesMap);
 		String fieldTypecastType = fetchSanitizedTypeName(targetOCC, memberOCD);
@@ -128,13 +128,14 @@ public final class AddToCollectionTemplate extends AbstractTemplate {
 	 * @param value            the value
 	 * @param otherOCD         the other OCD
 	 * @param idx              the idx
+	 * @param idxVar           the idx var - the member is added at 'idx', set to the collection's size, if null
 	 * @param createNewVarName the create new var name
 	 * @param varNamesSet      the var names set
 	 * @param varNamesMap      the var names map
 	 * @return the string
 	 */
 	public static String generateCodeToReplace(TargetOtcCommandContext targetOCC, OtcCommandDto memberOCD, String value,
-			OtcCommandDto otherOCD, Integer idx, boolean createNewVarName, Set<String> varNamesSet,
+			OtcCommandDto otherOCD, Integer idx, String idxVar, boolean createNewVarName, Set<String> varNamesSet,
 			Map<String, String> varNamesMap) {
 		String varName = createVarName(memberOCD, createNewVarName, varNamesSet, varNamesMap);
 		String valOrVar = fetchValueOrVar(targetOCC, otherOCD, value, createNewVarName, varNamesSet, varNamesMap);
@@ -152,15 +153,25 @@ public final class AddToCollectionTemplate extends AbstractTemplate {
 			if (parentOCD.isFirstNode) {
 				collectionsParentVarName = CommonUtils.initLower(parentOCD.field.getDeclaringClass().getSimpleName());
 			} else {
-				collectionsParentVarName = createVarName(parentOCD, createNewVarName, varNamesSet, varNamesMap);
+				collectionsParentVarName = createVarName(parentOCD.parent, createNewVarName, varNamesSet, varNamesMap);
 			}
 			targetOCC.factoryClassDto.addImport(Arrays.class.getName());
 			if (idx == null) {
-				codeToReplace += String.format(RESIZE_ARRAY_AND_ADD_AT_END_TEMPLATE, parentVarName, parentVarName,
-						parentVarName, parentVarName, valOrVar);
-				String setterCode = SetterTemplate.generateCode(targetOCC, collectionsParentVarName,
-						varNamesSet, varNamesMap);
-				codeToReplace = codeToReplace.replace(CODE_TO_REPLACE, setterCode);
+				String setter = parentOCD.setter;
+				String setterCode;
+				if (parentOCD.enableSetterHelper) {
+					String helper = targetOCC.factoryClassDto.addImport(targetOCC.helper);
+					setterCode = String.format(HELPER_SETTER_TEMPLATE, helper, setter, collectionsParentVarName,
+							parentVarName);
+				} else {
+					setterCode = String.format(SETTER_TEMPLATE, collectionsParentVarName, setter, parentVarName);
+				}
+				String memberIdx = idxVar == null ? "idx" : idxVar;
+				codeToReplace = createMemberCode(targetOCC, memberOCD, varName, concreteType, valOrVar,
+						createNewVarName, varNamesMap);
+				codeToReplace += String.format(FILL_ARRAY_TEMPLATE, parentVarName, memberIdx, parentVarName,
+						parentVarName, memberIdx, parentVarName, memberIdx, varName).replace(CODE_TO_REPLACE,
+						setterCode);
 			} else {
 				String setter = parentOCD.setter;
 				if (parentOCD.enableSetterHelper) {
@@ -175,21 +186,38 @@ public final class AddToCollectionTemplate extends AbstractTemplate {
 				}
 			}
 		} else {
-			String memberType = fetchFieldTypeName(targetOCC, null, memberOCD, createNewVarName, varNamesMap);
-			if (PackagesFilterUtil.isFilteredPackage(memberOCD.fieldType)) {
-				if (memberOCD.isEnum()) {
-					codeToReplace = String.format(CREATE_INIT_VAR_TEMPLATE, memberType, varName, concreteType);
-				} else {
-					codeToReplace = String.format(CREATE_INSTANCE_TEMPLATE, memberType, varName, concreteType);
-				}
-			} else {
-				codeToReplace = String.format(CREATE_INIT_VAR_TEMPLATE, memberType, varName, valOrVar);
-			}
+			codeToReplace = createMemberCode(targetOCC, memberOCD, varName, concreteType, valOrVar,
+					createNewVarName, varNamesMap);
 			codeToReplace += String.format(ADD_TO_COLLECTION_TEMPLATE, parentVarName, varName);
 		}
 		return addInlineComments(INLINE_COMMENTS, codeToReplace);
 	}
 
+	/**
+	 * Creates the member code - instantiates the member, or assigns it the value, ahead of its addition to the
+	 * collection / array.
+	 *
+	 * @param targetOCC        the target OCC
+	 * @param memberOCD        the member OCD
+	 * @param varName          the var name
+	 * @param concreteType     the concrete type
+	 * @param valOrVar         the val or var
+	 * @param createNewVarName the create new var name
+	 * @param varNamesMap      the var names map
+	 * @return the string
+	 */
+	private static String createMemberCode(TargetOtcCommandContext targetOCC, OtcCommandDto memberOCD, String varName,
+			String concreteType, String valOrVar, boolean createNewVarName, Map<String, String> varNamesMap) {
+		String memberType = fetchFieldTypeName(targetOCC, null, memberOCD, createNewVarName, varNamesMap);
+		if (PackagesFilterUtil.isFilteredPackage(memberOCD.fieldType)) {
+			if (memberOCD.isEnum()) {
+				return String.format(CREATE_INIT_VAR_TEMPLATE, memberType, varName, concreteType);
+			}
+			return String.format(CREATE_INSTANCE_TEMPLATE, memberType, varName, concreteType);
+		}
+		return String.format(CREATE_INIT_VAR_TEMPLATE, memberType, varName, valOrVar);
+	}
+
 	/**
 	 * Generate post loop code.
 	 *
@@ -228,16 +256,18 @@ public final class AddToCollectionTemplate extends AbstractTemplate {
 			int endIdx = targetOCC.otcChain.lastIndexOf(OtcConstants.MAP_VALUE_REF) + 3;
 			String mapValueTokenPath = targetOCC.otcChain.substring(0, endIdx);
 			String logMsg = "Corresponding Map-key missing for path: '" + mapValueTokenPath + "'!";
-			forLoopCodeBuilder.append(String.format(RETRIEVE_MEMBER_ICD, idx, parentPcd, icdId));
-			forLoopCodeBuilder.append(String.format(POST_LOOP_TEMPLATE, idx, idx, idx, logLevel, logMsg));
+			forLoopCodeBuilder.append(String.format(RETRIEVE_MEMBER_ICD, idx, parentPcd, fetchIcdAccessor(memberOCD),
+					icdId));
+			forLoopCodeBuilder.append(String.format(POST_LOOP_TEMPLATE, idx, idx, logLevel, logMsg));
 			forLoopCodeBuilder.append(RetrieveMemberFromPcdTemplate.generateCode(targetOCC, createNewVarName, memberPcd,
 					varNamesSet, varNamesMap));
 		} else {
 			String fieldType = fetchFieldTypeName(targetOCC, null, memberOCD, createNewVarName, varNamesMap);
 			String varName = createVarName(memberOCD, createNewVarName, varNamesSet, varNamesMap);
 			String concreteType = fetchConcreteTypeName(targetOCC, memberOCD);
-			forLoopCodeBuilder.append(String.format(POST_TARGET_LOOP_TEMPLATE, idx, parentPcd, icdId, fieldType, varName,
-					idx, varName, concreteType, idx, idx, parentPcd, varName, icdId));
+			forLoopCodeBuilder.append(String.format(POST_TARGET_LOOP_TEMPLATE, idx, parentPcd,
+					fetchIcdAccessor(memberOCD), icdId, fieldType, varName, idx, varName, concreteType, idx, idx,
+					fetchIcdFactoryMethod(memberOCD), parentPcd, varName, icdId));
 			String createMemberCode = String.format(CREATE_INSTANCE_TEMPLATE, "", varName, concreteType);
 			String parentVarName = createVarName(targetOCD, createNewVarName, varNamesSet, varNamesMap);
 			createMemberCode += String.format(ADD_TO_COLLECTION_TEMPLATE, parentVarName, varName);
@@ -22,6 +22,7 @@
 */
 package org.otcframework.compiler.templates;
 
+import org.otcframework.common.converter.OtclConverterRegistry;
 import org.otcframework.common.dto.ClassDto;
 import org.otcframework.common.util.CommonUtils;
 import org.slf4j.Logger;
@@ -70,13 +71,62 @@ public final class ClassBeginTemplate extends AbstractTemplate {
 			rootSourceVariable = "arg1";
 		}
 		String classBeginBody = String.format(MAIN_CLASS_BEGIN_CODE_TEMPLATE, packageName, mainClassName, sourceType,
-				targetType, targetType, sourceType, rootSourceVariable, targetType, rootTargetVariable, targetType);
+				targetType, targetType, sourceType, rootSourceVariable, targetType, rootTargetVariable, targetType,
+				rootSourceVariable, rootTargetVariable, rootTargetVariable, targetType, sourceType, rootSourceVariable,
+				targetType, rootTargetVariable, rootSourceVariable, rootTargetVariable, rootTargetVariable, targetType,
+				sourceType, rootSourceVariable, targetType, rootTargetVariable, rootSourceVariable, rootTargetVariable,
+				rootTargetVariable, sourceType, rootSourceVariable, targetType, rootTargetVariable, rootSourceVariable,
+				rootTargetVariable, sourceType, rootSourceVariable, targetType, rootTargetVariable);
 		if (CommonUtils.isTrimmedAndEmpty(packageName)) {
 			classBeginBody = classBeginBody.replace("package ;\n", "");
 		}
 		return addInlineComments(INLINE_COMMENTS, classBeginBody);
 	}
 
+	/**
+	 * Generate static fields code - the static fields added to the class while generating its methods.
+	 *
+	 * @param classDto the class dto
+	 * @return the string
+	 */
+	public static String generateStaticFieldsCode(ClassDto classDto) {
+		StringBuilder staticFieldsCode = new StringBuilder();
+		for (String declaration : classDto.retrieveStaticFieldDeclarations()) {
+			staticFieldsCode.append(String.format(STATIC_FIELD_TEMPLATE, declaration));
+		}
+		return staticFieldsCode.toString();
+	}
+
+	/**
+	 * Generate main class execute module code - the overload called by the compile-time linked 'executeModule' of
+	 * other OTCS files, indexing the source with the generated source-indexer if any.
+	 *
+	 * @param sourceIndexerClassDto the source indexer class dto - null if the source needs no indexing
+	 * @param targetType            the target type
+	 * @param sourceType            the source type
+	 * @return the string
+	 */
+	public static String generateMainClassExecuteModuleCode(ClassDto sourceIndexerClassDto, String targetType,
+			String sourceType) {
+		String rootTargetVariable = CommonUtils.initLower(targetType);
+		String rootSourceVariable = null;
+		if (sourceType == null) {
+			sourceType = "Object";
+			rootSourceVariable = "arg1";
+		} else {
+			rootSourceVariable = CommonUtils.initLower(sourceType);
+		}
+		String sourceICD = "null";
+		String sourceIndexerCode = "";
+		if (sourceIndexerClassDto != null) {
+			sourceICD = "SOURCE_INDEXER.index(" + rootSourceVariable + ")";
+			sourceIndexerCode = String.format(MAIN_CLASS_SOURCE_INDEXER_TEMPLATE,
+					sourceIndexerClassDto.fullyQualifiedClassName, sourceIndexerClassDto.fullyQualifiedClassName);
+		}
+		return String.format(MAIN_CLASS_EXECUTE_MODULE_TEMPLATE, sourceType, rootSourceVariable, targetType,
+				rootTargetVariable, rootSourceVariable, sourceICD, rootTargetVariable) + sourceIndexerCode;
+	}
+
 	/**
 	 * Generate factory class code.
 	 *
@@ -84,13 +134,30 @@ public final class ClassBeginTemplate extends AbstractTemplate {
 	 * @param sourceType  the source type
 	 * @param targetType  the target type
 	 * @param addLogger   the add logger
+	 * @param otcConverter the fully qualified name of the OtclConverter - null if none
 	 * @param varNamesSet the var names set
 	 * @return the string
 	 */
 	public static String generateFactoryClassCode(ClassDto classDto, String sourceType, String targetType,
-			boolean addLogger, Set<String> varNamesSet) {
+			boolean addLogger, String otcConverter, Set<String> varNamesSet) {
 		return generateClassCode(classDto, sourceType, targetType, addLogger, FACTORY_CLASS_BEGIN_CODE_TEMPLATE,
-				varNamesSet);
+				otcConverter, varNamesSet);
+	}
+
+	/**
+	 * Generate fused factory class code - the execute method additionally takes the selected commands.
+	 *
+	 * @param classDto    the class dto
+	 * @param sourceType  the source type
+	 * @param targetType  the target type
+	 * @param addLogger   the add logger
+	 * @param varNamesSet the var names set
+	 * @return the string
+	 */
+	public static String generateFusedFactoryClassCode(ClassDto classDto, String sourceType, String targetType,
+			boolean addLogger, Set<String> varNamesSet) {
+		return generateClassCode(classDto, sourceType, targetType, addLogger, FUSED_FACTORY_CLASS_BEGIN_CODE_TEMPLATE,
+				null, varNamesSet);
 	}
 
 	/**
@@ -100,13 +167,14 @@ public final class ClassBeginTemplate extends AbstractTemplate {
 	 * @param sourceType  the source type
 	 * @param targetType  the target type
 	 * @param addLogger   the add logger
+	 * @param otcConverter the fully qualified name of the OtclConverter - null if none
 	 * @param varNamesSet the var names set
 	 * @return the string
 	 */
 	public static String generateModuleClassCode(ClassDto classDto, String sourceType, String targetType,
-			boolean addLogger, Set<String> varNamesSet) {
+			boolean addLogger, String otcConverter, Set<String> varNamesSet) {
 		return generateClassCode(classDto, sourceType, targetType, addLogger, FACTORY_MODULE_CLASS_BEGIN_CODE_TEMPLATE,
-				varNamesSet);
+				otcConverter, varNamesSet);
 	}
 
 	/**
@@ -117,11 +185,12 @@ public final class ClassBeginTemplate extends AbstractTemplate {
 	 * @param targetType  the target type
 	 * @param addLogger   the add logger
 	 * @param template    the template
+	 * @param otcConverter the fully qualified name of the OtclConverter - null if none
 	 * @param varNamesSet the var names set
 	 * @return the string
 	 */
 	private static String generateClassCode(ClassDto classDto, String sourceType, String targetType, boolean addLogger,
-			String template, Set<String> varNamesSet) {
+			String template, String otcConverter, Set<String> varNamesSet) {
 		String targetVar = CommonUtils.initLower(targetType);
 		targetVar = sanitizeVarName(targetVar, varNamesSet);
 		String sourceVar = null;
@@ -138,6 +207,15 @@ public final class ClassBeginTemplate extends AbstractTemplate {
 			sourceType = "Object";
 			sourceVar = "arg1";
 		}
+		if (otcConverter != null) {
+			// -- converters are shared instances held in a static field instead of one instance per execution.
+			classDto.addImport(OtclConverterRegistry.class.getName());
+			String converterType = classDto.addImport(otcConverter);
+			String converterVar = createVarName(converterType, varNamesSet, false);
+			String converterField = String.format(CONVERTER_FIELD_TEMPLATE, converterType, converterVar,
+					converterType);
+			template = template.replace(EXECUTE_METHOD_BEGIN_TEMPLATE, converterField + EXECUTE_METHOD_BEGIN_TEMPLATE);
+		}
 		if (!addLogger) {
 			String supportClassBeginTemplateCopy = template.replace(LOGGER_INIT_TEMPLATE, "");
 			classBeginBody = String.format(supportClassBeginTemplateCopy, packageName, classDto.className, sourceType,
@@ -0,0 +1,138 @@
+/**
+* Copyright (c) otcframework.org
+*
+* @author  Franklin J Abel
+* @version 1.0
+* @since   2020-06-08 
+*
+* This file is part of the OTC framework.
+* 
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*      https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*
+*/
+package org.otcframework.compiler.templates;
+
+import etree.dateconverters.DateConverterFacade;
+import org.otcframework.common.dto.ClassDto;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZonedDateTime;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The Class DateConverterTemplate - chooses at compile time the conversion between the concrete date / time types
+ * of the source and the target, falling back to the {@link DateConverterFacade} for the pairs it does not
+ * specialise.
+ */
+public final class DateConverterTemplate extends AbstractTemplate {
+
+	/** The Constant DATE_TIME_FORMATTER - the name-prefix of the formatters. */
+	private static final String DATE_TIME_FORMATTER = "DATE_TIME_FORMATTER";
+
+	private static final String ZONE = "java.time.ZoneId.systemDefault()";
+
+	private static final String DATE_PARSE_TEMPLATE = "org.otcframework.common.util.DateConversions.parse(%s, %s, "
+			+ "%s::from, %s.class)";
+
+	/** The to-instant conversions - by the source type. */
+	private static final Map<Class<?>, String> TO_INSTANT = new HashMap<>();
+
+	/** The from-instant conversions - by the target type. */
+	private static final Map<Class<?>, String> FROM_INSTANT = new HashMap<>();
+
+	/** The direct conversions - by the source and target types. */
+	private static final Map<String, String> DIRECT = new HashMap<>();
+
+	/** The ISO formatters - by the target type parsed from a string. */
+	private static final Map<Class<?>, String> ISO_FORMATTERS = new HashMap<>();
+
+	static {
+		TO_INSTANT.put(Date.class, "java.time.Instant.ofEpochMilli(%s.getTime())");
+		TO_INSTANT.put(Instant.class, "%s");
+		TO_INSTANT.put(LocalDateTime.class, "%s.atZone(" + ZONE + ").toInstant()");
+		TO_INSTANT.put(LocalDate.class, "%s.atStartOfDay(" + ZONE + ").toInstant()");
+		TO_INSTANT.put(ZonedDateTime.class, "%s.toInstant()");
+		TO_INSTANT.put(OffsetDateTime.class, "%s.toInstant()");
+
+		FROM_INSTANT.put(Date.class, "java.util.Date.from(%s)");
+		FROM_INSTANT.put(Instant.class, "%s");
+		FROM_INSTANT.put(LocalDateTime.class, "java.time.LocalDateTime.ofInstant(%s, " + ZONE + ")");
+		FROM_INSTANT.put(LocalDate.class, "%s.atZone(" + ZONE + ").toLocalDate()");
+		FROM_INSTANT.put(ZonedDateTime.class, "%s.atZone(" + ZONE + ")");
+		FROM_INSTANT.put(OffsetDateTime.class, "java.time.OffsetDateTime.ofInstant(%s, " + ZONE + ")");
+
+		DIRECT.put(key(Date.class, Date.class), "new java.util.Date(%s.getTime())");
+		DIRECT.put(key(LocalDateTime.class, LocalDate.class), "%s.toLocalDate()");
+		DIRECT.put(key(LocalDate.class, LocalDateTime.class), "%s.atStartOfDay()");
+		DIRECT.put(key(ZonedDateTime.class, LocalDateTime.class), "%s.toLocalDateTime()");
+		DIRECT.put(key(ZonedDateTime.class, LocalDate.class), "%s.toLocalDate()");
+		DIRECT.put(key(ZonedDateTime.class, OffsetDateTime.class), "%s.toOffsetDateTime()");
+		DIRECT.put(key(OffsetDateTime.class, LocalDateTime.class), "%s.toLocalDateTime()");
+		DIRECT.put(key(OffsetDateTime.class, LocalDate.class), "%s.toLocalDate()");
+		DIRECT.put(key(OffsetDateTime.class, ZonedDateTime.class), "%s.toZonedDateTime()");
+
+		ISO_FORMATTERS.put(LocalDate.class, "ISO_LOCAL_DATE");
+		ISO_FORMATTERS.put(LocalDateTime.class, "ISO_LOCAL_DATE_TIME");
+		ISO_FORMATTERS.put(LocalTime.class, "ISO_LOCAL_TIME");
+		ISO_FORMATTERS.put(Instant.class, "ISO_INSTANT");
+		ISO_FORMATTERS.put(ZonedDateTime.class, "ISO_ZONED_DATE_TIME");
+		ISO_FORMATTERS.put(OffsetDateTime.class, "ISO_OFFSET_DATE_TIME");
+	}
+
+	/**
+	 * Instantiates a new date converter template.
+	 */
+	private DateConverterTemplate() {
+	}
+
+	/**
+	 * Generate code - the expression converting the value to the target type.
+	 *
+	 * @param classDto   the class dto - of the generated class holding the formatters
+	 * @param sourceType the source type
+	 * @param targetType the target type
+	 * @param value      the value
+	 * @return the string
+	 */
+	public static String generateCode(ClassDto classDto, Class<?> sourceType, Class<?> targetType, String value) {
+		String conversion = DIRECT.get(key(sourceType, targetType));
+		if (conversion == null && sourceType == targetType && targetType != Date.class
+				&& TO_INSTANT.containsKey(targetType)) {
+			conversion = "%s";
+		}
+		if (conversion == null && TO_INSTANT.containsKey(sourceType) && FROM_INSTANT.containsKey(targetType)) {
+			conversion = String.format(FROM_INSTANT.get(targetType), TO_INSTANT.get(sourceType));
+		}
+		if (conversion != null) {
+			return String.format(conversion, value);
+		}
+		String targetTypeName = targetType.getName();
+		if (String.class == sourceType && ISO_FORMATTERS.containsKey(targetType)) {
+			String formatter = classDto.addStaticField(DATE_TIME_FORMATTER, "java.time.format.DateTimeFormatter",
+					"java.time.format.DateTimeFormatter." + ISO_FORMATTERS.get(targetType));
+			return String.format(DATE_PARSE_TEMPLATE, value, formatter, targetTypeName, targetTypeName);
+		}
+		classDto.addImport(DateConverterFacade.class.getName());
+		return String.format(DATE_VALUE_TEMPLATE, value, targetTypeName);
+	}
+
+	private static String key(Class<?> sourceType, Class<?> targetType) {
+		return sourceType.getName() + ">" + targetType.getName();
+	}
+}
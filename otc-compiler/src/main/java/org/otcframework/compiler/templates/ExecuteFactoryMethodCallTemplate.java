@@ -43,9 +43,11 @@ public final class ExecuteFactoryMethodCallTemplate extends AbstractTemplate {
 	 * @param factoryClzName the factory clz name
 	 * @param targetClz      the target clz
 	 * @param sourceClz      the source clz
+	 * @param commandIdx     the command idx
 	 * @return the string
 	 */
-	public static String generateCode(String factoryClzName, Class<?> targetClz, Class<?> sourceClz) {
+	public static String generateCode(String factoryClzName, Class<?> targetClz, Class<?> sourceClz,
+			int commandIdx) {
 		String targetVar = CommonUtils.initLower(targetClz.getSimpleName());
 		String sourceVar = null;
 		String sourceICD = null;
@@ -53,7 +55,7 @@ public final class ExecuteFactoryMethodCallTemplate extends AbstractTemplate {
 			sourceVar = CommonUtils.initLower(sourceClz.getSimpleName());
 			sourceICD = "sourceICD";
 		}
-		return addInlineComments(INLINE_COMMENTS, String.format(EXECUTE_FACTORY_METHOD_CALL_TEMPLATE, factoryClzName, sourceVar,
-				sourceICD, targetVar));
+		return addInlineComments(INLINE_COMMENTS, String.format(EXECUTE_SELECTED_FACTORY_METHOD_CALL_TEMPLATE,
+				commandIdx, factoryClzName, sourceVar, sourceICD, targetVar));
 	}
 }
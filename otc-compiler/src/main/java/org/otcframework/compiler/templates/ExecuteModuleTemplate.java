@@ -25,6 +25,7 @@ package org.otcframework.compiler.templates;
 import org.otcframework.common.dto.OtcCommandDto;
 import org.otcframework.compiler.command.SourceOtcCommandContext;
 import org.otcframework.compiler.command.TargetOtcCommandContext;
+import org.otcframework.compiler.utils.CompilerUtil;
 
 import java.util.Map;
 import java.util.Set;
@@ -59,7 +60,14 @@ public final class ExecuteModuleTemplate extends AbstractTemplate {
 		String targetVarName = createVarName(targetOCD, createNewVarName, varNamesSet, varNamesMap);
 		String sourceVarName = createVarName(sourceOCD, createNewVarName, varNamesSet, varNamesMap);
 		String otcNamespace = targetOCC.executeModuleOtcNamespace;
-		return addInlineComments(INLINE_COMMENTS, String.format(EXECUTE_MODULE_TEMPLATE, otcNamespace,
+		String moduleMainClass = CompilerUtil.resolveModuleMainClass(otcNamespace, sourceOCD.fieldType,
+				targetOCD.fieldType);
+		if (moduleMainClass == null) {
+			// -- module not among the OTCS files being compiled - resolve it through the registry at runtime.
+			return addInlineComments(INLINE_COMMENTS, String.format(EXECUTE_MODULE_TEMPLATE, otcNamespace,
+					sourceVarName, targetVarName));
+		}
+		return addInlineComments(INLINE_COMMENTS, String.format(EXECUTE_LINKED_MODULE_TEMPLATE, moduleMainClass,
 				sourceVarName, targetVarName));
 	}
 }
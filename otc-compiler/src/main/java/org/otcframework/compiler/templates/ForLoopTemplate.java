@@ -27,8 +27,11 @@ import org.otcframework.common.OtcConstants.LogLevel;
 import org.otcframework.common.dto.OtcCommandDto;
 import org.otcframework.compiler.command.OtcCommand;
 import org.otcframework.compiler.command.SourceOtcCommandContext;
+import org.otcframework.common.util.CommonUtils;
 import org.otcframework.compiler.command.TargetOtcCommandContext;
 
+import java.util.Iterator;
+import java.util.LinkedList;
 import java.util.Map;
 import java.util.Set;
 
@@ -61,6 +64,10 @@ public final class ForLoopTemplate extends AbstractTemplate {
 	public static String generateSourceLoopCode(TargetOtcCommandContext targetOCC, SourceOtcCommandContext sourceOCC,
 			String idxPrefix, boolean createNewVarName, LogLevel logLevel, Set<String> varNamesSet,
 			Map<String, String> varNamesMap) {
+		if (targetOCC.scriptDto != null && targetOCC.scriptDto.isSourceIndexFree) {
+			return generateDirectSourceLoopCode(targetOCC, sourceOCC, idxPrefix, createNewVarName, logLevel,
+					varNamesSet, varNamesMap);
+		}
 		OtcCommandDto sourceOCD = sourceOCC.otcCommandDto;
 		varNamesSet.add(idxPrefix);
 		String idxVar = sanitizeVarName(idxPrefix, varNamesSet);
@@ -78,20 +85,15 @@ public final class ForLoopTemplate extends AbstractTemplate {
 		String logMsg = "'" + sourceOCD.tokenPath + "' is null!.";
 		StringBuilder forLoopCodeBuilder = new StringBuilder();
 		String preSourceLoopTemplateCopy = PRE_LOOP_TEMPLATE;
-		if (sourceOCD.isMap()) {
-			preSourceLoopTemplateCopy = preSourceLoopTemplateCopy.replace(SIZE, SIZE_DIVIDED_BY_2);
-		}
 		if (!sourceOCC.hasAncestralCollectionOrMap()) {
 			memberPcd = "sourceICD";
 			preSourceLoopTemplateCopy = preSourceLoopTemplateCopy.replace("continue;", "return;");
 			forLoopCodeBuilder.append(IF_NULL_SOURCE_ICD_RETURN_TEMPLATE);
-			forLoopCodeBuilder.append(String.format(preSourceLoopTemplateCopy, idx, memberPcd, icdId, idx, idx, idx,
-					logLevel, logMsg, idx, idx));
 		} else {
 			memberPcd = MEMBER_ICD_VAR + (idx - 1);
-			forLoopCodeBuilder.append(String.format(preSourceLoopTemplateCopy, idx, memberPcd, icdId, idx, idx, idx,
-					logLevel, logMsg, idx, idx, idx));
 		}
+		forLoopCodeBuilder.append(String.format(preSourceLoopTemplateCopy, idx, memberPcd, icdId, idx, idx,
+				logLevel, logMsg, idx, idx));
 		forLoopCodeBuilder.append(String.format(FOR_LOOP_TEMPLATE, idxVar, idxVar, idx, idxVar));
 		OtcCommandDto memberOCD = OtcCommand.retrieveMemberOCD(sourceOCC);
 		sourceOCC.otcCommandDto = memberOCD;
@@ -99,13 +101,14 @@ public final class ForLoopTemplate extends AbstractTemplate {
 		String varName = createVarName(memberOCD, createNewVarName, varNamesSet, varNamesMap);
 		String concreteType = fetchConcreteTypeName(targetOCC, memberOCD);
 		icdId = createIcdKey(memberOCD, idxVar, null);
-		forLoopCodeBuilder.append(String.format(RETRIEVE_MEMBER_ICD, idx, parentPcd, icdId));
+		forLoopCodeBuilder.append(String.format(RETRIEVE_MEMBER_ICD, idx, parentPcd, fetchIcdAccessor(memberOCD),
+				icdId));
 		memberPcd = MEMBER_ICD_VAR + idx;
 		if (!sourceOCC.hasDescendantCollectionOrMap()) {
 			forLoopCodeBuilder.append(String.format(LAST_POST_SOURCE_LOOP_TEMPLATE, idx, logLevel, logMsg, fieldType,
 					varName, concreteType, memberPcd));
 		} else {
-			forLoopCodeBuilder.append(String.format(POST_LOOP_TEMPLATE, idx, idx, idx, logLevel, logMsg));
+			forLoopCodeBuilder.append(String.format(POST_LOOP_TEMPLATE, idx, idx, logLevel, logMsg));
 			if (!sourceOCC.hasDescendantCollectionOrMap()) {
 				forLoopCodeBuilder.append(
 						String.format(RETRIEVE_MEMBER_FROM_ICD_TEMPLATE, fieldType, varName, concreteType, memberPcd));
@@ -114,6 +117,116 @@ public final class ForLoopTemplate extends AbstractTemplate {
 		return addInlineComments(INLINE_COMMENTS, forLoopCodeBuilder.toString());
 	}
 
+	/**
+	 * Generate direct source loop code - the getters up to the collection / array / map are chained from the
+	 * previous loop's member (or from the source-object) and the members are iterated directly, so that the
+	 * source's indexed-collections tree is not required.
+	 *
+	 * @param targetOCC        the target OCC
+	 * @param sourceOCC        the source OCC
+	 * @param idxPrefix        the idx prefix
+	 * @param createNewVarName the create new var name
+	 * @param logLevel         the log level
+	 * @param varNamesSet      the var names set
+	 * @param varNamesMap      the var names map
+	 * @return the string
+	 */
+	private static String generateDirectSourceLoopCode(TargetOtcCommandContext targetOCC,
+			SourceOtcCommandContext sourceOCC, String idxPrefix, boolean createNewVarName, LogLevel logLevel,
+			Set<String> varNamesSet, Map<String, String> varNamesMap) {
+		OtcCommandDto sourceOCD = sourceOCC.otcCommandDto;
+		varNamesSet.add(idxPrefix);
+		String idxVar = sanitizeVarName(idxPrefix, varNamesSet);
+		int idx = 0;
+		if (!idxVar.equals(idxPrefix)) {
+			idx = Integer.valueOf(idxVar.substring(idxPrefix.length()));
+		}
+		boolean hasAncestor = sourceOCC.hasAncestralCollectionOrMap();
+		LinkedList<OtcCommandDto> getterOCDs = new LinkedList<>();
+		OtcCommandDto otcCommandDto = sourceOCD;
+		getterOCDs.add(otcCommandDto);
+		while (!otcCommandDto.isFirstNode && !otcCommandDto.parent.isCollectionOrMapMember()) {
+			otcCommandDto = otcCommandDto.parent;
+			getterOCDs.addFirst(otcCommandDto);
+		}
+		StringBuilder forLoopCodeBuilder = new StringBuilder();
+		for (OtcCommandDto getterOCD : getterOCDs) {
+			sourceOCC.otcCommandDto = getterOCD;
+			forLoopCodeBuilder.append(generateGetterIfNullCode(targetOCC, sourceOCC, hasAncestor, createNewVarName,
+					logLevel, varNamesSet, varNamesMap));
+		}
+		sourceOCC.otcCommandDto = sourceOCD;
+		String collectionVar = createVarName(sourceOCD, false, varNamesSet, varNamesMap);
+		OtcCommandDto memberOCD = OtcCommand.retrieveMemberOCD(sourceOCC);
+		sourceOCC.otcCommandDto = memberOCD;
+		String fieldType = fetchFieldTypeName(targetOCC, sourceOCC, memberOCD, createNewVarName, varNamesMap);
+		String varName = createVarName(memberOCD, createNewVarName, varNamesSet, varNamesMap);
+		String iterator = targetOCC.factoryClassDto.addImport(Iterator.class.getName());
+		if (sourceOCD.isArray()) {
+			forLoopCodeBuilder.append(String.format(DIRECT_PRE_ARRAY_LOOP_TEMPLATE, idx, collectionVar));
+		} else if (sourceOCD.isMap()) {
+			String map = targetOCC.factoryClassDto.addImport(Map.class.getName());
+			forLoopCodeBuilder.append(String.format(DIRECT_PRE_MAP_LOOP_TEMPLATE, idx, collectionVar, iterator, map,
+					idx, collectionVar));
+		} else {
+			forLoopCodeBuilder.append(String.format(DIRECT_PRE_LOOP_TEMPLATE, idx, collectionVar, iterator,
+					fieldType, idx, collectionVar));
+		}
+		forLoopCodeBuilder.append(String.format(FOR_LOOP_TEMPLATE, idxVar, idxVar, idx, idxVar));
+		if (sourceOCD.isArray()) {
+			forLoopCodeBuilder.append(String.format(DIRECT_RETRIEVE_ARRAY_MEMBER_TEMPLATE, fieldType, varName,
+					collectionVar, idxVar));
+		} else if (sourceOCD.isMap()) {
+			String entryGetter = memberOCD.isMapKey() ? "getKey" : "getValue";
+			forLoopCodeBuilder.append(String.format(DIRECT_RETRIEVE_MAP_MEMBER_TEMPLATE, fieldType, varName,
+					fieldType, idx, entryGetter));
+		} else {
+			forLoopCodeBuilder.append(String.format(DIRECT_RETRIEVE_MEMBER_TEMPLATE, fieldType, varName, idx));
+		}
+		if (!memberOCD.fieldType.isPrimitive()) {
+			String logMsg = "'" + sourceOCD.tokenPath + "' has null member!.";
+			forLoopCodeBuilder.append(String.format(DIRECT_IF_NULL_MEMBER_CONTINUE_TEMPLATE, varName, logLevel,
+					logMsg));
+		}
+		return addInlineComments(INLINE_COMMENTS, forLoopCodeBuilder.toString());
+	}
+
+	/**
+	 * Generate getter if null code - continues within the enclosing source loop, else returns.
+	 *
+	 * @param targetOCC        the target OCC
+	 * @param sourceOCC        the source OCC
+	 * @param isInLoop         the is in loop
+	 * @param createNewVarName the create new var name
+	 * @param logLevel         the log level
+	 * @param varNamesSet      the var names set
+	 * @param varNamesMap      the var names map
+	 * @return the string
+	 */
+	private static String generateGetterIfNullCode(TargetOtcCommandContext targetOCC,
+			SourceOtcCommandContext sourceOCC, boolean isInLoop, boolean createNewVarName, LogLevel logLevel,
+			Set<String> varNamesSet, Map<String, String> varNamesMap) {
+		OtcCommandDto otcCommandDto = sourceOCC.otcCommandDto;
+		String fieldType = fetchFieldTypeName(targetOCC, sourceOCC, otcCommandDto, createNewVarName, varNamesMap);
+		String varName = createVarName(otcCommandDto, createNewVarName, varNamesSet, varNamesMap);
+		String parentVarName = null;
+		if (otcCommandDto.isFirstNode) {
+			parentVarName = CommonUtils.initLower(otcCommandDto.field.getDeclaringClass().getSimpleName());
+		} else {
+			parentVarName = createVarName(otcCommandDto.parent, createNewVarName, varNamesSet, varNamesMap);
+		}
+		String logMsg = "'" + otcCommandDto.tokenPath + "' is null!.";
+		if (otcCommandDto.enableGetterHelper) {
+			String helper = targetOCC.factoryClassDto.addImport(targetOCC.helper);
+			String template = isInLoop ? HELPER_GET_IF_NULL_CONTINUE_TEMPLATE : HELPER_GET_IF_NULL_RETURN_TEMPLATE;
+			return String.format(template, fieldType, varName, helper, otcCommandDto.getter, parentVarName, varName,
+					logLevel, logMsg);
+		}
+		String template = isInLoop ? GETTER_IF_NULL_CONTINUE_TEMPLATE : GETTER_IF_NULL_RETURN_TEMPLATE;
+		return String.format(template, fieldType, varName, parentVarName, otcCommandDto.getter, varName, logLevel,
+				logMsg);
+	}
+
 	/**
 	 * Generate target loop code.
 	 *
@@ -152,26 +265,16 @@ public final class ForLoopTemplate extends AbstractTemplate {
 			int endIdx = targetOCC.otcChain.lastIndexOf(OtcConstants.MAP_VALUE_REF) + 3;
 			String mapValueTokenPath = targetOCC.otcChain.substring(0, endIdx);
 			logMsg = "Corresponding Map-key missing for path: '" + mapValueTokenPath + "'!";
-			String preLoopTemplateCopy = null;
-			if (targetOCD.isMap()) {
-				preLoopTemplateCopy = PRE_LOOP_TEMPLATE.replace(SIZE, SIZE_DIVIDED_BY_2);
-			} else {
-				preLoopTemplateCopy = PRE_LOOP_TEMPLATE;
-			}
+			String preLoopTemplateCopy = PRE_LOOP_TEMPLATE;
 			if (!hasAncestor) {
 				preLoopTemplateCopy = preLoopTemplateCopy.replace("continue;", "return;");
 			}
-			forLoopCodeBuilder.append(String.format(preLoopTemplateCopy, idx, memberPcd, icdId, idx, idx, idx, logLevel,
+			forLoopCodeBuilder.append(String.format(preLoopTemplateCopy, idx, memberPcd, icdId, idx, idx, logLevel,
 					logMsg, idx, idx));
 		} else {
 			String varName = createVarName(targetOCD, createNewVarName, varNamesSet, varNamesMap);
-			if (targetOCD.isMap()) {
-				forLoopCodeBuilder.append(String.format(PRE_TARGET_LOOP_TEMPLATE.replace(SIZE, SIZE_DIVIDED_BY_2), idx,
-						idx, memberPcd, icdId, idx, idx, memberPcd, varName, icdId, idx, idx, idx));
-			} else {
-				forLoopCodeBuilder.append(String.format(PRE_TARGET_LOOP_TEMPLATE, idx, idx, memberPcd, icdId, idx, idx,
-						memberPcd, varName, icdId, idx, idx, idx));
-			}
+			forLoopCodeBuilder.append(String.format(PRE_TARGET_LOOP_TEMPLATE, idx, idx, memberPcd, icdId, idx, idx,
+					memberPcd, varName, icdId, idx, idx, idx));
 		}
 		forLoopCodeBuilder.append(String.format(FOR_LOOP_TEMPLATE, idxVar, idxVar, idx, idxVar));
 		targetOCC.otcCommandDto = memberOCD;
@@ -0,0 +1,86 @@
+/**
+* Copyright (c) otcframework.org
+*
+* @author  Franklin J Abel
+* @version 1.0
+* @since   2020-06-08 
+*
+* This file is part of the OTC framework.
+* 
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*      https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*
+*/
+package org.otcframework.compiler.templates;
+
+import org.otcframework.common.util.CommonUtils;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * The Class FusedLoopTemplate.
+ */
+public final class FusedLoopTemplate extends AbstractTemplate {
+
+	private static final String INLINE_COMMENTS = "\n// ---- generator - " +
+			FusedLoopTemplate.class.getSimpleName();
+
+	/**
+	 * Instantiates a new fused loop template.
+	 */
+	private FusedLoopTemplate() {
+	}
+
+	/**
+	 * Generate command block begin code.
+	 *
+	 * @param commandIdx the command idx
+	 * @return the string
+	 */
+	public static String generateCommandBlockBeginCode(int commandIdx) {
+		return addInlineComments(INLINE_COMMENTS, String.format(FUSED_COMMAND_BLOCK_BEGIN_TEMPLATE, commandIdx));
+	}
+
+	/**
+	 * Generate command block end code.
+	 *
+	 * @return the string
+	 */
+	public static String generateCommandBlockEndCode() {
+		return FUSED_COMMAND_BLOCK_END_TEMPLATE;
+	}
+
+	/**
+	 * Generate method call code.
+	 *
+	 * @param factoryClzName the factory clz name
+	 * @param targetClz      the target clz
+	 * @param sourceClz      the source clz
+	 * @param commandIdxs    the command idxs
+	 * @return the string
+	 */
+	public static String generateMethodCallCode(String factoryClzName, Class<?> targetClz, Class<?> sourceClz,
+			List<Integer> commandIdxs) {
+		String targetVar = CommonUtils.initLower(targetClz.getSimpleName());
+		String sourceVar = null;
+		String sourceICD = null;
+		if (sourceClz != null) {
+			sourceVar = CommonUtils.initLower(sourceClz.getSimpleName());
+			sourceICD = "sourceICD";
+		}
+		String selectedCommands = commandIdxs.stream().map(commandIdx -> "commands[" + commandIdx + "]")
+				.collect(Collectors.joining(" || "));
+		return addInlineComments(INLINE_COMMENTS, String.format(EXECUTE_FUSED_FACTORY_METHOD_CALL_TEMPLATE,
+				selectedCommands, factoryClzName, sourceVar, sourceICD, targetVar));
+	}
+}
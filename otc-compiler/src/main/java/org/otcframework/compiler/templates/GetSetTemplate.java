@@ -23,8 +23,11 @@
 package org.otcframework.compiler.templates;
 
 import etree.dateconverters.DateConverterFacade;
+import org.otcframework.common.dto.ClassDto;
 import org.otcframework.common.dto.OtcCommandDto;
+import org.otcframework.common.dto.otc.OtcFileDto.Copy;
 import org.otcframework.common.util.CommonUtils;
+import org.otcframework.common.util.EnumTranslations;
 import org.otcframework.compiler.command.SourceOtcCommandContext;
 import org.otcframework.compiler.command.TargetOtcCommandContext;
 import org.otcframework.compiler.exception.CodeGeneratorException;
@@ -37,6 +40,9 @@ import java.util.Set;
  */
 public final class GetSetTemplate extends AbstractTemplate {
 
+	/** The Constant ENUM_TABLE - the name-prefix of the enum translation tables. */
+	private static final String ENUM_TABLE = "ENUM_TABLE";
+
 	private static final String INLINE_COMMENTS = "\n// ---- generator - " +
 			GetSetTemplate.class.getSimpleName();
 
@@ -161,32 +167,18 @@ public final class GetSetTemplate extends AbstractTemplate {
 			targetParentVarName = createVarName(targetOCD.parent, createNewVarName, varNamesSet, varNamesMap);
 		}
 		String getSetCode = null;
-		if (targetOCD.isEnum() && sourceOCD.isEnum()) {
-			String targetEnumType = fetchSanitizedTypeName(targetOCC, targetOCD);
-			getSetCode = String.format(SETTER_BOTH_ENUM_TEMPLATE, targetParentVarName, targetOCD.setter, targetEnumType,
-					sourceVarName);
-		} else if (sourceOCD.isEnum()) {
-			getSetCode = String.format(SETTER_SOURCE_ENUM_TEMPLATE, targetParentVarName, targetOCD.setter, sourceVarName);
-		} else if (targetOCD.isEnum()) {
-			String targetEnumType = fetchSanitizedTypeName(targetOCC, targetOCD);
-			getSetCode = String.format(SETTER_TARGET_ENUM_TEMPLATE, targetParentVarName, targetOCD.setter, targetEnumType,
-					sourceVarName);
+		if (targetOCD.isEnum() || sourceOCD.isEnum()) {
+			getSetCode = generateEnumTranslationCode(targetOCC, sourceOCD, targetParentVarName, sourceVarName);
 		} else {
 			if (DateConverterFacade.isOfAnyDateType(targetOCD.fieldType)) {
-				targetOCC.factoryClassDto.addImport(DateConverterFacade.class.getName());
-				if (DateConverterFacade.isOfAnyDateType(sourceOCD.fieldType)) {
-					getSetCode = String.format(DATE_CONVERTER_TEMPLATE, targetParentVarName, targetOCD.setter,
-							sourceVarName, targetOCD.fieldType.getName());
-				} else {
-					if (String.class != sourceOCD.fieldType) {
-						throw new CodeGeneratorException("", sourceOCD.fieldType + " in from: cannot be converted to "
-								+ targetOCD.fieldType.getName() + " in " + targetOCC.commandId);
-					}
-					getSetCode = String.format(DATE_CONVERTER_TEMPLATE, targetParentVarName, targetOCD.setter,
-							sourceVarName, sourceOCD.fieldType.getName());
+				if (!DateConverterFacade.isOfAnyDateType(sourceOCD.fieldType) && String.class != sourceOCD.fieldType) {
+					throw new CodeGeneratorException("", sourceOCD.fieldType + " in from: cannot be converted to "
+							+ targetOCD.fieldType.getName() + " in " + targetOCC.commandId);
 				}
+				String dateConversion = DateConverterTemplate.generateCode(targetOCC.factoryClassDto,
+						sourceOCD.fieldType, targetOCD.fieldType, sourceVarName);
+				getSetCode = String.format(SETTER_TEMPLATE, targetParentVarName, targetOCD.setter, dateConversion);
 			} else if (DateConverterFacade.isOfAnyDateType(sourceOCD.fieldType)) {
-				targetOCC.factoryClassDto.addImport(DateConverterFacade.class.getName());
 				if (String.class != targetOCD.fieldType) {
 					throw new CodeGeneratorException("", sourceOCD.fieldType + " in from: cannot be converted to "
 							+ targetOCD.fieldType.getName() + " in " + targetOCC.commandId);
@@ -199,4 +191,106 @@ public final class GetSetTemplate extends AbstractTemplate {
 		}
 		return addInlineComments(INLINE_COMMENTS, getSetCode);
 	}
+
+	/**
+	 * Generate enum translation code - looking up the translation table held in a static field of the factory
+	 * class, built once from the enum constants and the enum-mappings of the copy command.
+	 *
+	 * @param targetOCC           the target OCC
+	 * @param sourceOCD           the source OCD
+	 * @param targetParentVarName the target parent var name
+	 * @param sourceVarName       the source var name
+	 * @return the string
+	 */
+	private static String generateEnumTranslationCode(TargetOtcCommandContext targetOCC, OtcCommandDto sourceOCD,
+			String targetParentVarName, String sourceVarName) {
+		OtcCommandDto targetOCD = targetOCC.otcCommandDto;
+		ClassDto factoryClassDto = targetOCC.factoryClassDto;
+		factoryClassDto.addImport(EnumTranslations.class.getName());
+		String enumMappings = createEnumMappings(targetOCC, sourceOCD);
+		String table;
+		if (targetOCD.isEnum() && sourceOCD.isEnum()) {
+			String targetEnumType = fetchSanitizedTypeName(targetOCC, targetOCD);
+			String sourceEnumType = fetchSanitizedTypeName(targetOCC, sourceOCD);
+			table = factoryClassDto.addStaticField(ENUM_TABLE, "Map<" + sourceEnumType + ", " + targetEnumType + ">",
+					String.format(ENUM_TO_ENUM_TABLE_TEMPLATE, sourceEnumType, targetEnumType, enumMappings));
+			return String.format(SETTER_ENUM_LOOKUP_TEMPLATE, targetParentVarName, targetOCD.setter, table,
+					sourceVarName, targetEnumType);
+		}
+		if (sourceOCD.isEnum()) {
+			String sourceEnumType = fetchSanitizedTypeName(targetOCC, sourceOCD);
+			table = factoryClassDto.addStaticField(ENUM_TABLE, "String[]",
+					String.format(ENUM_TO_STRING_TABLE_TEMPLATE, sourceEnumType, enumMappings));
+			return String.format(SETTER_ENUM_TABLE_TEMPLATE, targetParentVarName, targetOCD.setter, table,
+					sourceVarName);
+		}
+		String targetEnumType = fetchSanitizedTypeName(targetOCC, targetOCD);
+		table = factoryClassDto.addStaticField(ENUM_TABLE, "Map<String, " + targetEnumType + ">",
+				String.format(STRING_TO_ENUM_TABLE_TEMPLATE, targetEnumType, enumMappings));
+		return String.format(SETTER_ENUM_LOOKUP_TEMPLATE, targetParentVarName, targetOCD.setter, table,
+				sourceVarName, targetEnumType);
+	}
+
+	/**
+	 * Creates the enum mappings - the from / to name pairs of the copy command as string-literal arguments, checked
+	 * against the constants of the enum-types.
+	 *
+	 * @param targetOCC the target OCC
+	 * @param sourceOCD the source OCD
+	 * @return the string
+	 */
+	private static String createEnumMappings(TargetOtcCommandContext targetOCC, OtcCommandDto sourceOCD) {
+		if (!(targetOCC.scriptDto.command instanceof Copy)) {
+			return "";
+		}
+		Map<String, String> enumMappings = ((Copy) targetOCC.scriptDto.command).enumMappings;
+		if (enumMappings == null || enumMappings.isEmpty()) {
+			return "";
+		}
+		OtcCommandDto targetOCD = targetOCC.otcCommandDto;
+		StringBuilder enumMappingsBuilder = new StringBuilder();
+		for (Map.Entry<String, String> entry : enumMappings.entrySet()) {
+			if (sourceOCD.isEnum() && !isEnumConstant(sourceOCD.fieldType, entry.getKey())) {
+				throw new CodeGeneratorException("", "Invalid enum-mapping in OTC-command : " + targetOCC.commandId
+						+ ". '" + entry.getKey() + "' is not a constant of " + sourceOCD.fieldType.getName());
+			}
+			if (targetOCD.isEnum() && entry.getValue() != null
+					&& !isEnumConstant(targetOCD.fieldType, entry.getValue())) {
+				throw new CodeGeneratorException("", "Invalid enum-mapping in OTC-command : " + targetOCC.commandId
+						+ ". '" + entry.getValue() + "' is not a constant of " + targetOCD.fieldType.getName());
+			}
+			enumMappingsBuilder.append(", ").append(toStringLiteral(entry.getKey())).append(", ")
+					.append(toStringLiteral(entry.getValue()));
+		}
+		return enumMappingsBuilder.toString();
+	}
+
+	/**
+	 * Checks if the name is of a constant of the enum-type.
+	 *
+	 * @param enumType the enum type
+	 * @param name     the name
+	 * @return true, if is enum constant
+	 */
+	private static boolean isEnumConstant(Class<?> enumType, String name) {
+		for (Object enumConstant : enumType.getEnumConstants()) {
+			if (((Enum<?>) enumConstant).name().equals(name)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * To string literal.
+	 *
+	 * @param value the value
+	 * @return the string literal
+	 */
+	private static String toStringLiteral(String value) {
+		if (value == null) {
+			return "null";
+		}
+		return "\"" + value.replace("\\", "\\\\").replace("\"", "\\\"") + "\"";
+	}
 }
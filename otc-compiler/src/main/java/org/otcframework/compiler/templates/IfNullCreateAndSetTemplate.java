@@ -61,12 +61,19 @@ public final class IfNullCreateAndSetTemplate extends AbstractTemplate {
 		OtcCommandDto targetOCD = targetOCC.otcCommandDto;
 		String concreteType = fetchConcreteTypeName(targetOCC, targetOCD);
 		String varName = createVarName(targetOCD, createNewVarName, varNamesSet, varNamesMap);
+		String sizeVar = targetOCD.isCollectionOrMap() ? targetOCC.collectionSizeVar : null;
+		String capacity = null;
 		if (targetOCD.isArray() && TARGET_SOURCE.TARGET == targetOCD.enumTargetSource) {
-			if (arraySize != null) {
+			if (sizeVar != null) {
+				int idx = concreteType.indexOf("[]");
+				concreteType = concreteType.substring(0, idx) + "[" + sizeVar + "]" + concreteType.substring(idx + 2);
+			} else if (arraySize != null) {
 				concreteType = concreteType.replace("[]", "[" + arraySize + "]");
 			} else {
 				concreteType = concreteType.replace("[]", "[" + 1 + "]");
 			}
+		} else if (sizeVar != null) {
+			capacity = createCapacityExpression(targetOCD, sizeVar);
 		}
 		String parentVarName = null;
 		if (targetOCD.isFirstNode) {
@@ -79,13 +86,21 @@ public final class IfNullCreateAndSetTemplate extends AbstractTemplate {
 		if (PackagesFilterUtil.isFilteredPackage(targetOCD.fieldType) || targetOCD.isCollectionOrMap()) {
 			if (targetOCD.enableSetterHelper) {
 				String helper = targetOCC.factoryClassDto.addImport(targetOCC.helper);
-				ifNullSetterCode = String.format(IF_NULL_CREATE_AND_HELPER_SET_TEMPLATE, varName, varName, concreteType,
-						helper, setter, parentVarName, varName);
+				if (capacity != null) {
+					ifNullSetterCode = String.format(IF_NULL_CREATE_SIZED_AND_HELPER_SET_TEMPLATE, varName, varName,
+							concreteType, capacity, helper, setter, parentVarName, varName);
+				} else {
+					ifNullSetterCode = String.format(IF_NULL_CREATE_AND_HELPER_SET_TEMPLATE, varName, varName,
+							concreteType, helper, setter, parentVarName, varName);
+				}
 			} else {
 				if (targetOCD.isEnum()) {
-					value = createConvertExpression(targetOCD, value);
+					value = createConstant(targetOCC, targetOCD, value);
 					ifNullSetterCode = String.format(IF_NULL_ENUM_CREATE_AND_SET_TEMPLATE, varName, varName, concreteType,
 							value, parentVarName, setter, varName);
+				} else if (capacity != null) {
+					ifNullSetterCode = String.format(IF_NULL_CREATE_SIZED_AND_SET_TEMPLATE, varName, varName,
+							concreteType, capacity, parentVarName, setter, varName);
 				} else {
 					ifNullSetterCode = String.format(IF_NULL_CREATE_AND_SET_TEMPLATE, varName, varName, concreteType,
 							parentVarName, setter, varName);
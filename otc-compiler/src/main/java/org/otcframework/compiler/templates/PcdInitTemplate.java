@@ -88,7 +88,8 @@ public final class PcdInitTemplate extends AbstractTemplate {
 			}
 			isCollectionFound = true;
 		}
-		if (sourceOtcChain != null && sourceOtcChain.contains(OtcConstants.OPEN_BRACKET)) {
+		boolean isSourceIndexFree = targetOCC.scriptDto != null && targetOCC.scriptDto.isSourceIndexFree;
+		if (sourceOtcChain != null && sourceOtcChain.contains(OtcConstants.OPEN_BRACKET) && !isSourceIndexFree) {
 			memberPcdsCode.append(String.format(PARENT_SOURCE_ICD_TEMPLATE));
 			if (!targetOCC.hasExecuteModule && !targetOCC.hasExecuteConverter) {
 				memberPcdsCode.append(MEMBER_SOURCE_ICD_TEMPLATE);
@@ -101,7 +102,7 @@ public final class PcdInitTemplate extends AbstractTemplate {
 				memberPcdsCode.append(KEY_TARGET_ICD_TEMPLATE);
 				memberPcdsCode.append(VALUE_TARGET_ICD_TEMPLATE);
 			}
-			if (sourceOtcChain != null && (sourceOtcChain.contains(OtcConstants.MAP_KEY_REF)
+			if (sourceOtcChain != null && !isSourceIndexFree && (sourceOtcChain.contains(OtcConstants.MAP_KEY_REF)
 					|| sourceOtcChain.contains(OtcConstants.MAP_VALUE_REF))) {
 				memberPcdsCode.append(KEY_SOURCE_ICD_TEMPLATE);
 				memberPcdsCode.append(VALUE_SOURCE_ICD_TEMPLATE);
@@ -111,12 +112,6 @@ public final class PcdInitTemplate extends AbstractTemplate {
 		if (targetOCC.hasAnchorInChain) {
 			memberPcdsCode.append(ANCHORED_ICD_TEMPLATE);
 		}
-		if (targetOCC.hasExecuteConverter) {
-			String otcConverter = targetOCC.executeOtcConverter;
-			otcConverter = targetOCC.factoryClassDto.addImport(otcConverter);
-			String varName = createVarName(otcConverter, varNamesSet, false);
-			memberPcdsCode.append(String.format(CREATE_INSTANCE_TEMPLATE, otcConverter, varName, otcConverter));
-		}
 		return addInlineComments(INLINE_COMMENTS, memberPcdsCode.toString());
 	}
 
@@ -149,8 +144,8 @@ public final class PcdInitTemplate extends AbstractTemplate {
 		OtcCommandDto targetOCD = targetOCC.otcCommandDto;
 		String varName = createVarName(targetOCD, false, varNamesSet, varNamesMap);
 		String icdId = createIcdKey(targetOCD.otcToken);
-		return String.format(IF_NULL_TARGET_ICD_CREATE_TEMPLATE, PARENT_TARGET_ICD, MEMBER_TARGET_ICD,
-				icdId, PARENT_TARGET_ICD, PARENT_TARGET_ICD, MEMBER_TARGET_ICD, varName, icdId);
+		return String.format(IF_NULL_TARGET_ICD_CREATE_TEMPLATE, PARENT_TARGET_ICD, MEMBER_TARGET_ICD, CHILD,
+				icdId, PARENT_TARGET_ICD, PARENT_TARGET_ICD, CREATE, MEMBER_TARGET_ICD, varName, icdId);
 	}
 
 	/**
@@ -180,8 +175,7 @@ public final class PcdInitTemplate extends AbstractTemplate {
 		String logMsg = "'" + targetOCD.tokenPath + IS_NULL;
 		String ifNullParentPcdReturnCode = null;
 		ifNullParentPcdReturnCode = String.format(IF_NULL_ICD_RETURN_TEMPLATE, PARENT_TARGET_ICD, MEMBER_TARGET_ICD,
-				createIcdKey(targetOCD.otcToken), PARENT_TARGET_ICD, PARENT_TARGET_ICD, PARENT_TARGET_ICD, logLevel,
-				logMsg);
+				CHILD, createIcdKey(targetOCD.otcToken), PARENT_TARGET_ICD, PARENT_TARGET_ICD, logLevel, logMsg);
 		return ifNullParentPcdReturnCode;
 	}
 
@@ -208,12 +202,13 @@ public final class PcdInitTemplate extends AbstractTemplate {
 		}
 		String ifNullParentPcdReturnCode = null;
 		String icdId = createIcdKey(targetOCD, null, idx);
+		String icdAccessor = fetchIcdAccessor(targetOCD);
 		if (targetOCC.hasDescendantCollectionOrMap() && !targetOCD.isMapValue()) {
 			ifNullParentPcdReturnCode = String.format(IF_NULL_ICD_RETURN_TEMPLATE, MEMBER_TARGET_ICD, PARENT_TARGET_ICD,
-					icdId, MEMBER_TARGET_ICD, MEMBER_TARGET_ICD, MEMBER_TARGET_ICD, logLevel, logMsg);
+					icdAccessor, icdId, MEMBER_TARGET_ICD, MEMBER_TARGET_ICD, logLevel, logMsg);
 		} else {
 			ifNullParentPcdReturnCode = String.format(IF_NULL_LAST_ICD_RETURN_TEMPLATE, MEMBER_TARGET_ICD, PARENT_TARGET_ICD,
-					icdId, MEMBER_TARGET_ICD, logLevel, logMsg);
+					icdAccessor, icdId, MEMBER_TARGET_ICD, logLevel, logMsg);
 		}
 		return ifNullParentPcdReturnCode;
 	}
@@ -242,9 +237,8 @@ public final class PcdInitTemplate extends AbstractTemplate {
 	public static String generateIfNullSourceParentPcdReturnCode(SourceOtcCommandContext sourceOCC, LogLevel logLevel) {
 		OtcCommandDto sourceOCD = sourceOCC.otcCommandDto;
 		String logMsg = "'" + sourceOCD.tokenPath + IS_NULL;
-		return String.format(IF_NULL_ICD_RETURN_TEMPLATE, PARENT_SOURCE_ICD, MEMBER_SOURCE_ICD,
-				createIcdKey(sourceOCD.otcToken), PARENT_SOURCE_ICD, PARENT_SOURCE_ICD, PARENT_SOURCE_ICD, logLevel,
-				logMsg);
+		return String.format(IF_NULL_ICD_RETURN_TEMPLATE, PARENT_SOURCE_ICD, MEMBER_SOURCE_ICD, CHILD,
+				createIcdKey(sourceOCD.otcToken), PARENT_SOURCE_ICD, PARENT_SOURCE_ICD, logLevel, logMsg);
 	}
 
 	/**
@@ -262,11 +256,12 @@ public final class PcdInitTemplate extends AbstractTemplate {
 		String ifNullPcdReturnCode = null;
 		if (sourceOCC.hasDescendantCollectionOrMap()) {
 			ifNullPcdReturnCode = String.format(IF_NULL_ICD_RETURN_TEMPLATE, MEMBER_SOURCE_ICD, PARENT_SOURCE_ICD,
-					createIcdKey(sourceOCD, null, idx), MEMBER_SOURCE_ICD, MEMBER_SOURCE_ICD, MEMBER_SOURCE_ICD,
-					logLevel, logMsg);
+					fetchIcdAccessor(sourceOCD), createIcdKey(sourceOCD, null, idx), MEMBER_SOURCE_ICD,
+					MEMBER_SOURCE_ICD, logLevel, logMsg);
 		} else {
 			ifNullPcdReturnCode = String.format(IF_NULL_LAST_ICD_RETURN_TEMPLATE, MEMBER_SOURCE_ICD, PARENT_SOURCE_ICD,
-					createIcdKey(sourceOCD, null, idx), MEMBER_SOURCE_ICD, logLevel, logMsg);
+					fetchIcdAccessor(sourceOCD), createIcdKey(sourceOCD, null, idx), MEMBER_SOURCE_ICD, logLevel,
+					logMsg);
 		}
 		return ifNullPcdReturnCode;
 	}
@@ -36,6 +36,8 @@ import java.util.Set;
  */
 public class SetterTemplate extends AbstractTemplate {
 
+	private static final String JAVA_TIME_PACKAGE = "java.time.";
+
 	private static final String INLINE_COMMENTS = "\n// ---- generator - " +
 			SetterTemplate.class.getSimpleName();
 
@@ -68,7 +70,7 @@ public class SetterTemplate extends AbstractTemplate {
 		}
 		String setterCode = null;
 		targetOCC.factoryClassDto.addImport(otcCommandDto.fieldType.getName());
-		value = createConvertExpression(otcCommandDto, value);
+		value = createConstant(targetOCC, otcCommandDto, value);
 		if (otcCommandDto.enableSetterHelper) {
 			String helper = targetOCC.factoryClassDto.addImport(targetOCC.helper);
 			setterCode = String.format(HELPER_SETTER_TEMPLATE, helper, otcCommandDto.setter, parentVarName, value);
@@ -76,8 +78,13 @@ public class SetterTemplate extends AbstractTemplate {
 			if (DateConverterFacade.isOfAnyDateType(otcCommandDto.fieldType)) {
 				targetOCC.factoryClassDto.addImport(DateConverterFacade.class.getName());
 				String clz = fetchSanitizedTypeName(targetOCC, otcCommandDto);
-				setterCode = String.format(DATE_CONVERTER_TEMPLATE, parentVarName, otcCommandDto.setter, value,
-						clz);
+				String dateValue = String.format(DATE_VALUE_TEMPLATE, value, clz);
+				if (otcCommandDto.fieldType.getName().startsWith(JAVA_TIME_PACKAGE)) {
+					// -- the java.time types are immutable - so their converted literal is held in a constant
+					evaluateLiteral(targetOCC, otcCommandDto.fieldType, value);
+					dateValue = targetOCC.factoryClassDto.addStaticField(CONSTANT, clz, dateValue);
+				}
+				setterCode = String.format(SETTER_TEMPLATE, parentVarName, otcCommandDto.setter, dateValue);
 			} else {
 				setterCode = String.format(SETTER_TEMPLATE, parentVarName, otcCommandDto.setter, value);
 			}
@@ -0,0 +1,263 @@
+/**
+* Copyright (c) otcframework.org
+*
+* @author  Franklin J Abel
+* @version 1.0
+* @since   2020-06-08 
+*
+* This file is part of the OTC framework.
+* 
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*      https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*
+*/
+package org.otcframework.compiler.templates;
+
+import org.otcframework.common.dto.ClassDto;
+import org.otcframework.common.dto.OtcCommandDto;
+import org.otcframework.common.util.CommonUtils;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The Class SourceIndexerTemplate.
+ */
+public final class SourceIndexerTemplate extends AbstractTemplate {
+
+	private static final String INLINE_COMMENTS = "\n// ---- generator - " +
+			SourceIndexerTemplate.class.getSimpleName();
+
+	/**
+	 * Instantiates a new source indexer template.
+	 */
+	private SourceIndexerTemplate() {
+	}
+
+	/**
+	 * Generate class begin code.
+	 *
+	 * @param classDto  the class dto
+	 * @param sourceClz the source clz
+	 * @return the string
+	 */
+	public static String generateClassBeginCode(ClassDto classDto, Class<?> sourceClz) {
+		String packageName = classDto.packageName;
+		if (packageName == null) {
+			packageName = "";
+		}
+		String sourceType = fetchTypeName(sourceClz);
+		String rootSourceVariable = createRootVarName(sourceClz);
+		String classBeginBody = String.format(SOURCE_INDEXER_CLASS_BEGIN_CODE_TEMPLATE, packageName,
+				classDto.className, sourceType, sourceType, rootSourceVariable, rootSourceVariable);
+		if (CommonUtils.isTrimmedAndEmpty(packageName)) {
+			classBeginBody = classBeginBody.replace("package ;\n", "");
+		}
+		return addInlineComments(INLINE_COMMENTS, classBeginBody);
+	}
+
+	/**
+	 * Generate chain method call code.
+	 *
+	 * @param methodName the method name
+	 * @param sourceClz  the source clz
+	 * @return the string
+	 */
+	public static String generateChainMethodCallCode(String methodName, Class<?> sourceClz) {
+		return String.format(INDEX_CHAIN_METHOD_CALL_TEMPLATE, methodName, createRootVarName(sourceClz));
+	}
+
+	/**
+	 * Generate method end code.
+	 *
+	 * @return the string
+	 */
+	public static String generateMethodEndCode() {
+		return INDEX_METHOD_END_TEMPLATE;
+	}
+
+	/**
+	 * Generate chain method begin code.
+	 *
+	 * @param methodName  the method name
+	 * @param otcChain    the otc chain
+	 * @param sourceClz   the source clz
+	 * @param varNamesSet the var names set
+	 * @return the string
+	 */
+	public static String generateChainMethodBeginCode(String methodName, String otcChain, Class<?> sourceClz,
+			Set<String> varNamesSet) {
+		String rootSourceVariable = sanitizeVarName(createRootVarName(sourceClz), varNamesSet);
+		varNamesSet.add("rootICD");
+		String methodBeginCode = String.format(INDEX_CHAIN_METHOD_BEGIN_TEMPLATE, methodName,
+				fetchTypeName(sourceClz), rootSourceVariable);
+		return methodBeginCode + addInlineComments(INLINE_COMMENTS, "\n// ---- indexing - " + otcChain);
+	}
+
+	/**
+	 * Generate getter if null code.
+	 *
+	 * @param otcCommandDto the otc command dto
+	 * @param sourceClz     the source clz
+	 * @param helper        the helper
+	 * @param isInLoop      the is in loop
+	 * @param varNamesSet   the var names set
+	 * @param varNamesMap   the var names map
+	 * @return the string
+	 */
+	public static String generateGetterIfNullCode(OtcCommandDto otcCommandDto, Class<?> sourceClz,
+			String helper, boolean isInLoop, Set<String> varNamesSet, Map<String, String> varNamesMap) {
+		String parentVarName;
+		if (otcCommandDto.isFirstNode) {
+			parentVarName = createRootVarName(sourceClz);
+		} else {
+			parentVarName = createVarName(otcCommandDto.parent, false, varNamesSet, varNamesMap);
+		}
+		String fieldType = fetchTypeName(otcCommandDto);
+		String varName = createVarName(otcCommandDto, true, varNamesSet, varNamesMap);
+		String exitCode = isInLoop ? CONTINUE : RETURN;
+		if (otcCommandDto.enableGetterHelper) {
+			return String.format(INDEX_HELPER_GETTER_IF_NULL_TEMPLATE, fieldType, varName, helper,
+					otcCommandDto.getter, parentVarName, varName, exitCode);
+		}
+		return String.format(INDEX_GETTER_IF_NULL_TEMPLATE, fieldType, varName, parentVarName,
+				otcCommandDto.getter, varName, exitCode);
+	}
+
+	/**
+	 * Generate if empty code.
+	 *
+	 * @param otcCommandDto the otc command dto
+	 * @param isInLoop      the is in loop
+	 * @param varNamesSet   the var names set
+	 * @param varNamesMap   the var names map
+	 * @return the string
+	 */
+	public static String generateIfEmptyCode(OtcCommandDto otcCommandDto, boolean isInLoop,
+			Set<String> varNamesSet, Map<String, String> varNamesMap) {
+		String varName = createVarName(otcCommandDto, false, varNamesSet, varNamesMap);
+		String exitCode = isInLoop ? CONTINUE : RETURN;
+		if (otcCommandDto.isArray()) {
+			return String.format(INDEX_IF_EMPTY_ARRAY_TEMPLATE, varName, exitCode);
+		}
+		return String.format(INDEX_IF_EMPTY_TEMPLATE, varName, exitCode);
+	}
+
+	/**
+	 * Generate retrieve or create collection icd code.
+	 *
+	 * @param otcCommandDto   the otc command dto
+	 * @param icdKey          the icd key
+	 * @param parentIcdVarName the parent icd var name
+	 * @param varNamesSet     the var names set
+	 * @param varNamesMap     the var names map
+	 * @return the icd var name followed by the code
+	 */
+	public static String[] generateRetrieveOrCreateIcdCode(OtcCommandDto otcCommandDto, String icdKey,
+			String parentIcdVarName, Set<String> varNamesSet, Map<String, String> varNamesMap) {
+		String varName = createVarName(otcCommandDto, false, varNamesSet, varNamesMap);
+		String icdVarName = sanitizeVarName(varName + "ICD", varNamesSet);
+		icdKey = createIcdKey(icdKey);
+		String code = String.format(INDEX_RETRIEVE_OR_CREATE_ICD_TEMPLATE, icdVarName, parentIcdVarName, CHILD,
+				icdKey, icdVarName, icdVarName, CREATE, parentIcdVarName, varName, icdKey);
+		return new String[] { icdVarName, code };
+	}
+
+	/**
+	 * Generate for each member code - opens the loop over the collection / array / map and retrieves or creates
+	 * the ICD of the member.
+	 *
+	 * @param otcCommandDto    the otc command dto of the collection / map
+	 * @param memberOCD        the member OCD
+	 * @param parentIcdVarName the parent icd var name
+	 * @param varNamesSet      the var names set
+	 * @param varNamesMap      the var names map
+	 * @return the member icd var name followed by the code
+	 */
+	public static String[] generateForEachMemberCode(OtcCommandDto otcCommandDto, OtcCommandDto memberOCD,
+			String parentIcdVarName, Set<String> varNamesSet, Map<String, String> varNamesMap) {
+		String varName = createVarName(otcCommandDto, false, varNamesSet, varNamesMap);
+		String memberType = fetchTypeName(memberOCD);
+		String memberVarName = createVarName(memberOCD, true, varNamesSet, varNamesMap);
+		String idxVarName = sanitizeVarName("idx", varNamesSet);
+		String keyVarName;
+		String forEachCode;
+		if (otcCommandDto.isArray()) {
+			keyVarName = idxVarName;
+			forEachCode = String.format(INDEX_FOR_EACH_ARRAY_MEMBER_TEMPLATE, idxVarName, idxVarName, varName,
+					idxVarName, memberType, memberVarName, varName, idxVarName);
+		} else if (otcCommandDto.isMap()) {
+			keyVarName = sanitizeVarName("key", varNamesSet);
+			String entryVarName = sanitizeVarName("entry", varNamesSet);
+			String entryGetter = memberOCD.isMapKey() ? "getKey" : "getValue";
+			forEachCode = String.format(INDEX_FOR_EACH_MAP_ENTRY_TEMPLATE, idxVarName, entryVarName, varName,
+					memberType, memberVarName, memberType, entryVarName, entryGetter, keyVarName, idxVarName);
+		} else {
+			keyVarName = sanitizeVarName("key", varNamesSet);
+			forEachCode = String.format(INDEX_FOR_EACH_MEMBER_TEMPLATE, idxVarName, memberType, memberVarName,
+					varName, keyVarName, idxVarName);
+		}
+		String memberIcdVarName = sanitizeVarName(memberVarName + "ICD", varNamesSet);
+		String memberIcdCode = String.format(INDEX_RETRIEVE_OR_CREATE_ICD_TEMPLATE, memberIcdVarName,
+				parentIcdVarName, fetchIcdAccessor(memberOCD), keyVarName, memberIcdVarName, memberIcdVarName,
+				fetchIcdFactoryMethod(memberOCD), parentIcdVarName, memberVarName, keyVarName);
+		return new String[] { memberIcdVarName, forEachCode + memberIcdCode };
+	}
+
+	/**
+	 * Generate if null continue code.
+	 *
+	 * @param otcCommandDto the otc command dto
+	 * @param varNamesSet   the var names set
+	 * @param varNamesMap   the var names map
+	 * @return the string
+	 */
+	public static String generateIfNullContinueCode(OtcCommandDto otcCommandDto, Set<String> varNamesSet,
+			Map<String, String> varNamesMap) {
+		String varName = createVarName(otcCommandDto, false, varNamesSet, varNamesMap);
+		return String.format(INDEX_IF_NULL_CONTINUE_TEMPLATE, varName);
+	}
+
+	/**
+	 * Creates the root var name.
+	 *
+	 * @param clz the clz
+	 * @return the string
+	 */
+	private static String createRootVarName(Class<?> clz) {
+		return CommonUtils.initLower(clz.getSimpleName());
+	}
+
+	/**
+	 * Fetch type name.
+	 *
+	 * @param clz the clz
+	 * @return the string
+	 */
+	private static String fetchTypeName(Class<?> clz) {
+		return clz.getTypeName().replace("$", ".");
+	}
+
+	/**
+	 * Fetch type name - generic type name is used for the declared collections and maps so that the members
+	 * can be read without casts.
+	 *
+	 * @param otcCommandDto the otc command dto
+	 * @return the string
+	 */
+	private static String fetchTypeName(OtcCommandDto otcCommandDto) {
+		if (otcCommandDto.field != null && otcCommandDto.isCollectionOrMap() && !otcCommandDto.isArray()) {
+			return otcCommandDto.field.getGenericType().getTypeName().replace("$", ".");
+		}
+		return fetchTypeName(otcCommandDto.fieldType);
+	}
+}
@@ -23,13 +23,28 @@
 package org.otcframework.compiler.utils;
 
 import org.otcframework.common.OtcConstants;
+import org.otcframework.common.config.OtcConfig;
+import org.otcframework.common.dto.otc.OtcFileDto;
 import org.otcframework.common.util.CommonUtils;
+import org.otcframework.common.util.YamlSerializationHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * The Class CompilerUtil.
  */
 public final class CompilerUtil {
 
+	private static final Logger LOGGER = LoggerFactory.getLogger(CompilerUtil.class);
+
+	/** The module main classes resolved so far, keyed by namespace, source and target types. */
+	private static final Map<String, String> MODULE_MAIN_CLASSES = new ConcurrentHashMap<>();
+
 	private CompilerUtil() {}
 	/**
 	 * Builds the java class name.
@@ -107,4 +122,55 @@ public final class CompilerUtil {
 		identifier = new String(chars).replace(".", "");
 		return identifier;
 	}
+
+	/**
+	 * Resolves the fully qualified name of the main-class generated for the OTCS file in the otc-namespace mapping
+	 * the source type to the target type - used to link 'executeModule' calls at compile time.
+	 *
+	 * @param otcNamespace the otc namespace
+	 * @param sourceClz    the source clz
+	 * @param targetClz    the target clz
+	 * @return the main class name - null if no OTCS file in the otc-namespace maps the types
+	 */
+	public static String resolveModuleMainClass(String otcNamespace, Class<?> sourceClz, Class<?> targetClz) {
+		String key = otcNamespace + ":" + sourceClz.getName() + ":" + targetClz.getName();
+		String mainClassName = MODULE_MAIN_CLASSES.get(key);
+		if (mainClassName != null) {
+			return mainClassName;
+		}
+		String otcNamespacePath = CommonUtils.isTrimmedAndEmpty(otcNamespace) ? ""
+				: otcNamespace.replace(".", File.separator);
+		File[] files = new File(OtcConfig.getUnitTestDirectoryPath(), otcNamespacePath).listFiles(
+				CommonUtils.createFilenameFilter(OtcConstants.OTC_SCRIPT_EXTN));
+		if (files == null) {
+			return null;
+		}
+		for (File file : files) {
+			if (file.isDirectory()) {
+				continue;
+			}
+			OtcFileDto otcFileDto;
+			try {
+				otcFileDto = YamlSerializationHelper.deserialize(file, OtcFileDto.class);
+			} catch (IOException e) {
+				LOGGER.warn("Could not read OTCS file {} while resolving modules. {}", file, e.getMessage());
+				continue;
+			}
+			OtcFileDto.Metadata metadata = otcFileDto.metadata;
+			if (metadata == null || metadata.objectTypes == null
+					|| !sourceClz.getName().equals(metadata.objectTypes.source)
+					|| !targetClz.getName().equals(metadata.objectTypes.target)) {
+				continue;
+			}
+			if (metadata.entryClassName != null) {
+				mainClassName = CommonUtils.isTrimmedAndEmpty(otcNamespace) ? metadata.entryClassName
+						: otcNamespace + "." + metadata.entryClassName;
+			} else {
+				mainClassName = buildJavaClassName(otcNamespace, file.getName());
+			}
+			MODULE_MAIN_CLASSES.put(key, mainClassName);
+			return mainClassName;
+		}
+		return null;
+	}
 }
@@ -0,0 +1,201 @@
+/**
+ * Copyright (c) otcframework.org
+ *
+ * @author  Franklin J Abel
+ * @version 1.0
+ * @since   2020-06-08
+ *
+ * This file is part of the OTC framework.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package org.otcframework.compiler;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.otcframework.common.config.OtcConfig;
+import org.otcframework.common.dto.RegistryDto;
+import org.otcframework.common.dto.RegistryDto.CompiledInfo;
+import org.otcframework.common.executor.CodeExecutor;
+import org.otcframework.common.executor.SourceIndexer;
+import org.otcframework.compiler.pojo.Invoice;
+import org.otcframework.compiler.pojo.Item;
+import org.otcframework.compiler.pojo.Line;
+import org.otcframework.compiler.pojo.Order;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Field;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+
+/**
+ * The Class FusedLoopsCodeGeneratorTest - compiles 'otc-unittest/fused', of consecutive commands on the same source
+ * path followed by one on another, with and without fusing their loops, and runs both executors on the same sources.
+ */
+public class FusedLoopsCodeGeneratorTest {
+
+	/** The Constant REGISTRY_FILE_NAME. */
+	private static final String REGISTRY_FILE_NAME = "fused.OrderToInvoice.tmd";
+
+	/** The Constant POJO_CLASSES - packaged into the lib of OTC_HOME, where the compiler loads the types from. */
+	private static final List<Class<?>> POJO_CLASSES = Arrays.asList(Order.class, Item.class, Invoice.class,
+			Line.class);
+
+	/**
+	 * Creates the pojo jar - in the lib directory of OTC_HOME.
+	 *
+	 * @throws IOException Signals that an I/O exception has occurred.
+	 */
+	@BeforeClass
+	public static void createPojoJar() throws IOException {
+		File libDirectory = new File(OtcConfig.getOtcLibDirectoryPath());
+		libDirectory.mkdirs();
+		try (JarOutputStream jarOutputStream = new JarOutputStream(
+				new FileOutputStream(new File(libDirectory, "pojo.jar")))) {
+			for (Class<?> pojoClass : POJO_CLASSES) {
+				String entryName = pojoClass.getName().replace('.', '/') + ".class";
+				jarOutputStream.putNextEntry(new JarEntry(entryName));
+				try (InputStream inputStream = pojoClass.getClassLoader().getResourceAsStream(entryName)) {
+					byte[] buffer = new byte[4096];
+					for (int length; (length = inputStream.read(buffer)) > 0;) {
+						jarOutputStream.write(buffer, 0, length);
+					}
+				}
+				jarOutputStream.closeEntry();
+			}
+		}
+	}
+
+	/**
+	 * Fused loops map the same targets as the separate loops of the commands - with and without null properties
+	 * in the members of the source collection, which skip only their own command in the fused loop.
+	 *
+	 * @throws Exception the exception
+	 */
+	@Test
+	public void fusedLoopsMapTheSameAsSeparateLoops() throws Exception {
+		List<String> unfusedLines;
+		List<String> unfusedNullPropertiesLines;
+		try (CompiledExecutor unfused = compile(false)) {
+			assertEquals(3, unfused.factoryClassNames().size());
+			unfusedLines = unfused.execute(createOrder(false));
+			unfusedNullPropertiesLines = unfused.execute(createOrder(true));
+		}
+		try (CompiledExecutor fused = compile(true)) {
+			assertEquals(2, fused.factoryClassNames().size());
+			assertEquals(unfusedLines, fused.execute(createOrder(false)));
+			assertEquals(unfusedNullPropertiesLines, fused.execute(createOrder(true)));
+		}
+		assertEquals(Arrays.asList("a/1/a", "b/2/b", "c/3/c"), unfusedLines);
+	}
+
+	private static Order createOrder(boolean withNullProperties) {
+		List<Item> items = new ArrayList<>();
+		items.add(createItem("a", 1));
+		if (withNullProperties) {
+			items.add(createItem(null, 2));
+			items.add(createItem("c", null));
+		} else {
+			items.add(createItem("b", 2));
+			items.add(createItem("c", 3));
+		}
+		Order order = new Order();
+		order.setItems(items);
+		return order;
+	}
+
+	private static Item createItem(String id, Integer qty) {
+		Item item = new Item();
+		item.setId(id);
+		item.setQty(qty);
+		return item;
+	}
+
+	private static CompiledExecutor compile(boolean fuseCollectionLoops) throws Exception {
+		Field yamlConfigField = OtcConfig.class.getDeclaredField("YAML_CONFIG");
+		yamlConfigField.setAccessible(true);
+		OtcConfig.YamlConfig yamlConfig = (OtcConfig.YamlConfig) yamlConfigField.get(null);
+		if (yamlConfig.compiler == null) {
+			yamlConfig.compiler = new OtcConfig.YamlConfig.CompilerProps();
+		}
+		yamlConfig.compiler.fuseCollectionLoops = fuseCollectionLoops;
+		OtcsCompilerImpl.getInstance().compileOtcsFiles();
+		OtcsCompilerImpl.getInstance().compileSourceCode();
+		File registryFile = new File(OtcConfig.getOtcTmdDirectoryPath(), REGISTRY_FILE_NAME);
+		RegistryDto registryDto = new ObjectMapper().readValue(registryFile, RegistryDto.class);
+		return new CompiledExecutor(registryDto);
+	}
+
+	/**
+	 * The Class CompiledExecutor - the executor and source indexer compiled for the OTCS file, loaded afresh.
+	 */
+	private static final class CompiledExecutor implements AutoCloseable {
+
+		private final RegistryDto registryDto;
+
+		private final URLClassLoader classLoader;
+
+		private final CodeExecutor<Order, Invoice> codeExecutor;
+
+		private final SourceIndexer<Order> sourceIndexer;
+
+		@SuppressWarnings("unchecked")
+		private CompiledExecutor(RegistryDto registryDto) throws Exception {
+			this.registryDto = registryDto;
+			URL url = new File(OtcConfig.getTargetDirectoryPath()).toURI().toURL();
+			classLoader = new URLClassLoader(new URL[] { url }, FusedLoopsCodeGeneratorTest.class.getClassLoader());
+			codeExecutor = (CodeExecutor<Order, Invoice>) classLoader.loadClass(registryDto.mainClass)
+					.getDeclaredConstructor().newInstance();
+			assertNotNull(registryDto.sourceIndexerClass);
+			sourceIndexer = (SourceIndexer<Order>) classLoader.loadClass(registryDto.sourceIndexerClass)
+					.getDeclaredConstructor().newInstance();
+		}
+
+		private Set<String> factoryClassNames() {
+			Set<String> factoryClassNames = new HashSet<>();
+			for (CompiledInfo compiledInfo : registryDto.compiledInfos.values()) {
+				factoryClassNames.add(compiledInfo.factoryClassName);
+			}
+			return factoryClassNames;
+		}
+
+		private List<String> execute(Order order) {
+			Invoice invoice = codeExecutor.execute(order, sourceIndexer.index(order), null);
+			List<String> lines = new ArrayList<>();
+			for (Line line : invoice.getLines()) {
+				lines.add(line == null ? null : line.getCode() + "/" + line.getCount() + "/" + line.getRemark());
+			}
+			return lines;
+		}
+
+		@Override
+		public void close() throws Exception {
+			classLoader.close();
+		}
+	}
+}
@@ -0,0 +1,76 @@
+/**
+ * Copyright (c) otcframework.org
+ *
+ * @author  Franklin J Abel
+ * @version 1.0
+ * @since   2020-06-08
+ *
+ * This file is part of the OTC framework.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package org.otcframework.compiler.templates;
+
+import org.junit.Test;
+import org.otcframework.compiler.command.TargetOtcCommandContext;
+import org.otcframework.compiler.exception.CodeGeneratorException;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * The Class AbstractTemplateTest.
+ */
+public class AbstractTemplateTest {
+
+	/**
+	 * The valid literals of the hoisted types are accepted, quoted or not.
+	 */
+	@Test
+	public void evaluateLiteralAcceptsValidLiterals() {
+		TargetOtcCommandContext targetOCC = createTargetOCC();
+		AbstractTemplate.evaluateLiteral(targetOCC, Integer.class, "42");
+		AbstractTemplate.evaluateLiteral(targetOCC, BigDecimal.class, "\"1.5\"");
+		AbstractTemplate.evaluateLiteral(targetOCC, TimeUnit.class, "SECONDS");
+		AbstractTemplate.evaluateLiteral(targetOCC, String.class, "any");
+	}
+
+	/**
+	 * An invalid literal fails the compilation, naming its command.
+	 */
+	@Test
+	public void evaluateLiteralRejectsInvalidLiterals() {
+		assertRejected(Integer.class, "4x2");
+		assertRejected(BigDecimal.class, "\"1.5.0\"");
+		assertRejected(TimeUnit.class, "FORTNIGHTS");
+	}
+
+	private static void assertRejected(Class<?> clz, String value) {
+		try {
+			AbstractTemplate.evaluateLiteral(createTargetOCC(), clz, value);
+			fail("The literal " + value + " of type " + clz.getName() + " is not rejected.");
+		} catch (CodeGeneratorException e) {
+			assertTrue(e.getMessage(), e.getMessage().contains("OTC-command : c1!"));
+		}
+	}
+
+	private static TargetOtcCommandContext createTargetOCC() {
+		TargetOtcCommandContext targetOCC = new TargetOtcCommandContext();
+		targetOCC.commandId = "c1";
+		return targetOCC;
+	}
+}
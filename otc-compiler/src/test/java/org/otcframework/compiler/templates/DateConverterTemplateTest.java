@@ -0,0 +1,105 @@
+/**
+ * Copyright (c) otcframework.org
+ *
+ * @author  Franklin J Abel
+ * @version 1.0
+ * @since   2020-06-08
+ *
+ * This file is part of the OTC framework.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package org.otcframework.compiler.templates;
+
+import org.junit.Test;
+import org.otcframework.common.dto.ClassDto;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZonedDateTime;
+import java.util.Collections;
+import java.util.Date;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * The Class DateConverterTemplateTest.
+ */
+public class DateConverterTemplateTest {
+
+	/** The Constant ZONE. */
+	private static final String ZONE = "java.time.ZoneId.systemDefault()";
+
+	/**
+	 * The pairs converted directly call the conversion method of the source.
+	 */
+	@Test
+	public void generateCodeOfDirectPairs() {
+		assertEquals("new java.util.Date(value.getTime())", generateCode(Date.class, Date.class));
+		assertEquals("value.toLocalDate()", generateCode(LocalDateTime.class, LocalDate.class));
+		assertEquals("value.atStartOfDay()", generateCode(LocalDate.class, LocalDateTime.class));
+		assertEquals("value.toLocalDateTime()", generateCode(ZonedDateTime.class, LocalDateTime.class));
+		assertEquals("value.toOffsetDateTime()", generateCode(ZonedDateTime.class, OffsetDateTime.class));
+		assertEquals("value.toZonedDateTime()", generateCode(OffsetDateTime.class, ZonedDateTime.class));
+		assertEquals("value", generateCode(LocalDate.class, LocalDate.class));
+		assertEquals("value", generateCode(Instant.class, Instant.class));
+	}
+
+	/**
+	 * The other pairs of java.util.Date and java.time types are converted through an Instant.
+	 */
+	@Test
+	public void generateCodeOfPairsViaInstant() {
+		assertEquals("java.time.LocalDateTime.ofInstant(java.time.Instant.ofEpochMilli(value.getTime()), " + ZONE
+				+ ")", generateCode(Date.class, LocalDateTime.class));
+		assertEquals("java.util.Date.from(value.atStartOfDay(" + ZONE + ").toInstant())",
+				generateCode(LocalDate.class, Date.class));
+		assertEquals("java.util.Date.from(value)", generateCode(Instant.class, Date.class));
+		assertEquals("value.atZone(" + ZONE + ").toLocalDate()", generateCode(Instant.class, LocalDate.class));
+		assertEquals("java.time.OffsetDateTime.ofInstant(value.atZone(" + ZONE + ").toInstant(), " + ZONE + ")",
+				generateCode(LocalDateTime.class, OffsetDateTime.class));
+	}
+
+	/**
+	 * Strings are parsed with a static ISO formatter, shared by the conversions to the same type.
+	 */
+	@Test
+	public void generateCodeOfStringToIsoType() {
+		ClassDto classDto = new ClassDto();
+		String code = DateConverterTemplate.generateCode(classDto, String.class, LocalDate.class, "value");
+		assertEquals("org.otcframework.common.util.DateConversions.parse(value, DATE_TIME_FORMATTER0, "
+				+ "java.time.LocalDate::from, java.time.LocalDate.class)", code);
+		assertEquals(code, DateConverterTemplate.generateCode(classDto, String.class, LocalDate.class, "value"));
+		assertEquals(Collections.singletonList("java.time.format.DateTimeFormatter DATE_TIME_FORMATTER0 = "
+				+ "java.time.format.DateTimeFormatter.ISO_LOCAL_DATE"), classDto.retrieveStaticFieldDeclarations());
+	}
+
+	/**
+	 * The pairs not specialised fall back to the DateConverterFacade.
+	 */
+	@Test
+	public void generateCodeOfOtherPairs() {
+		ClassDto classDto = new ClassDto();
+		assertEquals("DateConverterFacade.convert(value, java.util.Date.class)",
+				DateConverterTemplate.generateCode(classDto, String.class, Date.class, "value"));
+		assertTrue(classDto.retrieveImportFqNames().contains("etree.dateconverters.DateConverterFacade"));
+	}
+
+	private static String generateCode(Class<?> sourceType, Class<?> targetType) {
+		return DateConverterTemplate.generateCode(new ClassDto(), sourceType, targetType, "value");
+	}
+}
@@ -0,0 +1,138 @@
+/**
+* Copyright (c) otcframework.org
+*
+* @author  Franklin J Abel
+* @version 1.0
+* @since   2020-06-08 
+*
+* This file is part of the OTC framework.
+* 
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*      https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*
+*/
+package org.otcframework.executor;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * The Class BatchExecution - maps a range of the sources of a batch, forking into halves until the range fits
+ * in a chunk. Each chunk resolves its mapping handle once, and the targets are placed at the index of their
+ * sources.
+ *
+ * @param <S> the generic type
+ * @param <T> the generic type
+ */
+final class BatchExecution<S, T> extends RecursiveAction {
+
+	private static final long serialVersionUID = -3268502419427935160L;
+
+	/** The otc executor. */
+	private final transient OtcExecutor otcExecutor;
+
+	/** The otc namespace. */
+	private final String otcNamespace;
+
+	/** The sources. */
+	private final transient List<S> sources;
+
+	/** The target clz. */
+	private final Class<T> targetClz;
+
+	/** The data. */
+	private final transient Map<String, Object> data;
+
+	/** The targets. */
+	private final Object[] targets;
+
+	/** The from - inclusive. */
+	private final int from;
+
+	/** The to - exclusive. */
+	private final int to;
+
+	/** The chunk size. */
+	private final int chunkSize;
+
+	/**
+	 * Instantiates a new batch execution.
+	 *
+	 * @param otcExecutor  the otc executor
+	 * @param otcNamespace the otc namespace
+	 * @param sources      the sources - random access
+	 * @param targetClz    the target clz
+	 * @param data         the data
+	 * @param targets      the targets
+	 * @param from         the from
+	 * @param to           the to
+	 * @param chunkSize    the chunk size
+	 */
+	BatchExecution(OtcExecutor otcExecutor, String otcNamespace, List<S> sources, Class<T> targetClz,
+			Map<String, Object> data, Object[] targets, int from, int to, int chunkSize) {
+		this.otcExecutor = otcExecutor;
+		this.otcNamespace = otcNamespace;
+		this.sources = sources;
+		this.targetClz = targetClz;
+		this.data = data;
+		this.targets = targets;
+		this.from = from;
+		this.to = to;
+		this.chunkSize = chunkSize;
+	}
+
+	/**
+	 * Compute.
+	 */
+	@Override
+	protected void compute() {
+		if (to - from <= chunkSize) {
+			executeChunk();
+			return;
+		}
+		int mid = (from + to) >>> 1;
+		invokeAll(new BatchExecution<>(otcExecutor, otcNamespace, sources, targetClz, data, targets, from, mid,
+				chunkSize),
+				new BatchExecution<>(otcExecutor, otcNamespace, sources, targetClz, data, targets, mid, to,
+						chunkSize));
+	}
+
+	/**
+	 * Execute chunk - resolves the mapping handle afresh only when the class of the source changes.
+	 */
+	@SuppressWarnings("unchecked")
+	void executeChunk() {
+		MappingHandle<S, T> mappingHandle = null;
+		Class<?> handleClz = null;
+		for (int idx = from; idx < to; idx++) {
+			S source = sources.get(idx);
+			Class<?> sourceClz = source == null ? null : source.getClass();
+			if (mappingHandle == null || sourceClz != handleClz) {
+				mappingHandle = otcExecutor.handle(otcNamespace, (Class<S>) sourceClz, targetClz);
+				handleClz = sourceClz;
+			}
+			targets[idx] = mappingHandle.execute(source, data);
+		}
+	}
+
+	/**
+	 * Gets the targets - once the batch-execution has completed.
+	 *
+	 * @return the targets
+	 */
+	@SuppressWarnings("unchecked")
+	List<T> getTargets() {
+		return (List<T>) Arrays.asList(targets);
+	}
+}
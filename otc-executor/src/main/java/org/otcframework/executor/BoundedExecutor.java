@@ -0,0 +1,131 @@
+/**
+* Copyright (c) otcframework.org
+*
+* @author  Franklin J Abel
+* @version 1.0
+* @since   2020-06-08 
+*
+* This file is part of the OTC framework.
+* 
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*      https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*
+*/
+package org.otcframework.executor;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Deque;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The Class BoundedExecutor - runs the tasks on a delegate executor with at most a given number of them running
+ * at a time. The surplus tasks are queued without blocking the submitter, and dispatched as the running tasks
+ * complete. A task rejected by the delegate is put back at the head of the queue, to be dispatched on the next
+ * submission or completion; the submitter sees the rejection only if its own task could not be dispatched.
+ */
+public final class BoundedExecutor implements Executor {
+
+	/** The Constant LOGGER. */
+	private static final Logger LOGGER = LoggerFactory.getLogger(BoundedExecutor.class);
+
+	/** The delegate. */
+	private final Executor delegate;
+
+	/** The permits. */
+	private final Semaphore permits;
+
+	/** The queued tasks. */
+	private final Deque<Runnable> queuedTasks = new ConcurrentLinkedDeque<>();
+
+	/** The dispatch requests - made while a thread is dispatching, which then dispatches again for them. */
+	private final AtomicInteger dispatchRequests = new AtomicInteger();
+
+	/**
+	 * Instantiates a new bounded executor.
+	 *
+	 * @param delegate      the delegate
+	 * @param maxConcurrent the max concurrent
+	 */
+	public BoundedExecutor(Executor delegate, int maxConcurrent) {
+		this.delegate = delegate;
+		this.permits = new Semaphore(maxConcurrent);
+	}
+
+	/**
+	 * Execute.
+	 *
+	 * @param task the task
+	 */
+	@Override
+	public void execute(Runnable task) {
+		queuedTasks.add(task);
+		try {
+			dispatch();
+		} catch (RuntimeException e) {
+			if (queuedTasks.removeLastOccurrence(task)) {
+				throw e;
+			}
+		}
+	}
+
+	/**
+	 * Run - the task, and dispatches the queued tasks on its completion.
+	 *
+	 * @param task the task
+	 */
+	private void run(Runnable task) {
+		try {
+			task.run();
+		} finally {
+			permits.release();
+			try {
+				dispatch();
+			} catch (RuntimeException e) {
+				LOGGER.warn("Queued tasks retained - the delegate rejected them. {}", e.getMessage());
+			}
+		}
+	}
+
+	/**
+	 * Dispatch - the queued tasks, for as long as permits are available. Only one thread dispatches at a time, in
+	 * a loop, so that the tasks completing on a same-thread delegate do not recurse into it.
+	 */
+	private void dispatch() {
+		if (dispatchRequests.getAndIncrement() != 0) {
+			return;
+		}
+		int requests = 1;
+		do {
+			while (!queuedTasks.isEmpty() && permits.tryAcquire()) {
+				Runnable task = queuedTasks.poll();
+				if (task == null) {
+					permits.release();
+					continue;
+				}
+				try {
+					delegate.execute(() -> run(task));
+				} catch (RuntimeException e) {
+					permits.release();
+					queuedTasks.addFirst(task);
+					dispatchRequests.set(0);
+					throw e;
+				}
+			}
+			requests = dispatchRequests.addAndGet(-requests);
+		} while (requests != 0);
+	}
+}
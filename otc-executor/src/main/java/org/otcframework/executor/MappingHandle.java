@@ -0,0 +1,68 @@
+/**
+* Copyright (c) otcframework.org
+*
+* @author  Franklin J Abel
+* @version 1.0
+* @since   2020-06-08 
+*
+* This file is part of the OTC framework.
+* 
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*      https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*
+*/
+package org.otcframework.executor;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * The Interface MappingHandle - the compiled mapping of a source type to a target type, resolved once from the
+ * registry through {@link OtcExecutor#handle(String, Class, Class)} and reusable across threads.
+ *
+ * @param <S> the generic type
+ * @param <T> the generic type
+ */
+public interface MappingHandle<S, T> {
+
+	/**
+	 * Execute.
+	 *
+	 * @param source the source
+	 * @param data   the data
+	 * @return the t
+	 */
+	T execute(S source, Map<String, Object> data);
+
+	/**
+	 * Execute into an existing target - reusing the members and collections already in its graph.
+	 *
+	 * @param source the source
+	 * @param target the existing target
+	 * @param data   the data
+	 * @return the target
+	 */
+	T executeInto(S source, T target, Map<String, Object> data);
+
+	/**
+	 * Execute incremental - re-executes into an existing target only the commands reading the changed source
+	 * property-paths, e.g. 'items.id' or 'items[*].id'. A command is affected when its source-path is the changed
+	 * path, lies below it or above it.
+	 *
+	 * @param source       the source
+	 * @param target       the existing target
+	 * @param changedPaths the changed source paths
+	 * @param data         the data
+	 * @return the target
+	 */
+	T executeIncremental(S source, T target, Collection<String> changedPaths, Map<String, Object> data);
+}
@@ -0,0 +1,304 @@
+/**
+* Copyright (c) otcframework.org
+*
+* @author  Franklin J Abel
+* @version 1.0
+* @since   2020-06-08 
+*
+* This file is part of the OTC framework.
+* 
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*      https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*
+*/
+package org.otcframework.executor;
+
+import org.otcframework.common.OtcConstants.TARGET_SOURCE;
+import org.otcframework.common.config.OtcConfig;
+import org.otcframework.common.dto.RegistryDto;
+import org.otcframework.common.engine.indexer.dto.IndexedCollectionsDto;
+import org.otcframework.common.executor.CodeExecutor;
+import org.otcframework.common.executor.SkippedNulls;
+import org.otcframework.common.executor.SourceIndexer;
+import org.otcframework.common.indexer.IndexedCollectionsDtoArena;
+import org.otcframework.common.util.OtcUtils;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * The Class MappingHandleImpl.
+ *
+ * @param <S> the generic type
+ * @param <T> the generic type
+ */
+final class MappingHandleImpl<S, T> implements MappingHandle<S, T> {
+
+	/** The Constant objectIndexer. */
+	private static final ObjectIndexer objectIndexer = ObjectIndexerImpl.getInstance();
+
+	/** The Constant IDENTITY_INDEXING - the generated source indexer indexes each path on its own. */
+	private static final boolean IDENTITY_INDEXING = OtcConfig.getIdentityIndexing();
+
+	/** The otc namespace. */
+	private final String otcNamespace;
+
+	/** The source clz. */
+	private final Class<S> sourceClz;
+
+	/** The target clz. */
+	private final Class<T> targetClz;
+
+	/** The otc registry. */
+	private final OtcRegistry otcRegistry;
+
+	/** The registry dto - rebound when the registry is reloaded, or null until resolved afresh. */
+	private volatile RegistryDto registryDto;
+
+	/** The invalidations - guarded by the handle, so that a resolution racing with one is not cached. */
+	private volatile int invalidations;
+
+	/**
+	 * Instantiates a new mapping handle impl.
+	 *
+	 * @param otcRegistry  the otc registry
+	 * @param otcNamespace the otc namespace
+	 * @param sourceClz    the source clz
+	 * @param targetClz    the target clz
+	 * @param registryDto  the registry dto
+	 */
+	MappingHandleImpl(OtcRegistry otcRegistry, String otcNamespace, Class<S> sourceClz, Class<T> targetClz,
+			RegistryDto registryDto) {
+		this.otcRegistry = otcRegistry;
+		this.otcNamespace = otcNamespace;
+		this.sourceClz = sourceClz;
+		this.targetClz = targetClz;
+		this.registryDto = registryDto;
+	}
+
+	/**
+	 * Rebind - to the registry dto currently registered for the handle.
+	 */
+	void rebind() {
+		registryDto = otcRegistry.retrieveRegistryDto(otcNamespace, sourceClz, targetClz);
+	}
+
+	/**
+	 * Invalidate - drops the registry dto, to be resolved afresh on the next use of the handle.
+	 */
+	synchronized void invalidate() {
+		invalidations++;
+		registryDto = null;
+	}
+
+	/**
+	 * Gets the registry dto - resolving it when invalidated.
+	 *
+	 * @return the registry dto
+	 */
+	RegistryDto getRegistryDto() {
+		RegistryDto registryDto = this.registryDto;
+		return registryDto == null ? resolveRegistryDto() : registryDto;
+	}
+
+	/**
+	 * Resolve registry dto - registering it on demand if not registered yet.
+	 *
+	 * @return the registry dto
+	 */
+	private RegistryDto resolveRegistryDto() {
+		int invalidations = this.invalidations;
+		RegistryDto resolvedRegistryDto = otcRegistry.retrieveRegistryDto(otcNamespace, sourceClz, targetClz);
+		synchronized (this) {
+			if (this.invalidations == invalidations) {
+				registryDto = resolvedRegistryDto;
+			}
+		}
+		return resolvedRegistryDto;
+	}
+
+	/**
+	 * Gets the registry id.
+	 *
+	 * @return the registry id
+	 */
+	String getRegistryId() {
+		return OtcUtils.createRegistryId(otcNamespace, sourceClz, targetClz);
+	}
+
+	/**
+	 * Execute.
+	 *
+	 * @param source the source
+	 * @param data   the data
+	 * @return the t
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public T execute(S source, Map<String, Object> data) {
+		RegistryDto registryDto = getRegistryDto();
+		SkippedNulls skippedNulls = SkippedNulls.enter();
+		IndexedCollectionsDtoArena arena = IndexedCollectionsDtoArena.enter();
+		try {
+			IndexedCollectionsDto indexedCollectionsDto = indexSource(registryDto, source);
+			CodeExecutor<S, T> codeExecutor = registryDto.codeExecutor;
+			return codeExecutor.execute(source, indexedCollectionsDto, data);
+		} finally {
+			if (arena != null) {
+				arena.exit();
+			}
+			if (skippedNulls != null) {
+				skippedNulls.exit();
+			}
+		}
+	}
+
+	/**
+	 * Execute into.
+	 *
+	 * @param source the source
+	 * @param target the target
+	 * @param data   the data
+	 * @return the t
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public T executeInto(S source, T target, Map<String, Object> data) {
+		RegistryDto registryDto = getRegistryDto();
+		SkippedNulls skippedNulls = SkippedNulls.enter();
+		IndexedCollectionsDtoArena arena = IndexedCollectionsDtoArena.enter();
+		try {
+			IndexedCollectionsDto sourceICD = indexSource(registryDto, source);
+			IndexedCollectionsDto targetICD = indexTarget(registryDto, target);
+			CodeExecutor<S, T> codeExecutor = registryDto.codeExecutor;
+			return codeExecutor.executeInto(source, sourceICD, target, targetICD, data);
+		} finally {
+			if (arena != null) {
+				arena.exit();
+			}
+			if (skippedNulls != null) {
+				skippedNulls.exit();
+			}
+		}
+	}
+
+	/**
+	 * Execute incremental.
+	 *
+	 * @param source       the source
+	 * @param target       the target
+	 * @param changedPaths the changed paths
+	 * @param data         the data
+	 * @return the t
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public T executeIncremental(S source, T target, Collection<String> changedPaths, Map<String, Object> data) {
+		RegistryDto registryDto = getRegistryDto();
+		boolean[] commands = selectCommands(registryDto.sourcePropertyPaths, changedPaths);
+		if (commands == null) {
+			return target;
+		}
+		SkippedNulls skippedNulls = SkippedNulls.enter();
+		IndexedCollectionsDtoArena arena = IndexedCollectionsDtoArena.enter();
+		try {
+			IndexedCollectionsDto sourceICD = indexSource(registryDto, source);
+			IndexedCollectionsDto targetICD = indexTarget(registryDto, target);
+			CodeExecutor<S, T> codeExecutor = registryDto.codeExecutor;
+			return codeExecutor.executeCommands(source, sourceICD, target, targetICD, commands, data);
+		} finally {
+			if (arena != null) {
+				arena.exit();
+			}
+			if (skippedNulls != null) {
+				skippedNulls.exit();
+			}
+		}
+	}
+
+	/**
+	 * Select commands - reading any of the changed paths.
+	 *
+	 * @param sourcePropertyPaths the source property paths of the commands
+	 * @param changedPaths        the changed paths
+	 * @return the selected commands - null if none is affected
+	 */
+	private static boolean[] selectCommands(String[] sourcePropertyPaths, Collection<String> changedPaths) {
+		if (sourcePropertyPaths == null || changedPaths == null || changedPaths.isEmpty()) {
+			return null;
+		}
+		boolean[] commands = null;
+		for (String changedPath : changedPaths) {
+			String changedPropertyPath = OtcUtils.toPropertyPath(changedPath);
+			for (int idx = 0; idx < sourcePropertyPaths.length; idx++) {
+				String sourcePropertyPath = sourcePropertyPaths[idx];
+				if (sourcePropertyPath == null || (commands != null && commands[idx])) {
+					continue;
+				}
+				if (isOnPath(sourcePropertyPath, changedPropertyPath)
+						|| isOnPath(changedPropertyPath, sourcePropertyPath)) {
+					if (commands == null) {
+						commands = new boolean[sourcePropertyPaths.length];
+					}
+					commands[idx] = true;
+				}
+			}
+		}
+		return commands;
+	}
+
+	/**
+	 * Checks if the path is the ancestor path or lies below it.
+	 *
+	 * @param path         the path
+	 * @param ancestorPath the ancestor path
+	 * @return true, if is on path
+	 */
+	private static boolean isOnPath(String path, String ancestorPath) {
+		return path.startsWith(ancestorPath) && (path.length() == ancestorPath.length()
+				|| path.charAt(ancestorPath.length()) == '.');
+	}
+
+	/**
+	 * Index target - the collections already in the target are indexed so that the generated code finds and
+	 * reuses their members instead of adding new ones.
+	 *
+	 * @param registryDto the registry dto
+	 * @param target      the target
+	 * @return the indexed collections dto - null if the target has no collections to index
+	 */
+	private static IndexedCollectionsDto indexTarget(RegistryDto registryDto, Object target) {
+		if (registryDto.targetIndexingTrie == null || registryDto.targetIndexingTrie.children == null) {
+			return null;
+		}
+		return objectIndexer.indexObject(registryDto, TARGET_SOURCE.TARGET, target);
+	}
+
+	/**
+	 * Index source.
+	 *
+	 * @param registryDto the registry dto
+	 * @param source      the source
+	 * @return the indexed collections dto - null if the source needs no indexing
+	 */
+	@SuppressWarnings("unchecked")
+	private static <S> IndexedCollectionsDto indexSource(RegistryDto registryDto, S source) {
+		if (source == null || !registryDto.isProfilingRequried) {
+			return null;
+		}
+		SourceIndexer<S> sourceIndexer = (SourceIndexer<S>) registryDto.sourceIndexer;
+		if (sourceIndexer != null && !IDENTITY_INDEXING) {
+			return sourceIndexer.index(source);
+		}
+		return objectIndexer.indexObject(registryDto, TARGET_SOURCE.SOURCE, source);
+	}
+}
@@ -0,0 +1,206 @@
+/**
+* Copyright (c) otcframework.org
+*
+* @author  Franklin J Abel
+* @version 1.0
+* @since   2020-06-08 
+*
+* This file is part of the OTC framework.
+* 
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*      https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*
+*/
+package org.otcframework.executor;
+
+import org.otcframework.executor.exception.OtcExecutorException;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.function.Consumer;
+
+/**
+ * The Class MappingProcessor - maps the sources pushed into it on a bounded number of threads and delivers the
+ * targets, in the order of their sources, to the downstream consumer. Pushing a source blocks while the maximum
+ * number of sources are pending, applying back-pressure to the upstream.
+ *
+ * @param <S> the generic type
+ * @param <T> the generic type
+ */
+public final class MappingProcessor<S, T> implements Consumer<S>, AutoCloseable {
+
+	/** The mapping handle. */
+	private final MappingHandle<S, T> mappingHandle;
+
+	/** The data. */
+	private final Map<String, Object> data;
+
+	/** The downstream. */
+	private final Consumer<? super T> downstream;
+
+	/** The executor service. */
+	private final ExecutorService executorService;
+
+	/** The demand - the permits of the sources which may be pending. */
+	private final Semaphore demand;
+
+	/** The pending - the mappings in the order of their sources. */
+	private final Queue<CompletableFuture<T>> pending = new ArrayDeque<>();
+
+	/** The delivering - whether a thread is delivering targets to the downstream, guarded by pending. */
+	private boolean delivering;
+
+	/** The failure - the first failure of a mapping or of the downstream. */
+	private volatile Throwable failure;
+
+	/**
+	 * Instantiates a new mapping processor.
+	 *
+	 * @param mappingHandle the mapping handle
+	 * @param data          the data
+	 * @param downstream    the downstream
+	 * @param parallelism   the parallelism
+	 * @param maxPending    the max pending
+	 */
+	MappingProcessor(MappingHandle<S, T> mappingHandle, Map<String, Object> data, Consumer<? super T> downstream,
+			int parallelism, int maxPending) {
+		if (parallelism < 1 || maxPending < 1) {
+			throw new OtcExecutorException("", "Parallelism and max-pending of the mapping-processor must be > 0.");
+		}
+		this.mappingHandle = mappingHandle;
+		this.data = data;
+		this.downstream = downstream;
+		this.demand = new Semaphore(maxPending);
+		this.executorService = Executors.newFixedThreadPool(parallelism, runnable -> {
+			Thread thread = new Thread(runnable, "OtcMappingProcessor");
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	/**
+	 * Accept - blocks while the maximum number of sources are pending.
+	 *
+	 * @param source the source
+	 */
+	@Override
+	public void accept(S source) {
+		checkFailure();
+		try {
+			demand.acquire();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new OtcExecutorException("", e);
+		}
+		CompletableFuture<T> mapping;
+		synchronized (pending) {
+			mapping = CompletableFuture.supplyAsync(() -> mappingHandle.execute(source, data), executorService);
+			pending.add(mapping);
+		}
+		mapping.whenComplete((target, ex) -> drain());
+	}
+
+	/**
+	 * Drain - delivers the targets of the completed mappings at the head of the pending queue. The downstream is
+	 * called outside the lock by one thread at a time, which keeps draining until no completed mapping is left.
+	 */
+	private void drain() {
+		synchronized (pending) {
+			if (delivering) {
+				return;
+			}
+			delivering = true;
+		}
+		List<CompletableFuture<T>> completed = new ArrayList<>();
+		while (true) {
+			synchronized (pending) {
+				CompletableFuture<T> mapping;
+				while ((mapping = pending.peek()) != null && mapping.isDone()) {
+					completed.add(pending.poll());
+					demand.release();
+				}
+				if (completed.isEmpty()) {
+					delivering = false;
+					if (pending.isEmpty()) {
+						pending.notifyAll();
+					}
+					return;
+				}
+			}
+			for (CompletableFuture<T> mapping : completed) {
+				deliver(mapping);
+			}
+			completed.clear();
+		}
+	}
+
+	/**
+	 * Deliver - the target of the completed mapping to the downstream, unless a failure has occurred. Errors are
+	 * recorded as failures too, so that the drain loop always completes and resets the delivering flag.
+	 *
+	 * @param mapping the mapping
+	 */
+	private void deliver(CompletableFuture<T> mapping) {
+		if (failure != null) {
+			return;
+		}
+		try {
+			downstream.accept(mapping.join());
+		} catch (Throwable e) {
+			failure = e.getCause() != null && mapping.isCompletedExceptionally() ? e.getCause() : e;
+		}
+	}
+
+	/**
+	 * Close - awaits the delivery of the pending targets and releases the threads.
+	 */
+	@Override
+	public void close() {
+		try {
+			synchronized (pending) {
+				while (!pending.isEmpty() || delivering) {
+					pending.wait();
+				}
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new OtcExecutorException("", e);
+		} finally {
+			executorService.shutdown();
+		}
+		checkFailure();
+	}
+
+	/**
+	 * Check failure - rethrows the first failure of a mapping or of the downstream.
+	 */
+	private void checkFailure() {
+		Throwable throwable = failure;
+		if (throwable == null) {
+			return;
+		}
+		if (throwable instanceof RuntimeException) {
+			throw (RuntimeException) throwable;
+		}
+		if (throwable instanceof Error) {
+			throw (Error) throwable;
+		}
+		throw new OtcExecutorException(throwable);
+	}
+}
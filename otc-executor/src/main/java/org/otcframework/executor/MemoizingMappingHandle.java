@@ -0,0 +1,235 @@
+/**
+* Copyright (c) otcframework.org
+*
+* @author  Franklin J Abel
+* @version 1.0
+* @since   2020-06-08 
+*
+* This file is part of the OTC framework.
+* 
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*      https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*
+*/
+package org.otcframework.executor;
+
+import org.otcframework.common.dto.RegistryDto;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * The Class MemoizingMappingHandle - a mapping handle which caches the target of each source it executes, in a
+ * size-bounded cache evicting the least recently used entry. Sources are keyed by identity, or by the key the
+ * given key function derives from them - so it should be used for sources which are not mutated once mapped.
+ * <p>
+ * The cached targets are shared - every execute of the same source returns the same target instance, which
+ * callers must therefore treat as read-only. The cache is cleared when the registry is reloaded. The
+ * executeInto and executeIncremental calls write into a caller-owned target and are never cached.
+ *
+ * @param <S> the generic type
+ * @param <T> the generic type
+ */
+public final class MemoizingMappingHandle<S, T> implements MappingHandle<S, T> {
+
+	/** The mapping handle. */
+	private final MappingHandleImpl<S, T> mappingHandle;
+
+	/** The key function - null to key the sources by identity. */
+	private final Function<? super S, ?> keyFunction;
+
+	/** The results - in access order. */
+	private final LinkedHashMap<Object, T> results;
+
+	/** The hits. */
+	private final LongAdder hits = new LongAdder();
+
+	/** The misses. */
+	private final LongAdder misses = new LongAdder();
+
+	/** The evictions. */
+	private final LongAdder evictions = new LongAdder();
+
+	/** The registry dto the cached results were mapped with. */
+	private RegistryDto registryDto;
+
+	/**
+	 * Instantiates a new memoizing mapping handle.
+	 *
+	 * @param mappingHandle the mapping handle
+	 * @param maxSize       the max size
+	 * @param keyFunction   the key function - null to key the sources by identity
+	 */
+	MemoizingMappingHandle(MappingHandleImpl<S, T> mappingHandle, int maxSize, Function<? super S, ?> keyFunction) {
+		this.mappingHandle = mappingHandle;
+		this.keyFunction = keyFunction;
+		this.registryDto = mappingHandle.getRegistryDto();
+		this.results = new LinkedHashMap<Object, T>(16, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Object, T> eldest) {
+				if (size() > maxSize) {
+					evictions.increment();
+					return true;
+				}
+				return false;
+			}
+		};
+	}
+
+	/**
+	 * Execute - returning the cached target of the source if present.
+	 *
+	 * @param source the source
+	 * @param data   the data
+	 * @return the t
+	 */
+	@Override
+	public T execute(S source, Map<String, Object> data) {
+		Object key = keyFunction == null ? new IdentityKey(source) : keyFunction.apply(source);
+		if (key == null) {
+			return mappingHandle.execute(source, data);
+		}
+		RegistryDto registryDto = mappingHandle.getRegistryDto();
+		T target;
+		synchronized (results) {
+			if (this.registryDto != registryDto) {
+				results.clear();
+				this.registryDto = registryDto;
+			}
+			target = results.get(key);
+		}
+		if (target != null) {
+			hits.increment();
+			return target;
+		}
+		misses.increment();
+		// -- mapped outside the lock - a concurrent miss on the same key keeps the first target cached
+		target = mappingHandle.execute(source, data);
+		if (target == null) {
+			return null;
+		}
+		synchronized (results) {
+			if (this.registryDto != registryDto) {
+				return target;
+			}
+			T cachedTarget = results.putIfAbsent(key, target);
+			return cachedTarget == null ? target : cachedTarget;
+		}
+	}
+
+	/**
+	 * Execute into - not cached.
+	 *
+	 * @param source the source
+	 * @param target the target
+	 * @param data   the data
+	 * @return the t
+	 */
+	@Override
+	public T executeInto(S source, T target, Map<String, Object> data) {
+		return mappingHandle.executeInto(source, target, data);
+	}
+
+	/**
+	 * Execute incremental - not cached.
+	 *
+	 * @param source       the source
+	 * @param target       the target
+	 * @param changedPaths the changed paths
+	 * @param data         the data
+	 * @return the t
+	 */
+	@Override
+	public T executeIncremental(S source, T target, Collection<String> changedPaths, Map<String, Object> data) {
+		return mappingHandle.executeIncremental(source, target, changedPaths, data);
+	}
+
+	/**
+	 * Gets the hits.
+	 *
+	 * @return the hits
+	 */
+	public long getHits() {
+		return hits.sum();
+	}
+
+	/**
+	 * Gets the misses.
+	 *
+	 * @return the misses
+	 */
+	public long getMisses() {
+		return misses.sum();
+	}
+
+	/**
+	 * Gets the evictions.
+	 *
+	 * @return the evictions
+	 */
+	public long getEvictions() {
+		return evictions.sum();
+	}
+
+	/**
+	 * Gets the size - the number of cached targets.
+	 *
+	 * @return the size
+	 */
+	public int size() {
+		synchronized (results) {
+			return results.size();
+		}
+	}
+
+	/**
+	 * Clear - the cached targets.
+	 */
+	public void clear() {
+		synchronized (results) {
+			results.clear();
+		}
+	}
+
+	/**
+	 * The Class IdentityKey - keys a source by its identity.
+	 */
+	private static final class IdentityKey {
+
+		/** The source. */
+		private final Object source;
+
+		/**
+		 * Instantiates a new identity key.
+		 *
+		 * @param source the source
+		 */
+		private IdentityKey(Object source) {
+			this.source = source;
+		}
+
+		@Override
+		public int hashCode() {
+			return System.identityHashCode(source);
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			return obj instanceof IdentityKey && ((IdentityKey) obj).source == source;
+		}
+	}
+}
@@ -23,6 +23,7 @@
 package org.otcframework.executor;
 
 import org.otcframework.common.OtcConstants.TARGET_SOURCE;
+import org.otcframework.common.dto.IndexingNodeDto;
 import org.otcframework.common.dto.RegistryDto;
 import org.otcframework.common.engine.indexer.dto.IndexedCollectionsDto;
 
@@ -40,4 +41,13 @@ interface ObjectIndexer {
 	 * @return the indexed collections dto
 	 */
 	IndexedCollectionsDto indexObject(RegistryDto registryDto, TARGET_SOURCE enumTargetSource, Object object);
+
+	/**
+	 * Creates the indexing trie - merges the otc-chains having collections / maps into a trie.
+	 *
+	 * @param registryDto      the registry dto
+	 * @param enumTargetSource the enum target source
+	 * @return the indexing node dto
+	 */
+	IndexingNodeDto createIndexingTrie(RegistryDto registryDto, TARGET_SOURCE enumTargetSource);
 }
@@ -25,6 +25,8 @@ package org.otcframework.executor;
 import org.otcframework.common.OtcConstants;
 import org.otcframework.common.OtcConstants.TARGET_SOURCE;
 import org.otcframework.common.compiler.OtcCommandContext;
+import org.otcframework.common.config.OtcConfig;
+import org.otcframework.common.dto.IndexingNodeDto;
 import org.otcframework.common.dto.OtcChainDto;
 import org.otcframework.common.dto.OtcCommandDto;
 import org.otcframework.common.dto.RegistryDto;
@@ -48,6 +50,9 @@ final class ObjectIndexerImpl implements ObjectIndexer {
 	/** The Constant LOGGER. */
 	private static final Logger LOGGER = LoggerFactory.getLogger(ObjectIndexerImpl.class);
 
+	/** The Constant IDENTITY_INDEXING. */
+	private static final boolean IDENTITY_INDEXING = OtcConfig.getIdentityIndexing();
+
 	/** The object indexer impl. */
 	private static final ObjectIndexerImpl objectIndexerImpl = new ObjectIndexerImpl();
 
@@ -69,22 +74,52 @@ final class ObjectIndexerImpl implements ObjectIndexer {
 	/**
 	 * Index object.
 	 *
-	 * @param registryDto    the registry dto
+	 * @param registryDto      the registry dto
 	 * @param enumTargetSource the enum target source
 	 * @param indexedObject    the indexed object
 	 * @return the indexed collections dto
 	 */
-
 	@Override
 	public IndexedCollectionsDto indexObject(RegistryDto registryDto, TARGET_SOURCE enumTargetSource,
 											 Object indexedObject) {
 		LOGGER.trace("Initiating object-indexing for instance of {}", indexedObject.getClass().getName());
 		long startTime = System.nanoTime();
-		Set<String> loadedOtcTokens = null;
-		IndexedCollectionsDto rootICD = null;
-		OtcCommandContext otcCommandContext = new OtcCommandContext();
-		for (Entry<String, CompiledInfo> entry : registryDto.compiledInfos.entrySet()) {
-			CompiledInfo compiledInfo = entry.getValue();
+		IndexingNodeDto indexingTrie = null;
+		if (TARGET_SOURCE.SOURCE == enumTargetSource) {
+			indexingTrie = registryDto.sourceIndexingTrie;
+		} else {
+			indexingTrie = registryDto.targetIndexingTrie;
+		}
+		if (indexingTrie == null) {
+			indexingTrie = createIndexingTrie(registryDto, enumTargetSource);
+		}
+		IndexedCollectionsDto rootICD = IndexedCollectionsDtoFactory.create(null, indexedObject, null);
+		Map<IndexingNodeDto, Map<Object, IndexedCollectionsDto>> visitedNodes = IDENTITY_INDEXING
+				? new IdentityHashMap<>() : null;
+		indexChildren(indexingTrie, indexedObject, rootICD, visitedNodes);
+		LOGGER.debug("Completed object-indexing for instance of '{}' in {} millis.", indexedObject.getClass().getName(),
+				((System.nanoTime() - startTime) / 1000000.0));
+		if (rootICD.isEmpty()) {
+			return null;
+		}
+		return rootICD;
+	}
+
+	/**
+	 * Creates the indexing trie - the otc-chains sharing a path up to a collection / map share the trie-node of
+	 * the collection / map, so that its members are indexed only once.
+	 *
+	 * @param registryDto      the registry dto
+	 * @param enumTargetSource the enum target source
+	 * @return the indexing node dto
+	 */
+	@Override
+	public IndexingNodeDto createIndexingTrie(RegistryDto registryDto, TARGET_SOURCE enumTargetSource) {
+		IndexingNodeDto rootNode = new IndexingNodeDto();
+		if (registryDto.compiledInfos == null) {
+			return rootNode;
+		}
+		for (CompiledInfo compiledInfo : registryDto.compiledInfos.values()) {
 			OtcChainDto otcChainDto;
 			OtcCommandDto otcCommandDto;
 			if (TARGET_SOURCE.SOURCE == enumTargetSource) {
@@ -94,114 +129,175 @@ final class ObjectIndexerImpl implements ObjectIndexer {
 				otcChainDto = compiledInfo.targetOtcChainDto;
 				otcCommandDto = compiledInfo.targetOCDStem;
 			}
-			if (otcChainDto == null || CommonUtils.isTrimmedAndEmpty(otcChainDto.otcChain)) {
-				continue;
-			}
-			String otcChain = otcChainDto.otcChain;
-			if (loadedOtcTokens != null && loadedOtcTokens.contains(otcChain)) {
-				continue;
-			}
-			int collectionsCount = otcChainDto.collectionCount + otcChainDto.dictionaryCount;
-			if (collectionsCount == 0) {
+			if (otcChainDto == null || CommonUtils.isTrimmedAndEmpty(otcChainDto.otcChain)
+					|| otcChainDto.collectionCount + otcChainDto.dictionaryCount == 0) {
 				continue;
 			}
-			String[] otcTokens = otcChainDto.otcTokens;
-			Object value = OtcReflectionUtil.readFieldValue(otcCommandDto.field, indexedObject);
-			if (value == null) {
+			OtcCommandContext otcCommandContext = new OtcCommandContext();
+			otcCommandContext.otcTokens = otcChainDto.otcTokens;
+			otcCommandContext.rawOtcTokens = otcChainDto.rawOtcTokens;
+			addToIndexingTrie(otcCommandContext, otcCommandDto, rootNode);
+		}
+		return rootNode;
+	}
+
+	/**
+	 * Adds the otc-chain to the indexing trie - up to the member of its last collection / map.
+	 *
+	 * @param otcCommandContext the otc command context
+	 * @param otcCommandDto     the otc command dto
+	 * @param rootNode          the root node
+	 */
+	private static void addToIndexingTrie(OtcCommandContext otcCommandContext, OtcCommandDto otcCommandDto,
+			IndexingNodeDto rootNode) {
+		String[] otcTokens = otcCommandContext.otcTokens;
+		IndexingNodeDto node = retrieveOrCreateChildNode(rootNode, otcCommandDto);
+		while (true) {
+			if (!otcCommandDto.isCollectionOrMap()) {
+				otcCommandDto = otcCommandDto.children.get(otcTokens[otcCommandDto.otcTokenIndex + 1]);
+				node = retrieveOrCreateChildNode(node, otcCommandDto);
 				continue;
 			}
-			String key = otcChain.substring(0, otcChain.indexOf("]") + 1);
-			if (TARGET_SOURCE.TARGET == otcCommandDto.enumTargetSource) {
-				key = OtcUtils.sanitizeOtc(key);
-			}
-			otcCommandContext.otcTokens = otcTokens;
-			otcCommandContext.rawOtcTokens = otcChainDto.rawOtcTokens;
 			otcCommandContext.otcCommandDto = otcCommandDto;
-			IndexedCollectionsDto parentICD = indexObject(otcCommandContext, value, rootICD);
-			if (parentICD != null) {
-				if (loadedOtcTokens == null) {
-					loadedOtcTokens = new HashSet<>();
+			if (node.icdKey == null) {
+				String icdKey;
+				if (otcCommandContext.hasAncestralCollectionOrMap()) {
+					icdKey = otcCommandDto.otcToken;
+				} else {
+					icdKey = otcCommandDto.tokenPath.substring(0, otcCommandDto.tokenPath.indexOf("]") + 1);
+					if (TARGET_SOURCE.TARGET == otcCommandDto.enumTargetSource) {
+						icdKey = OtcUtils.sanitizeOtc(icdKey);
+					}
 				}
-				loadedOtcTokens.add(otcChain);
-				if (rootICD == null) {
-					rootICD = IndexedCollectionsDtoFactory.create(null, value, null, true);
+				node.icdKey = icdKey;
+			}
+			OtcCommandDto memberOCD;
+			if (otcCommandDto.isCollection()) {
+				memberOCD = otcCommandDto.children.get(otcCommandDto.fieldName);
+				if (node.memberNode == null) {
+					node.memberNode = createNode(memberOCD);
+				}
+				node = node.memberNode;
+			} else if (otcCommandContext.rawOtcTokens[otcCommandDto.otcTokenIndex]
+					.contains(OtcConstants.MAP_KEY_REF)) {
+				memberOCD = otcCommandDto.children.get(OtcConstants.MAP_KEY_REF + otcCommandDto.fieldName);
+				if (node.mapKeyNode == null) {
+					node.mapKeyNode = createNode(memberOCD);
 				}
-				if (!rootICD.children.containsKey(key)) {
-					rootICD.children.put(key, parentICD);
+				node = node.mapKeyNode;
+			} else {
+				memberOCD = otcCommandDto.children.get(OtcConstants.MAP_VALUE_REF + otcCommandDto.fieldName);
+				if (node.mapValueNode == null) {
+					node.mapValueNode = createNode(memberOCD);
 				}
+				node = node.mapValueNode;
+			}
+			otcCommandContext.otcCommandDto = memberOCD;
+			if (!otcCommandContext.hasDescendantCollectionOrMap()) {
+				return;
 			}
+			otcCommandDto = memberOCD;
 		}
-		LOGGER.debug("Completed object-indexing for instance of '{}' in {} millis.", indexedObject.getClass().getName(),
-				((System.nanoTime() - startTime) / 1000000.0));
-		return rootICD;
+	}
+
+	private static IndexingNodeDto retrieveOrCreateChildNode(IndexingNodeDto parentNode,
+			OtcCommandDto otcCommandDto) {
+		if (parentNode.children == null) {
+			parentNode.children = new LinkedHashMap<>();
+		}
+		IndexingNodeDto childNode = parentNode.children.get(otcCommandDto.otcToken);
+		if (childNode == null) {
+			childNode = createNode(otcCommandDto);
+			parentNode.children.put(otcCommandDto.otcToken, childNode);
+		}
+		return childNode;
+	}
+
+	private static IndexingNodeDto createNode(OtcCommandDto otcCommandDto) {
+		IndexingNodeDto node = new IndexingNodeDto();
+		node.otcCommandDto = otcCommandDto;
+		return node;
 	}
 
 	/**
-	 * Index object.
+	 * Index children - reads the fields of the children nodes from the indexed object and indexes them.
 	 *
-	 * @param otcCommandContext the otc command context
-	 * @param indexedObject     the indexed object
-	 * @param parentICD         the parent ICD
-	 * @return the indexed collections dto
+	 * @param node          the node
+	 * @param indexedObject the indexed object
+	 * @param parentICD     the parent ICD
+	 * @param visitedNodes  the visited nodes - null unless identity-indexing
 	 */
-	private static IndexedCollectionsDto indexObject(OtcCommandContext otcCommandContext, Object indexedObject,
-													 IndexedCollectionsDto parentICD) {
-		String[] otcTokens = otcCommandContext.otcTokens;
-		OtcCommandDto otcCommandDto = otcCommandContext.otcCommandDto;
-		Object value;
-		while (!otcCommandDto.isCollectionOrMap()) {
-			int idx = otcCommandDto.otcTokenIndex + 1;
-			String otcToken = otcTokens[idx];
-			otcCommandDto = otcCommandDto.children.get(otcToken);
-			value = OtcReflectionUtil.readFieldValue(otcCommandDto.field, indexedObject);
-			if (value == null) {
-				return null;
+	private static void indexChildren(IndexingNodeDto node, Object indexedObject, IndexedCollectionsDto parentICD,
+			Map<IndexingNodeDto, Map<Object, IndexedCollectionsDto>> visitedNodes) {
+		if (node.children == null) {
+			return;
+		}
+		for (IndexingNodeDto childNode : node.children.values()) {
+			Object value = OtcReflectionUtil.readFieldValue(childNode.otcCommandDto, indexedObject);
+			if (value != null) {
+				indexNode(childNode, value, parentICD, visitedNodes);
 			}
-			indexedObject = value;
-			otcCommandContext.otcCommandDto = otcCommandDto;
+		}
+	}
+
+	/**
+	 * Index node.
+	 *
+	 * @param node          the node
+	 * @param indexedObject the indexed object
+	 * @param parentICD     the parent ICD
+	 * @param visitedNodes  the visited nodes - null unless identity-indexing
+	 */
+	private static void indexNode(IndexingNodeDto node, Object indexedObject, IndexedCollectionsDto parentICD,
+			Map<IndexingNodeDto, Map<Object, IndexedCollectionsDto>> visitedNodes) {
+		OtcCommandDto otcCommandDto = node.otcCommandDto;
+		if (!otcCommandDto.isCollectionOrMap()) {
+			indexChildren(node, indexedObject, parentICD, visitedNodes);
+			return;
 		}
 		if (indexedObject instanceof Collection) {
 			if (((Collection) indexedObject).isEmpty()) {
-				return null;
+				return;
 			}
 		} else if (indexedObject instanceof Map && ((Map) indexedObject).isEmpty()) {
-			return null;
-		}
-		String key;
-		if (otcCommandContext.hasAncestralCollectionOrMap()) {
-			key = otcCommandDto.otcToken;
-		} else {
-			key = otcCommandDto.tokenPath.substring(0, otcCommandDto.tokenPath.indexOf("]") + 1);
-		}
-		IndexedCollectionsDto nextParentICD = null;
-		if (parentICD != null) {
-			nextParentICD = parentICD.children.get(key);
+			return;
 		}
-		if (nextParentICD == null) {
-			nextParentICD = IndexedCollectionsDtoFactory.create(parentICD, indexedObject, key, true);
+		IndexedCollectionsDto icd = parentICD.child(node.icdKey);
+		if (icd == null) {
+			IndexedCollectionsDto visitedICD = visitedICD(visitedNodes, node, indexedObject);
+			if (visitedICD != null) {
+				// -- the collection / map is shared with a parent indexed earlier - so is its index
+				if (parentICD.children == null) {
+					parentICD.children = new HashMap<>();
+				}
+				parentICD.children.put(node.icdKey, visitedICD);
+				return;
+			}
+			icd = IndexedCollectionsDtoFactory.create(parentICD, indexedObject, node.icdKey);
+			visit(visitedNodes, node, indexedObject, icd);
 		}
 		if (otcCommandDto.isCollection()) {
-			indexTheCollection(otcCommandContext, indexedObject, nextParentICD);
+			indexTheCollection(node, indexedObject, icd, visitedNodes);
 		} else if (otcCommandDto.isMap()) {
-			indexTheMap(otcCommandContext, indexedObject, nextParentICD);
+			indexTheMap(node, indexedObject, icd, visitedNodes);
 		}
-		return nextParentICD;
 	}
 
 	/**
 	 * Index collection.
 	 *
-	 * @param otcCommandContext the otc command context
-	 * @param indexedObject     the indexed object
-	 * @param parentICD         the parent ICD
+	 * @param node          the node
+	 * @param indexedObject the indexed object
+	 * @param parentICD     the parent ICD
+	 * @param visitedNodes  the visited nodes - null unless identity-indexing
 	 */
-	private static void indexTheCollection(OtcCommandContext otcCommandContext, Object indexedObject,
-										   IndexedCollectionsDto parentICD) {
-		OtcCommandDto otcCommandDto = otcCommandContext.otcCommandDto;
+	private static void indexTheCollection(IndexingNodeDto node, Object indexedObject,
+										   IndexedCollectionsDto parentICD,
+										   Map<IndexingNodeDto, Map<Object, IndexedCollectionsDto>> visitedNodes) {
 		int size;
 		Object[] objArr = null;
 		Iterator<?> iter = null;
-		if (otcCommandDto.isArray()) {
+		if (node.otcCommandDto.isArray()) {
 			objArr = ((Object[]) indexedObject);
 			size = objArr.length;
 		} else {
@@ -212,22 +308,21 @@ final class ObjectIndexerImpl implements ObjectIndexer {
 		if (size == 0) {
 			return;
 		}
-		OtcCommandDto memberOCD = otcCommandDto.children.get(otcCommandDto.fieldName);
-		otcCommandContext.otcCommandDto = memberOCD;
+		IndexingNodeDto memberNode = node.memberNode;
+		boolean hasDescendants = hasDescendants(memberNode);
 		for (int idx = 0; idx < size; idx++) {
 			Object member;
-			String key = Integer.toString(idx);
-			IndexedCollectionsDto memberICD = parentICD.children.get(key);
+			if (objArr != null) {
+				member = objArr[idx];
+			} else {
+				member = iter.next();
+			}
+			IndexedCollectionsDto memberICD = parentICD.member(idx);
 			if (memberICD == null) {
-				if (objArr != null) {
-					member = objArr[idx];
-				} else {
-					member = iter.next();
-				}
-				memberICD = IndexedCollectionsDtoFactory.create(parentICD, member, key, true);
+				memberICD = IndexedCollectionsDtoFactory.createMember(parentICD, member, idx);
 			}
-			if (otcCommandContext.hasDescendantCollectionOrMap()) {
-				indexObject(otcCommandContext.clone(), memberICD.indexedObject, memberICD);
+			if (hasDescendants && member != null) {
+				indexMember(memberNode, member, memberICD, visitedNodes);
 			}
 		}
 	}
@@ -235,51 +330,121 @@ final class ObjectIndexerImpl implements ObjectIndexer {
 	/**
 	 * Index map.
 	 *
-	 * @param otcCommandContext the otc command context
-	 * @param indexedObject     the indexed object
-	 * @param parentICD         the parent ICD
+	 * @param node          the node
+	 * @param indexedObject the indexed object
+	 * @param parentICD     the parent ICD
+	 * @param visitedNodes  the visited nodes - null unless identity-indexing
 	 */
-	@SuppressWarnings("unchecked")
-	private static void indexTheMap(OtcCommandContext otcCommandContext, Object indexedObject,
-									IndexedCollectionsDto parentICD) {
+	private static void indexTheMap(IndexingNodeDto node, Object indexedObject, IndexedCollectionsDto parentICD,
+			Map<IndexingNodeDto, Map<Object, IndexedCollectionsDto>> visitedNodes) {
 		Map<?, ?> map = (Map<?, ?>) indexedObject;
-		int size = map.size();
-		if (size == 0) {
+		IndexingNodeDto mapKeyNode = node.mapKeyNode;
+		IndexingNodeDto mapValueNode = node.mapValueNode;
+		boolean hasKeyDescendants = hasDescendants(mapKeyNode);
+		boolean hasValueDescendants = hasDescendants(mapValueNode);
+		int idx = 0;
+		for (Entry<?, ?> entry : map.entrySet()) {
+			if (mapKeyNode != null) {
+				Object key = entry.getKey();
+				IndexedCollectionsDto keyICD = parentICD.mapKey(idx);
+				if (keyICD == null) {
+					keyICD = IndexedCollectionsDtoFactory.createMapKey(parentICD, key, idx);
+				}
+				if (hasKeyDescendants && key != null) {
+					indexMember(mapKeyNode, key, keyICD, visitedNodes);
+				}
+			}
+			if (mapValueNode != null) {
+				Object value = entry.getValue();
+				IndexedCollectionsDto valueICD = parentICD.mapValue(idx);
+				if (valueICD == null) {
+					valueICD = IndexedCollectionsDtoFactory.createMapValue(parentICD, value, idx);
+				}
+				if (hasValueDescendants && value != null) {
+					indexMember(mapValueNode, value, valueICD, visitedNodes);
+				}
+			}
+			idx++;
+		}
+	}
+
+	/**
+	 * Index member - of a collection / map. A member already indexed at the node through another parent is given
+	 * the child ICDs indexed for it - in a map of its own, as ICDs and their maps are recycled by the arena.
+	 *
+	 * @param memberNode   the member node
+	 * @param member       the member
+	 * @param memberICD    the member ICD
+	 * @param visitedNodes the visited nodes - null unless identity-indexing
+	 */
+	private static void indexMember(IndexingNodeDto memberNode, Object member, IndexedCollectionsDto memberICD,
+			Map<IndexingNodeDto, Map<Object, IndexedCollectionsDto>> visitedNodes) {
+		IndexedCollectionsDto visitedICD = visitedICD(visitedNodes, memberNode, member);
+		if (visitedICD == null) {
+			visit(visitedNodes, memberNode, member, memberICD);
+		} else if (visitedICD != memberICD) {
+			shareChildren(visitedICD, memberICD);
 			return;
 		}
-		Set<?> entrySet = map.entrySet();
-		Iterator<Entry<?, ?>> iter = (Iterator<Entry<?, ?>>) entrySet.iterator();
-		OtcCommandDto otcCommandDto = otcCommandContext.otcCommandDto;
-		int otcTokenIndex = otcCommandDto.otcTokenIndex;
-		String rawOtcToken = otcCommandContext.rawOtcTokens[otcTokenIndex];
-		OtcCommandDto memberOCD;
-		if (rawOtcToken.contains(OtcConstants.MAP_KEY_REF)) {
-			memberOCD = otcCommandDto.children.get(OtcConstants.MAP_KEY_REF + otcCommandDto.fieldName);
+		indexNode(memberNode, member, memberICD, visitedNodes);
+	}
+
+	/**
+	 * Share children - puts the child ICDs of the visited ICD in the children of the member ICD.
+	 *
+	 * @param visitedICD the visited ICD
+	 * @param memberICD  the member ICD
+	 */
+	private static void shareChildren(IndexedCollectionsDto visitedICD, IndexedCollectionsDto memberICD) {
+		if (visitedICD.children == null || visitedICD.children.isEmpty()) {
+			return;
+		}
+		if (memberICD.children == null) {
+			memberICD.children = new HashMap<>(visitedICD.children);
 		} else {
-			memberOCD = otcCommandDto.children.get(OtcConstants.MAP_VALUE_REF + otcCommandDto.fieldName);
+			memberICD.children.putAll(visitedICD.children);
 		}
-		otcCommandContext.otcCommandDto = memberOCD;
-		for (int idx = 0; idx < size; idx++) {
-			String key;
-			if (memberOCD.isMapKey()) {
-				key = idx + OtcConstants.MAP_KEY_REF;
-			} else {
-				key = idx + OtcConstants.MAP_VALUE_REF;
-			}
-			IndexedCollectionsDto memberICD = parentICD.children.get(key);
-			if (memberICD == null) {
-				Entry<?, ?> entry = iter.next();
-				Object member;
-				if (memberOCD.isMapKey()) {
-					member = entry.getKey();
-				} else {
-					member = entry.getValue();
-				}
-				memberICD = IndexedCollectionsDtoFactory.create(parentICD, member, key, true);
-			}
-			if (otcCommandContext.hasDescendantCollectionOrMap()) {
-				indexObject(otcCommandContext.clone(), memberICD.indexedObject, memberICD);
-			}
+	}
+
+	/**
+	 * Gets the ICD of the object if already visited at the node.
+	 *
+	 * @param visitedNodes  the visited nodes
+	 * @param node          the node
+	 * @param indexedObject the indexed object
+	 * @return the visited ICD - null if not visited
+	 */
+	private static IndexedCollectionsDto visitedICD(Map<IndexingNodeDto, Map<Object, IndexedCollectionsDto>> visitedNodes,
+			IndexingNodeDto node, Object indexedObject) {
+		if (visitedNodes == null) {
+			return null;
+		}
+		Map<Object, IndexedCollectionsDto> visitedObjects = visitedNodes.get(node);
+		return visitedObjects == null ? null : visitedObjects.get(indexedObject);
+	}
+
+	/**
+	 * Visit - records the ICD of the object at the node.
+	 *
+	 * @param visitedNodes  the visited nodes
+	 * @param node          the node
+	 * @param indexedObject the indexed object
+	 * @param icd           the icd
+	 */
+	private static void visit(Map<IndexingNodeDto, Map<Object, IndexedCollectionsDto>> visitedNodes,
+			IndexingNodeDto node, Object indexedObject, IndexedCollectionsDto icd) {
+		if (visitedNodes != null) {
+			visitedNodes.computeIfAbsent(node, key -> new IdentityHashMap<>()).put(indexedObject, icd);
 		}
 	}
-}
\ No newline at end of file
+
+	/**
+	 * Checks for descendants - i.e. if the member node leads to further collections / maps.
+	 *
+	 * @param memberNode the member node
+	 * @return true, if successful
+	 */
+	private static boolean hasDescendants(IndexingNodeDto memberNode) {
+		return memberNode != null && (memberNode.children != null || memberNode.icdKey != null);
+	}
+}
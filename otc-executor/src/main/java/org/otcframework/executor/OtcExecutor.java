@@ -22,7 +22,14 @@
 */
 package org.otcframework.executor;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 /**
  * The Interface OtcExecutor.
@@ -42,6 +49,36 @@ public interface OtcExecutor {
 	 */
 	<T, S> T execute(String otcNamespace, S source, Class<T> targetClz, Map<String, Object> data);
 
+	/**
+	 * Execute into an existing target - fills the target graph in place, reusing its existing member objects and
+	 * collections. Lets pooled targets be recycled and long-lived aggregates be updated.
+	 *
+	 * @param <T>          the generic type
+	 * @param <S>          the generic type
+	 * @param otcNamespace the otc namespace
+	 * @param source       the source
+	 * @param target       the existing target
+	 * @param data         the data
+	 * @return the target
+	 */
+	<T, S> T executeInto(String otcNamespace, S source, T target, Map<String, Object> data);
+
+	/**
+	 * Execute incremental - re-executes into an existing target only the commands reading the changed source
+	 * property-paths, turning a full re-map into a partial update.
+	 *
+	 * @param <T>          the generic type
+	 * @param <S>          the generic type
+	 * @param otcNamespace the otc namespace
+	 * @param source       the source
+	 * @param target       the existing target
+	 * @param changedPaths the changed source paths, e.g. 'items.id' or 'items[*].id'
+	 * @param data         the data
+	 * @return the target
+	 */
+	<T, S> T executeIncremental(String otcNamespace, S source, T target, Collection<String> changedPaths,
+			Map<String, Object> data);
+
 	/**
 	 * Execute otc.
 	 *
@@ -52,4 +89,140 @@ public interface OtcExecutor {
 	 * @return the t
 	 */
 	<T> T execute(String otcNamespace, Class<T> targetClz, Map<String, Object> data);
+
+	/**
+	 * Execute async - maps the source on the default executor, which runs at most 'executor.asyncConcurrency'
+	 * executions at a time.
+	 *
+	 * @param <T>          the generic type
+	 * @param <S>          the generic type
+	 * @param otcNamespace the otc namespace
+	 * @param source       the source
+	 * @param targetClz    the target clz
+	 * @param data         the data
+	 * @return the completable future
+	 */
+	<T, S> CompletableFuture<T> executeAsync(String otcNamespace, S source, Class<T> targetClz,
+			Map<String, Object> data);
+
+	/**
+	 * Execute async - maps the source on the given executor; a {@link BoundedExecutor} may be used to limit its
+	 * concurrency.
+	 *
+	 * @param <T>          the generic type
+	 * @param <S>          the generic type
+	 * @param otcNamespace the otc namespace
+	 * @param source       the source
+	 * @param targetClz    the target clz
+	 * @param data         the data
+	 * @param executor     the executor
+	 * @return the completable future
+	 */
+	<T, S> CompletableFuture<T> executeAsync(String otcNamespace, S source, Class<T> targetClz,
+			Map<String, Object> data, Executor executor);
+
+	/**
+	 * Execute batch - maps each of the sources, resolving the registration once per chunk of sources.
+	 *
+	 * @param <T>          the generic type
+	 * @param <S>          the generic type
+	 * @param otcNamespace the otc namespace
+	 * @param sources      the sources
+	 * @param targetClz    the target clz
+	 * @param data         the data
+	 * @return the targets - in the order of their sources
+	 */
+	<T, S> List<T> executeBatch(String otcNamespace, List<S> sources, Class<T> targetClz, Map<String, Object> data);
+
+	/**
+	 * Execute batch parallel - maps the chunks of the sources in parallel on the fork-join pool configured by
+	 * 'executor.batchParallelism'. The data is shared by all the chunks.
+	 *
+	 * @param <T>          the generic type
+	 * @param <S>          the generic type
+	 * @param otcNamespace the otc namespace
+	 * @param sources      the sources
+	 * @param targetClz    the target clz
+	 * @param data         the data
+	 * @return the targets - in the order of their sources
+	 */
+	<T, S> List<T> executeBatchParallel(String otcNamespace, List<S> sources, Class<T> targetClz,
+			Map<String, Object> data);
+
+	/**
+	 * Execute batch parallel - maps the chunks of the sources in parallel on the given fork-join pool. The data is
+	 * shared by all the chunks.
+	 *
+	 * @param <T>          the generic type
+	 * @param <S>          the generic type
+	 * @param otcNamespace the otc namespace
+	 * @param sources      the sources
+	 * @param targetClz    the target clz
+	 * @param data         the data
+	 * @param forkJoinPool the fork join pool
+	 * @return the targets - in the order of their sources
+	 */
+	<T, S> List<T> executeBatchParallel(String otcNamespace, List<S> sources, Class<T> targetClz,
+			Map<String, Object> data, ForkJoinPool forkJoinPool);
+
+	/**
+	 * Resolves the mapping handle - which may be held and reused to skip the registry lookup on each execution.
+	 *
+	 * @param <S>          the generic type
+	 * @param <T>          the generic type
+	 * @param otcNamespace the otc namespace
+	 * @param sourceClz    the source clz - null if the OTC file has no source
+	 * @param targetClz    the target clz
+	 * @return the mapping handle
+	 */
+	<S, T> MappingHandle<S, T> handle(String otcNamespace, Class<S> sourceClz, Class<T> targetClz);
+
+	/**
+	 * Creates the memoizing handle - which caches the target of each source it executes, evicting the least
+	 * recently used once max-size targets are cached. The cached targets are shared between the callers and must
+	 * not be modified.
+	 *
+	 * @param <S>          the generic type
+	 * @param <T>          the generic type
+	 * @param otcNamespace the otc namespace
+	 * @param sourceClz    the source clz
+	 * @param targetClz    the target clz
+	 * @param maxSize      the max size
+	 * @param keyFunction  the key function - null to key the sources by identity
+	 * @return the memoizing mapping handle
+	 */
+	<S, T> MemoizingMappingHandle<S, T> memoizingHandle(String otcNamespace, Class<S> sourceClz,
+			Class<T> targetClz, int maxSize, Function<? super S, ?> keyFunction);
+
+	/**
+	 * As function - the mapping as a function, for use in {@link java.util.stream.Stream#map(Function)}.
+	 *
+	 * @param <S>          the generic type
+	 * @param <T>          the generic type
+	 * @param otcNamespace the otc namespace
+	 * @param sourceClz    the source clz
+	 * @param targetClz    the target clz
+	 * @param data         the data - shared by all the mappings
+	 * @return the function
+	 */
+	<S, T> Function<S, T> asFunction(String otcNamespace, Class<S> sourceClz, Class<T> targetClz,
+			Map<String, Object> data);
+
+	/**
+	 * Creates the mapping processor - which maps the sources pushed into it on the given number of threads, and
+	 * blocks the upstream while max-pending sources await delivery of their targets to the downstream.
+	 *
+	 * @param <S>          the generic type
+	 * @param <T>          the generic type
+	 * @param otcNamespace the otc namespace
+	 * @param sourceClz    the source clz
+	 * @param targetClz    the target clz
+	 * @param data         the data - shared by all the mappings
+	 * @param downstream   the downstream - receives the targets in the order of their sources
+	 * @param parallelism  the parallelism
+	 * @param maxPending   the max pending
+	 * @return the mapping processor
+	 */
+	<S, T> MappingProcessor<S, T> processor(String otcNamespace, Class<S> sourceClz, Class<T> targetClz,
+			Map<String, Object> data, Consumer<? super T> downstream, int parallelism, int maxPending);
 }
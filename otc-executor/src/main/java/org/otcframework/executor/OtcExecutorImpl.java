@@ -22,17 +22,28 @@
 */
 package org.otcframework.executor;
 
-import org.otcframework.common.OtcConstants;
-import org.otcframework.common.OtcConstants.TARGET_SOURCE;
+import org.otcframework.common.config.OtcConfig;
 import org.otcframework.common.dto.RegistryDto;
-import org.otcframework.common.engine.indexer.dto.IndexedCollectionsDto;
-import org.otcframework.common.executor.CodeExecutor;
-import org.otcframework.common.util.OtcUtils;
 import org.otcframework.executor.exception.OtcExecutorException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.Queue;
+import java.util.RandomAccess;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 /**
  * The Class OtcExecutorImpl.
@@ -45,8 +56,38 @@ public final class OtcExecutorImpl implements OtcExecutor {
 	/** The Constant otcRegistry. */
 	private static final OtcRegistry otcRegistry = OtcRegistryImpl.INSTANCE;
 
-	/** The Constant objectIndexer. */
-	private static final ObjectIndexer objectIndexer = ObjectIndexerImpl.getInstance();
+	/** The mapping handles - by source class, target class and otc namespace. */
+	private static final ClassValue<Map<Class<?>, Map<String, MappingHandle<?, ?>>>> mappingHandles =
+			new ClassValue<Map<Class<?>, Map<String, MappingHandle<?, ?>>>>() {
+				@Override
+				protected Map<Class<?>, Map<String, MappingHandle<?, ?>>> computeValue(Class<?> sourceClz) {
+					return new ConcurrentHashMap<>();
+				}
+			};
+
+	/**
+	 * The mapping handles created - rebound on reload of the registry. Held weakly, so that the handles dropped
+	 * along with the classes they map are not retained; the cleared ones are pruned on each rebind.
+	 */
+	private static final Queue<WeakReference<MappingHandleImpl<?, ?>>> createdHandles = new ConcurrentLinkedQueue<>();
+
+	/** The Constant LAZY_REGISTRATION - the handles are invalidated on reloads rather than rebound. */
+	private static final boolean LAZY_REGISTRATION = OtcConfig.getLazyRegistration();
+
+	/** The Constant BATCH_CHUNK_SIZE. */
+	private static final int BATCH_CHUNK_SIZE = OtcConfig.getBatchChunkSize();
+
+	/** The Constant batchPool - of the parallel batch-executions. */
+	private static final ForkJoinPool batchPool = OtcConfig.getBatchParallelism() > 0
+			? new ForkJoinPool(OtcConfig.getBatchParallelism())
+			: ForkJoinPool.commonPool();
+
+	/** The Constant asyncExecutor - the default executor of the asynchronous executions. */
+	private static final Executor asyncExecutor = new BoundedExecutor(Executors.newCachedThreadPool(runnable -> {
+		Thread thread = new Thread(runnable, "OtcAsyncExecutor");
+		thread.setDaemon(true);
+		return thread;
+	}), OtcConfig.getAsyncConcurrency());
 
 	/** The otc executor. */
 	private static final OtcExecutor otcExecutor = new OtcExecutorImpl();
@@ -55,6 +96,7 @@ public final class OtcExecutorImpl implements OtcExecutor {
 	 * Instantiates a new otc executor impl.
 	 */
 	private OtcExecutorImpl() {
+		otcRegistry.addReloadListener(OtcExecutorImpl::rebindHandles);
 		otcRegistry.register();
 	}
 
@@ -93,20 +135,322 @@ public final class OtcExecutorImpl implements OtcExecutor {
 	 * @return the t
 	 */
 	@Override
+	@SuppressWarnings("unchecked")
 	public <T, S> T execute(String otcNamespace, S source, Class<T> targetClz, Map<String, Object> data) {
-		RegistryDto registryDto = otcRegistry.retrieveRegistryDto(otcNamespace, source, targetClz);
-		if (registryDto == null) {
-			String otcFile = OtcUtils.createRegistryId(otcNamespace, source, targetClz)
-					+ OtcConstants.OTC_SCRIPT_EXTN;
-			String errMsg = "Oops... Cannot proceed. Missing or uncompiled OTC file! " + otcFile;
-			LOGGER.error(errMsg);
-			throw new OtcExecutorException(errMsg);
+		Class<S> sourceClz = null;
+		if (source != null) {
+			sourceClz = (Class<S>) source.getClass();
+		}
+		return handle(otcNamespace, sourceClz, targetClz).execute(source, data);
+	}
+
+	/**
+	 * Execute into.
+	 *
+	 * @param <T>          the generic type
+	 * @param <S>          the generic type
+	 * @param otcNamespace the otc namespace
+	 * @param source       the source
+	 * @param target       the target
+	 * @param data         the data
+	 * @return the t
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public <T, S> T executeInto(String otcNamespace, S source, T target, Map<String, Object> data) {
+		if (target == null) {
+			throw new OtcExecutorException("", "Target to execute into cannot be null.");
+		}
+		Class<S> sourceClz = null;
+		if (source != null) {
+			sourceClz = (Class<S>) source.getClass();
 		}
-		IndexedCollectionsDto indexedCollectionsDto = null;
-		if (source != null && registryDto.isProfilingRequried) {
-			indexedCollectionsDto = objectIndexer.indexObject(registryDto, TARGET_SOURCE.SOURCE, source);
+		return handle(otcNamespace, sourceClz, (Class<T>) target.getClass()).executeInto(source, target, data);
+	}
+
+	/**
+	 * Execute incremental.
+	 *
+	 * @param <T>          the generic type
+	 * @param <S>          the generic type
+	 * @param otcNamespace the otc namespace
+	 * @param source       the source
+	 * @param target       the target
+	 * @param changedPaths the changed paths
+	 * @param data         the data
+	 * @return the t
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public <T, S> T executeIncremental(String otcNamespace, S source, T target, Collection<String> changedPaths,
+			Map<String, Object> data) {
+		if (target == null) {
+			throw new OtcExecutorException("", "Target to execute into cannot be null.");
+		}
+		Class<S> sourceClz = null;
+		if (source != null) {
+			sourceClz = (Class<S>) source.getClass();
+		}
+		return handle(otcNamespace, sourceClz, (Class<T>) target.getClass()).executeIncremental(source, target,
+				changedPaths, data);
+	}
+
+	/**
+	 * Execute async.
+	 *
+	 * @param <T>          the generic type
+	 * @param <S>          the generic type
+	 * @param otcNamespace the otc namespace
+	 * @param source       the source
+	 * @param targetClz    the target clz
+	 * @param data         the data
+	 * @return the completable future
+	 */
+	@Override
+	public <T, S> CompletableFuture<T> executeAsync(String otcNamespace, S source, Class<T> targetClz,
+			Map<String, Object> data) {
+		return executeAsync(otcNamespace, source, targetClz, data, asyncExecutor);
+	}
+
+	/**
+	 * Execute async.
+	 *
+	 * @param <T>          the generic type
+	 * @param <S>          the generic type
+	 * @param otcNamespace the otc namespace
+	 * @param source       the source
+	 * @param targetClz    the target clz
+	 * @param data         the data
+	 * @param executor     the executor
+	 * @return the completable future
+	 */
+	@Override
+	public <T, S> CompletableFuture<T> executeAsync(String otcNamespace, S source, Class<T> targetClz,
+			Map<String, Object> data, Executor executor) {
+		return CompletableFuture.supplyAsync(() -> execute(otcNamespace, source, targetClz, data), executor);
+	}
+
+	/**
+	 * Execute batch.
+	 *
+	 * @param <T>          the generic type
+	 * @param <S>          the generic type
+	 * @param otcNamespace the otc namespace
+	 * @param sources      the sources
+	 * @param targetClz    the target clz
+	 * @param data         the data
+	 * @return the list
+	 */
+	@Override
+	public <T, S> List<T> executeBatch(String otcNamespace, List<S> sources, Class<T> targetClz,
+			Map<String, Object> data) {
+		BatchExecution<S, T> batchExecution = createBatchExecution(otcNamespace, sources, targetClz, data,
+				Integer.MAX_VALUE);
+		batchExecution.executeChunk();
+		return batchExecution.getTargets();
+	}
+
+	/**
+	 * Execute batch parallel.
+	 *
+	 * @param <T>          the generic type
+	 * @param <S>          the generic type
+	 * @param otcNamespace the otc namespace
+	 * @param sources      the sources
+	 * @param targetClz    the target clz
+	 * @param data         the data
+	 * @return the list
+	 */
+	@Override
+	public <T, S> List<T> executeBatchParallel(String otcNamespace, List<S> sources, Class<T> targetClz,
+			Map<String, Object> data) {
+		return executeBatchParallel(otcNamespace, sources, targetClz, data, batchPool);
+	}
+
+	/**
+	 * Execute batch parallel.
+	 *
+	 * @param <T>          the generic type
+	 * @param <S>          the generic type
+	 * @param otcNamespace the otc namespace
+	 * @param sources      the sources
+	 * @param targetClz    the target clz
+	 * @param data         the data
+	 * @param forkJoinPool the fork join pool
+	 * @return the list
+	 */
+	@Override
+	public <T, S> List<T> executeBatchParallel(String otcNamespace, List<S> sources, Class<T> targetClz,
+			Map<String, Object> data, ForkJoinPool forkJoinPool) {
+		BatchExecution<S, T> batchExecution = createBatchExecution(otcNamespace, sources, targetClz, data,
+				BATCH_CHUNK_SIZE);
+		forkJoinPool.invoke(batchExecution);
+		return batchExecution.getTargets();
+	}
+
+	/**
+	 * Creates the batch execution - of all the sources.
+	 *
+	 * @param otcNamespace the otc namespace
+	 * @param sources      the sources
+	 * @param targetClz    the target clz
+	 * @param data         the data
+	 * @param chunkSize    the chunk size
+	 * @return the batch execution
+	 */
+	private <T, S> BatchExecution<S, T> createBatchExecution(String otcNamespace, List<S> sources,
+			Class<T> targetClz, Map<String, Object> data, int chunkSize) {
+		if (sources == null) {
+			throw new OtcExecutorException("", "Sources of the batch cannot be null.");
+		}
+		List<S> randomAccessSources = sources instanceof RandomAccess ? sources : new ArrayList<>(sources);
+		return new BatchExecution<>(this, otcNamespace, randomAccessSources, targetClz, data,
+				new Object[randomAccessSources.size()], 0, randomAccessSources.size(), chunkSize);
+	}
+
+	/**
+	 * Resolves the mapping handle - from the handles cached against the source and target classes.
+	 *
+	 * @param <S>          the generic type
+	 * @param <T>          the generic type
+	 * @param otcNamespace the otc namespace
+	 * @param sourceClz    the source clz
+	 * @param targetClz    the target clz
+	 * @return the mapping handle
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public <S, T> MappingHandle<S, T> handle(String otcNamespace, Class<S> sourceClz, Class<T> targetClz) {
+		Map<Class<?>, Map<String, MappingHandle<?, ?>>> targetHandles = mappingHandles
+				.get(sourceClz == null ? Void.class : sourceClz);
+		Map<String, MappingHandle<?, ?>> namespaceHandles = targetHandles.get(targetClz);
+		if (namespaceHandles == null) {
+			targetHandles.putIfAbsent(targetClz, new ConcurrentHashMap<>());
+			namespaceHandles = targetHandles.get(targetClz);
+		}
+		String namespace = otcNamespace == null ? "" : otcNamespace;
+		MappingHandle<?, ?> mappingHandle = namespaceHandles.get(namespace);
+		if (mappingHandle == null) {
+			MappingHandleImpl<S, T> newHandle = createHandle(otcNamespace, sourceClz, targetClz);
+			mappingHandle = namespaceHandles.putIfAbsent(namespace, newHandle);
+			if (mappingHandle == null) {
+				// -- only the handle that won the race is rebound on reloads
+				createdHandles.add(new WeakReference<>(newHandle));
+				// -- picks up a reload that raced with the creation of the handle
+				rebindHandle(newHandle);
+				mappingHandle = newHandle;
+			}
+		}
+		return (MappingHandle<S, T>) mappingHandle;
+	}
+
+	/**
+	 * Creates the memoizing handle.
+	 *
+	 * @param <S>          the generic type
+	 * @param <T>          the generic type
+	 * @param otcNamespace the otc namespace
+	 * @param sourceClz    the source clz
+	 * @param targetClz    the target clz
+	 * @param maxSize      the max size
+	 * @param keyFunction  the key function
+	 * @return the memoizing mapping handle
+	 */
+	@Override
+	public <S, T> MemoizingMappingHandle<S, T> memoizingHandle(String otcNamespace, Class<S> sourceClz,
+			Class<T> targetClz, int maxSize, Function<? super S, ?> keyFunction) {
+		if (maxSize < 1) {
+			throw new OtcExecutorException("", "Max-size of the memoizing handle should be at least 1.");
+		}
+		return new MemoizingMappingHandle<>((MappingHandleImpl<S, T>) handle(otcNamespace, sourceClz, targetClz),
+				maxSize, keyFunction);
+	}
+
+	/**
+	 * As function.
+	 *
+	 * @param <S>          the generic type
+	 * @param <T>          the generic type
+	 * @param otcNamespace the otc namespace
+	 * @param sourceClz    the source clz
+	 * @param targetClz    the target clz
+	 * @param data         the data
+	 * @return the function
+	 */
+	@Override
+	public <S, T> Function<S, T> asFunction(String otcNamespace, Class<S> sourceClz, Class<T> targetClz,
+			Map<String, Object> data) {
+		MappingHandle<S, T> mappingHandle = handle(otcNamespace, sourceClz, targetClz);
+		return source -> mappingHandle.execute(source, data);
+	}
+
+	/**
+	 * Creates the mapping processor.
+	 *
+	 * @param <S>          the generic type
+	 * @param <T>          the generic type
+	 * @param otcNamespace the otc namespace
+	 * @param sourceClz    the source clz
+	 * @param targetClz    the target clz
+	 * @param data         the data
+	 * @param downstream   the downstream
+	 * @param parallelism  the parallelism
+	 * @param maxPending   the max pending
+	 * @return the mapping processor
+	 */
+	@Override
+	public <S, T> MappingProcessor<S, T> processor(String otcNamespace, Class<S> sourceClz, Class<T> targetClz,
+			Map<String, Object> data, Consumer<? super T> downstream, int parallelism, int maxPending) {
+		return new MappingProcessor<>(handle(otcNamespace, sourceClz, targetClz), data, downstream, parallelism,
+				maxPending);
+	}
+
+	/**
+	 * Creates the handle.
+	 *
+	 * @param otcNamespace the otc namespace
+	 * @param sourceClz    the source clz
+	 * @param targetClz    the target clz
+	 * @return the mapping handle
+	 */
+	private static <S, T> MappingHandleImpl<S, T> createHandle(String otcNamespace, Class<S> sourceClz,
+			Class<T> targetClz) {
+		RegistryDto registryDto = otcRegistry.retrieveRegistryDto(otcNamespace, sourceClz, targetClz);
+		return new MappingHandleImpl<>(otcRegistry, otcNamespace, sourceClz, targetClz, registryDto);
+	}
+
+	/**
+	 * Rebind handles - to the registry dtos swapped in by the registry.
+	 */
+	private static void rebindHandles() {
+		for (Iterator<WeakReference<MappingHandleImpl<?, ?>>> iterator = createdHandles.iterator(); iterator
+				.hasNext();) {
+			MappingHandleImpl<?, ?> mappingHandle = iterator.next().get();
+			if (mappingHandle == null) {
+				iterator.remove();
+			} else {
+				rebindHandle(mappingHandle);
+			}
+		}
+	}
+
+	/**
+	 * Rebind handle - when lazy, invalidates the handle instead, so that its registration is resolved, and
+	 * registered on demand, on its next use rather than on the reloading thread. A handle failing to rebind keeps
+	 * its registration, and does not hold up the other handles.
+	 *
+	 * @param mappingHandle the mapping handle
+	 */
+	private static void rebindHandle(MappingHandleImpl<?, ?> mappingHandle) {
+		try {
+			if (LAZY_REGISTRATION) {
+				mappingHandle.invalidate();
+			} else {
+				mappingHandle.rebind();
+			}
+		} catch (RuntimeException ex) {
+			LOGGER.warn("Rebind of the mapping handle of '{}' failed. {}", mappingHandle.getRegistryId(),
+					ex.getMessage());
 		}
-		CodeExecutor<S, T> codeExecutor = registryDto.codeExecutor;
-		return codeExecutor.execute(source, indexedCollectionsDto, data);
 	}
 }
@@ -41,6 +41,18 @@ public interface OtcRegistry {
 	 */
 	void register(RegistryDto registryDto);
 
+	/**
+	 * Reload.
+	 */
+	void reload();
+
+	/**
+	 * Adds the reload listener.
+	 *
+	 * @param reloadListener the reload listener
+	 */
+	void addReloadListener(Runnable reloadListener);
+
 	/**
 	 * Retrieve registry dto.
 	 *
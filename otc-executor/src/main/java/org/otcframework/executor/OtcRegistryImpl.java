@@ -22,8 +22,11 @@
 */
 package org.otcframework.executor;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.otcframework.common.OtcConstants;
+import org.otcframework.common.OtcConstants.TARGET_SOURCE;
 import org.otcframework.common.config.OtcConfig;
 import org.otcframework.common.dto.OtcChainDto;
 import org.otcframework.common.dto.OtcCommandDto;
@@ -32,10 +35,12 @@ import org.otcframework.common.dto.RegistryDto.CompiledInfo;
 import org.otcframework.common.exception.OtcException;
 import org.otcframework.common.exception.OtcUnsupportedJdkException;
 import org.otcframework.common.executor.CodeExecutor;
+import org.otcframework.common.executor.SourceIndexer;
 import org.otcframework.common.factory.OtcCommandDtoFactory;
 import org.otcframework.common.util.CommonUtils;
 import org.otcframework.common.util.OtcReflectionUtil;
 import org.otcframework.common.util.OtcUtils;
+import org.otcframework.common.util.RegistryManifest;
 import org.otcframework.executor.exception.RegistryException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -45,11 +50,21 @@ import java.io.FileFilter;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.lang.reflect.Field;
+import java.net.MalformedURLException;
 import java.net.URISyntaxException;
 import java.net.URL;
 import java.net.URLClassLoader;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 /**
  * The Class OtcRegistryImpl.
@@ -62,12 +77,30 @@ public enum OtcRegistryImpl implements OtcRegistry {
 	/** The Constant LOGGER. */
 	private static final Logger LOGGER = LoggerFactory.getLogger(OtcRegistryImpl.class);
 
-	/** The map packaged otc dtos. */
-	private Map<String, RegistryDto> mapPackagedOtcDtos = new HashMap<>();
+	/** The registry dtos - an immutable snapshot, replaced as a whole on each registration / reload. */
+	private volatile Map<String, RegistryDto> registryDtos = Collections.emptyMap();
+
+	/** The registry files - the tmd files by registry id, registered on their first request when lazy. */
+	private volatile Map<String, RegistryFile> registryFiles = Collections.emptyMap();
+
+	/** The registry clz loader - of the executors of the latest registration / reload. */
+	private volatile URLClassLoader registryClzLoader;
+
+	/** The retired clz loaders - replaced by reloads, closed once no registration is executed through them. */
+	private final List<URLClassLoader> retiredClzLoaders = new ArrayList<>();
+
+	/** The reload listeners. */
+	private final List<Runnable> reloadListeners = new CopyOnWriteArrayList<>();
+
+	/** The registry watcher. */
+	private OtcRegistryWatcher registryWatcher;
 
 	/** The Constant depFileFilter. */
 	private static final FileFilter depFileFilter = CommonUtils.createFilenameFilter(OtcConstants.OTC_TMD_EXTN);
 
+	/** The Constant REGISTRY_ID - the property read from the tmd files while indexing them. */
+	private static final String REGISTRY_ID = "registryId";
+
 	/** The Constant objectMapper. */
 	private static final ObjectMapper objectMapper = new ObjectMapper();
 
@@ -75,6 +108,9 @@ public enum OtcRegistryImpl implements OtcRegistry {
 	private static final URLClassLoader clzLoader = OtcConfig.getTargetClassLoader();
 	private static final String OTC_TARGET_FOLDER = OtcConfig.getTargetDirectoryPath();
 
+	/** The Constant objectIndexer. */
+	private static final ObjectIndexer objectIndexer = ObjectIndexerImpl.getInstance();
+
 	/**
 	 * Instantiates a new otc registry impl.
 	 */
@@ -86,60 +122,332 @@ public enum OtcRegistryImpl implements OtcRegistry {
 	 */
 	@Override
 	public void register() {
-		File directory;
-		if (OtcConfig.isDefaultLocations()) {
-			directory = new File(OtcConfig.getOtcTmdDirectoryPath());
+		File directory = retrieveTmdDirectory();
+		registryClzLoader = clzLoader;
+		if (OtcConfig.getLazyRegistration()) {
+			registryFiles = indexRegistryFiles(directory);
+			warmUp(registryFiles);
 		} else {
-			URL tmdUrl = this.getClass().getClassLoader().getResource(OtcConfig.OTC_TMD_FOLDER);
-			try {
-				directory = new File(tmdUrl.toURI());
-			} catch (URISyntaxException e) {
-				throw new RegistryException("", "Unable to load '.tmd' files...", e);
+			LOGGER.info("Beginning OTC registrations...");
+			long startTime = System.nanoTime();
+			Map<String, RegistryDto> loadedRegistryDtos = loadRegistryDtos(directory, clzLoader);
+			long endTime = System.nanoTime();
+			if (!loadedRegistryDtos.isEmpty()) {
+				publish(loadedRegistryDtos);
+				LOGGER.info("Completed OTC registrations in {} millis.", ((endTime - startTime) / 1000000.0));
+			} else {
+				LOGGER.info("Nothing to register - no registration files found !!");
 			}
 		}
-		File[] files = directory.listFiles(depFileFilter);
-		if (files == null) {
+		if (OtcConfig.getHotReload()) {
+			startWatcher(directory);
+		}
+	}
+
+	/**
+	 * Reload - loads the registrations afresh along with their executors through a new class-loader, and swaps
+	 * them in atomically. Registrations missing in the tmd directory are retained. When lazy, the registrations
+	 * of the re-indexed tmd files are dropped instead, to be registered afresh on their next request.
+	 */
+	@Override
+	public void reload() {
+		File directory = retrieveTmdDirectory();
+		URLClassLoader reloadClzLoader;
+		try {
+			URL url = new File(OTC_TARGET_FOLDER).toURI().toURL();
+			reloadClzLoader = URLClassLoader.newInstance(new URL[] { url });
+		} catch (MalformedURLException e) {
+			throw new RegistryException("", e);
+		}
+		URLClassLoader replacedClzLoader = registryClzLoader;
+		if (OtcConfig.getLazyRegistration()) {
+			Map<String, RegistryFile> reindexedRegistryFiles = indexRegistryFiles(directory);
+			synchronized (reloadListeners) {
+				registryClzLoader = reloadClzLoader;
+				registryFiles = reindexedRegistryFiles;
+				Map<String, RegistryDto> snapshot = new HashMap<>(registryDtos);
+				snapshot.keySet().removeAll(reindexedRegistryFiles.keySet());
+				registryDtos = Collections.unmodifiableMap(snapshot);
+			}
+			notifyReloadListeners();
+			retireClzLoader(replacedClzLoader);
+			warmUp(reindexedRegistryFiles);
 			return;
 		}
-		LOGGER.info("Beginning OTC registrations...");
+		LOGGER.info("Beginning OTC re-registrations...");
 		long startTime = System.nanoTime();
-		boolean hasRegistrations = false;
+		Map<String, RegistryDto> loadedRegistryDtos;
+		try {
+			loadedRegistryDtos = loadRegistryDtos(directory, reloadClzLoader);
+		} catch (RuntimeException ex) {
+			closeClzLoader(reloadClzLoader);
+			throw ex;
+		}
+		if (loadedRegistryDtos.isEmpty()) {
+			LOGGER.info("Nothing to re-register - no registration files found !!");
+			closeClzLoader(reloadClzLoader);
+			return;
+		}
+		registryClzLoader = reloadClzLoader;
+		publish(loadedRegistryDtos);
+		retireClzLoader(replacedClzLoader);
+		LOGGER.info("Completed OTC re-registrations in {} millis.", ((System.nanoTime() - startTime) / 1000000.0));
+	}
+
+	/**
+	 * Adds the reload listener - notified after each registration or reload has been swapped in.
+	 *
+	 * @param reloadListener the reload listener
+	 */
+	@Override
+	public void addReloadListener(Runnable reloadListener) {
+		reloadListeners.add(reloadListener);
+	}
+
+	/**
+	 * Retrieve tmd directory.
+	 *
+	 * @return the file
+	 */
+	private File retrieveTmdDirectory() {
+		if (OtcConfig.isDefaultLocations()) {
+			return new File(OtcConfig.getOtcTmdDirectoryPath());
+		}
+		URL tmdUrl = this.getClass().getClassLoader().getResource(OtcConfig.OTC_TMD_FOLDER);
+		try {
+			return new File(tmdUrl.toURI());
+		} catch (URISyntaxException e) {
+			throw new RegistryException("", "Unable to load '.tmd' files...", e);
+		}
+	}
+
+	/**
+	 * Load registry dtos.
+	 *
+	 * @param directory      the directory
+	 * @param classLoader    the class loader
+	 * @return the map
+	 */
+	private Map<String, RegistryDto> loadRegistryDtos(File directory, URLClassLoader classLoader) {
+		File[] files = directory.listFiles(depFileFilter);
+		if (files == null) {
+			return Collections.emptyMap();
+		}
+		Map<String, RegistryDto> loadedRegistryDtos = new HashMap<>();
+		Set<String> manifestFileNames = new HashSet<>();
+		RegistryManifest registryManifest = openRegistryManifest(directory);
+		if (registryManifest != null) {
+			for (RegistryDto registryDto : registryManifest.readAll()) {
+				manifestFileNames.add(new File(registryDto.registryFileName).getName());
+				registryDto = initRegistryDto(registryDto, registryDto.registryFileName, classLoader);
+				if (registryDto != null) {
+					loadedRegistryDtos.put(registryDto.registryId, registryDto);
+				}
+			}
+		}
 		for (File file : files) {
-			if (file.isDirectory()) {
+			if (file.isDirectory() || manifestFileNames.contains(file.getName())) {
 				continue;
 			}
-			try (FileInputStream fis = new FileInputStream(file)) {
-				byte[] contents = new byte[fis.available()];
-				fis.read(contents);
-				RegistryDto registryDto = objectMapper.readValue(contents, RegistryDto.class);
-				if (registryDto.hasError) {
-					LOGGER.error(
-							"Ignoring registry of {}. Probable cause: full compilation did not succeed on previous attempt.",
-							file.getAbsolutePath());
+			RegistryDto registryDto = loadRegistryDto(file, classLoader);
+			if (registryDto != null) {
+				loadedRegistryDtos.put(registryDto.registryId, registryDto);
+			}
+		}
+		return loadedRegistryDtos;
+	}
+
+	/**
+	 * Open registry manifest - the binary registry in the tmd directory, which takes precedence over the tmd files
+	 * of the same registry ids.
+	 *
+	 * @param directory the directory
+	 * @return the registry manifest - null if the directory has none
+	 */
+	private static RegistryManifest openRegistryManifest(File directory) {
+		File manifestFile = new File(directory, OtcConstants.OTC_REGISTRY_MANIFEST);
+		if (!manifestFile.isFile()) {
+			return null;
+		}
+		try {
+			return RegistryManifest.open(manifestFile);
+		} catch (OtcException e) {
+			throw new RegistryException("", e);
+		}
+	}
+
+	/**
+	 * Load registry dto.
+	 *
+	 * @param file        the file
+	 * @param classLoader the class loader
+	 * @return the registry dto - null if the compilation of its OTCS file had failed
+	 */
+	private RegistryDto loadRegistryDto(File file, URLClassLoader classLoader) {
+		try (FileInputStream fis = new FileInputStream(file)) {
+			byte[] contents = new byte[fis.available()];
+			fis.read(contents);
+			RegistryDto registryDto = objectMapper.readValue(contents, RegistryDto.class);
+			return initRegistryDto(registryDto, file.getAbsolutePath(), classLoader);
+		} catch (IOException e) {
+			throw new RegistryException("", e);
+		}
+	}
+
+	/**
+	 * Inits the registry dto - read from a tmd file or from the registry manifest.
+	 *
+	 * @param registryDto  the registry dto
+	 * @param registryName the registry name - for logging
+	 * @param classLoader  the class loader
+	 * @return the registry dto - null if the compilation of its OTCS file had failed
+	 */
+	private RegistryDto initRegistryDto(RegistryDto registryDto, String registryName, URLClassLoader classLoader) {
+		if (registryDto.hasError) {
+			LOGGER.error(
+					"Ignoring registry of {}. Probable cause: full compilation did not succeed on previous attempt.",
+					registryName);
+			return null;
+		}
+		for (CompiledInfo compiledInfo : registryDto.compiledInfos.values()) {
+			// init source
+			initOtcCommandDto(compiledInfo.id, compiledInfo.sourceOCDStem, registryDto.sourceClz,
+					compiledInfo.sourceOtcChainDto);
+			// init target
+			initOtcCommandDto(compiledInfo.id, compiledInfo.targetOCDStem, registryDto.targetClz,
+					compiledInfo.targetOtcChainDto);
+		}
+		initRegistryDto(registryDto, classLoader);
+		return registryDto;
+	}
+
+	/**
+	 * Index registry files - by the registry id read from the head of each tmd file.
+	 *
+	 * @param directory the directory
+	 * @return the map
+	 */
+	private Map<String, RegistryFile> indexRegistryFiles(File directory) {
+		LOGGER.info("Beginning OTC registry indexing...");
+		long startTime = System.nanoTime();
+		File[] files = directory.listFiles(depFileFilter);
+		Map<String, RegistryFile> indexedRegistryFiles = new HashMap<>();
+		if (files != null) {
+			for (File file : files) {
+				if (file.isDirectory()) {
 					continue;
 				}
-				for (CompiledInfo compiledInfo : registryDto.compiledInfos.values()) {
-					// init source
-					initOtcCommandDto(compiledInfo.id, compiledInfo.sourceOCDStem, registryDto.sourceClz,
-							compiledInfo.sourceOtcChainDto);
-					// init target
-					initOtcCommandDto(compiledInfo.id, compiledInfo.targetOCDStem, registryDto.targetClz,
-							compiledInfo.targetOtcChainDto);
+				String registryId = readRegistryId(file);
+				if (registryId != null) {
+					indexedRegistryFiles.put(registryId, new RegistryFile(file, null));
+				}
+			}
+			RegistryManifest registryManifest = openRegistryManifest(directory);
+			if (registryManifest != null) {
+				for (String registryId : registryManifest.getRegistryIds()) {
+					indexedRegistryFiles.put(registryId, new RegistryFile(null, registryManifest));
 				}
-				register(registryDto);
-				hasRegistrations = true;
-			} catch (IOException e) {
-				throw new RegistryException("", e);
 			}
 		}
-		long endTime = System.nanoTime();
-		if (hasRegistrations) {
-			LOGGER.info("Completed OTC registrations in {} millis.", ((endTime - startTime) / 1000000.0));
-		} else {
-			LOGGER.info("Nothing to register - no registration files found !!");
+		LOGGER.info("Indexed {} OTC registration(s) for on-demand registration in {} millis.",
+				indexedRegistryFiles.size(), ((System.nanoTime() - startTime) / 1000000.0));
+		return Collections.unmodifiableMap(indexedRegistryFiles);
+	}
+
+	/**
+	 * Read registry id - streams the tmd file only up to its 'registryId' property.
+	 *
+	 * @param file the file
+	 * @return the string
+	 */
+	private static String readRegistryId(File file) {
+		try (JsonParser jsonParser = objectMapper.getFactory().createParser(file)) {
+			if (jsonParser.nextToken() != JsonToken.START_OBJECT) {
+				return null;
+			}
+			while (jsonParser.nextToken() == JsonToken.FIELD_NAME) {
+				String propertyName = jsonParser.getCurrentName();
+				jsonParser.nextToken();
+				if (REGISTRY_ID.equals(propertyName)) {
+					return jsonParser.getValueAsString();
+				}
+				jsonParser.skipChildren();
+			}
+			return null;
+		} catch (IOException e) {
+			throw new RegistryException("", e);
 		}
 	}
 
+	/**
+	 * Register on demand - the indexed tmd file of the registry id.
+	 *
+	 * @param registryId   the registry id
+	 * @param registryFile the registry file
+	 * @return the registry dto
+	 */
+	private RegistryDto registerOnDemand(String registryId, RegistryFile registryFile) {
+		while (registryFile != null) {
+			synchronized (registryFile) {
+				RegistryDto registryDto = registryDtos.get(registryId);
+				if (registryDto != null) {
+					return registryDto;
+				}
+				long startTime = System.nanoTime();
+				URLClassLoader classLoader = registryClzLoader;
+				try {
+					if (registryFile.registryManifest == null) {
+						registryDto = loadRegistryDto(registryFile.file, classLoader);
+					} else {
+						registryDto = registryFile.registryManifest.read(registryId);
+						registryDto = initRegistryDto(registryDto, registryId, classLoader);
+					}
+				} catch (RuntimeException ex) {
+					// -- a reload meanwhile may have retired the class-loader - registers afresh below if so
+					if (registryFiles.get(registryId) == registryFile) {
+						throw ex;
+					}
+				}
+				if (registryDto == null && registryFiles.get(registryId) == registryFile) {
+					return null;
+				}
+				if (registryDto != null && swapIfCurrent(registryId, registryFile, registryDto)) {
+					LOGGER.info("Completed on-demand OTC registration of '{}' in {} millis.", registryId,
+							((System.nanoTime() - startTime) / 1000000.0));
+					return registryDto;
+				}
+			}
+			// -- a reload re-indexed the tmd files meanwhile - registers afresh from the current one
+			registryFile = registryFiles.get(registryId);
+		}
+		return null;
+	}
+
+	/**
+	 * Warm up - registers the indexed tmd files in the background on a bounded pool of daemon threads.
+	 *
+	 * @param indexedRegistryFiles the indexed registry files
+	 */
+	private void warmUp(Map<String, RegistryFile> indexedRegistryFiles) {
+		int warmUpThreads = OtcConfig.getWarmUpThreads();
+		if (warmUpThreads == 0 || indexedRegistryFiles.isEmpty()) {
+			return;
+		}
+		ExecutorService executorService = Executors.newFixedThreadPool(warmUpThreads, runnable -> {
+			Thread thread = new Thread(runnable, "OtcRegistryWarmUp");
+			thread.setDaemon(true);
+			return thread;
+		});
+		indexedRegistryFiles.forEach((registryId, registryFile) -> executorService.execute(() -> {
+			try {
+				registerOnDemand(registryId, registryFile);
+			} catch (RuntimeException ex) {
+				LOGGER.warn("Warm-up of OTC registration '{}' failed. {}", registryId, ex.getMessage());
+			}
+		}));
+		executorService.shutdown();
+	}
+
 	/**
 	 * Inits the otc command dto.
 	 *
@@ -154,6 +462,7 @@ public enum OtcRegistryImpl implements OtcRegistry {
 		}
 		Field field = OtcReflectionUtil.findField(clz, otcCommandDto.fieldName);
 		otcCommandDto.field = field;
+		otcCommandDto.fieldGetter = OtcReflectionUtil.createFieldGetter(field);
 		if (otcCommandDto.children == null) {
 			return;
 		}
@@ -175,6 +484,7 @@ public enum OtcRegistryImpl implements OtcRegistry {
 			OtcCommandDto childOCD = otcCommandDto.children.get(otcToken);
 			field = OtcReflectionUtil.findField(otcCommandDto.fieldType, childOCD.fieldName);
 			childOCD.field = field;
+			childOCD.fieldGetter = OtcReflectionUtil.createFieldGetter(field);
 			otcCommandDto = childOCD;
 		}
 	}
@@ -190,30 +500,207 @@ public enum OtcRegistryImpl implements OtcRegistry {
 			LOGGER.warn("Nothing to register!");
 			return;
 		}
-		String mainClass = registryDto.mainClass;
-		// exception will be thrown for loadclass if class is not compiled.
-		Class<?> mainClz = null;
+		initRegistryDto(registryDto, clzLoader);
+		publish(Collections.singletonMap(registryDto.registryId, registryDto));
+	}
+
+	/**
+	 * Inits the registry dto - instantiates its executors and creates its indexing trie.
+	 *
+	 * @param registryDto the registry dto
+	 * @param classLoader the class loader
+	 */
+	private void initRegistryDto(RegistryDto registryDto, URLClassLoader classLoader) {
+		Class<?> mainClz = loadClass(registryDto.mainClass, classLoader);
+		CodeExecutor codeExecutor;
 		try {
-			mainClz = OtcUtils.loadClass(mainClass);
-		} catch (OtcUnsupportedJdkException ex) {
-			throw ex;
-		} catch (Exception ex) {
+			codeExecutor = (CodeExecutor) mainClz.newInstance();
+		} catch (InstantiationException | IllegalAccessException e) {
+			throw new OtcException("", e);
+		}
+		if (codeExecutor.getCodeVersion() < CodeExecutor.CODE_VERSION) {
+			throw new OtcException("", "Executor '" + mainClz.getName() + "' was generated by an older version of "
+					+ "the OTC compiler - recompile its OTCS file with this version of the OTC compiler.");
+		}
+		registryDto.codeExecutor = codeExecutor;
+		if (registryDto.sourceIndexerClass != null) {
+			Class<?> sourceIndexerClz = loadClass(registryDto.sourceIndexerClass, classLoader);
 			try {
-				mainClz = clzLoader.loadClass(mainClass);
-				LOGGER.info("Found entry file {} in {} ", mainClass, OTC_TARGET_FOLDER);
-			} catch (Exception e) {
-				LOGGER.error("Could not load entry file {} ", mainClass);
+				registryDto.sourceIndexer = (SourceIndexer<?>) sourceIndexerClz.getDeclaredConstructor().newInstance();
+			} catch (ReflectiveOperationException e) {
 				throw new OtcException("", e);
 			}
 		}
-		CodeExecutor codeExecutor;
+		registryDto.sourceIndexingTrie = objectIndexer.createIndexingTrie(registryDto, TARGET_SOURCE.SOURCE);
+		registryDto.targetIndexingTrie = objectIndexer.createIndexingTrie(registryDto, TARGET_SOURCE.TARGET);
+		if (registryDto.compiledInfos != null) {
+			String[] sourcePropertyPaths = new String[registryDto.compiledInfos.size()];
+			int idx = 0;
+			for (CompiledInfo compiledInfo : registryDto.compiledInfos.values()) {
+				if (compiledInfo.sourceOtcChainDto != null && compiledInfo.sourceOtcChainDto.otcChain != null) {
+					sourcePropertyPaths[idx] = OtcUtils.toPropertyPath(compiledInfo.sourceOtcChainDto.otcChain);
+				}
+				idx++;
+			}
+			registryDto.sourcePropertyPaths = sourcePropertyPaths;
+		}
+	}
+
+	/**
+	 * Publish - swaps in a new snapshot of the registry holding the registry dtos, and notifies the listeners.
+	 *
+	 * @param newRegistryDtos the new registry dtos
+	 */
+	private void publish(Map<String, RegistryDto> newRegistryDtos) {
+		swap(newRegistryDtos);
+		notifyReloadListeners();
+	}
+
+	/**
+	 * Swap - in a new snapshot of the registry holding the registry dtos.
+	 *
+	 * @param newRegistryDtos the new registry dtos
+	 */
+	private void swap(Map<String, RegistryDto> newRegistryDtos) {
+		synchronized (reloadListeners) {
+			Map<String, RegistryDto> snapshot = new HashMap<>(registryDtos);
+			snapshot.putAll(newRegistryDtos);
+			registryDtos = Collections.unmodifiableMap(snapshot);
+		}
+	}
+
+	/**
+	 * Swap if current - swaps in the registry dto registered on demand, unless a reload has replaced its
+	 * registry file meanwhile.
+	 *
+	 * @param registryId   the registry id
+	 * @param registryFile the registry file
+	 * @param registryDto  the registry dto
+	 * @return true, if swapped in
+	 */
+	private boolean swapIfCurrent(String registryId, RegistryFile registryFile, RegistryDto registryDto) {
+		synchronized (reloadListeners) {
+			if (registryFiles.get(registryId) != registryFile) {
+				return false;
+			}
+			swap(Collections.singletonMap(registryId, registryDto));
+			return true;
+		}
+	}
+
+	/**
+	 * Retire clz loader - the class-loader replaced by a reload, after the handles have been rebound. It is closed
+	 * along with the other retired ones once none of the registrations swapped in is executed through it - the
+	 * ones retained by a reload keep it open till they are re-registered.
+	 *
+	 * @param replacedClzLoader the replaced clz loader
+	 */
+	private void retireClzLoader(URLClassLoader replacedClzLoader) {
+		List<URLClassLoader> unusedClzLoaders = new ArrayList<>();
+		synchronized (reloadListeners) {
+			if (replacedClzLoader != null && replacedClzLoader != clzLoader) {
+				retiredClzLoaders.add(replacedClzLoader);
+			}
+			for (Iterator<URLClassLoader> iterator = retiredClzLoaders.iterator(); iterator.hasNext();) {
+				URLClassLoader retiredClzLoader = iterator.next();
+				if (!isInUse(retiredClzLoader)) {
+					iterator.remove();
+					unusedClzLoaders.add(retiredClzLoader);
+				}
+			}
+		}
+		for (URLClassLoader unusedClzLoader : unusedClzLoaders) {
+			closeClzLoader(unusedClzLoader);
+		}
+	}
+
+	/**
+	 * Checks if the class-loader is in use - by the executors of the registrations.
+	 *
+	 * @param classLoader the class loader
+	 * @return true, if is in use
+	 */
+	private boolean isInUse(ClassLoader classLoader) {
+		for (RegistryDto registryDto : registryDtos.values()) {
+			if ((registryDto.codeExecutor != null
+					&& registryDto.codeExecutor.getClass().getClassLoader() == classLoader)
+					|| (registryDto.sourceIndexer != null
+							&& registryDto.sourceIndexer.getClass().getClassLoader() == classLoader)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Close clz loader.
+	 *
+	 * @param classLoader the class loader
+	 */
+	private static void closeClzLoader(URLClassLoader classLoader) {
 		try {
-			codeExecutor = (CodeExecutor) mainClz.newInstance();
-			registryDto.codeExecutor = codeExecutor;
-		} catch (InstantiationException | IllegalAccessException e) {
-			throw new OtcException("", e);
+			classLoader.close();
+		} catch (IOException e) {
+			LOGGER.warn("Unable to close the class-loader of the reloaded executors. {}", e.getMessage());
+		}
+	}
+
+	/**
+	 * Notify reload listeners.
+	 */
+	private void notifyReloadListeners() {
+		for (Runnable reloadListener : reloadListeners) {
+			reloadListener.run();
+		}
+	}
+
+	/**
+	 * Start watcher.
+	 *
+	 * @param tmdDirectory the tmd directory
+	 */
+	private synchronized void startWatcher(File tmdDirectory) {
+		if (registryWatcher != null) {
+			return;
+		}
+		try {
+			registryWatcher = new OtcRegistryWatcher(this, OtcConfig.getHotReloadDelayMillis(), tmdDirectory,
+					new File(OTC_TARGET_FOLDER));
+		} catch (IOException e) {
+			LOGGER.warn("Hot-reload disabled - unable to watch '{}' : {}", tmdDirectory, e.getMessage());
+			return;
+		}
+		Thread thread = new Thread(registryWatcher, OtcRegistryWatcher.class.getSimpleName());
+		thread.setDaemon(true);
+		thread.start();
+	}
+
+	/**
+	 * Load class.
+	 *
+	 * @param clzName     the clz name
+	 * @param classLoader the class loader
+	 * @return the class
+	 */
+	private Class<?> loadClass(String clzName, URLClassLoader classLoader) {
+		// -- the registry's class-loader first, else a reload would pick up the stale executors in the lib.
+		try {
+			return classLoader.loadClass(clzName);
+		} catch (UnsupportedClassVersionError e) {
+			LOGGER.error(e.getMessage());
+			throw new OtcUnsupportedJdkException("", "JDK versions conflict.");
+		} catch (ClassNotFoundException e) {
+			LOGGER.debug("Entry file {} not found in {} ", clzName, OTC_TARGET_FOLDER);
+		}
+		// exception will be thrown for loadclass if class is not compiled.
+		try {
+			return OtcUtils.loadClass(clzName);
+		} catch (OtcUnsupportedJdkException ex) {
+			throw ex;
+		} catch (Exception ex) {
+			LOGGER.error("Could not load entry file {} ", clzName);
+			throw new OtcException("", ex);
 		}
-		mapPackagedOtcDtos.put(registryDto.registryId, registryDto);
 	}
 
 	/**
@@ -251,11 +738,35 @@ public enum OtcRegistryImpl implements OtcRegistry {
 	 * @return the registry dto
 	 */
 	private RegistryDto retrieveRegistryDto(String registryId) {
-		RegistryDto registryDto = mapPackagedOtcDtos.get(registryId);
+		RegistryDto registryDto = registryDtos.get(registryId);
+		if (registryDto == null) {
+			RegistryFile registryFile = registryFiles.get(registryId);
+			if (registryFile != null) {
+				registryDto = registerOnDemand(registryId, registryFile);
+			}
+		}
 		if (registryDto == null) {
 			throw new RegistryException("",
 					"OTC registry with ID '" + registryId + "' not found or not compiled and registered!");
 		}
 		return registryDto;
 	}
+
+	/**
+	 * The Class RegistryFile - the source of a registration indexed for on-demand registration, either a tmd file
+	 * or the registry manifest.
+	 */
+	private static final class RegistryFile {
+
+		/** The file. */
+		private final File file;
+
+		/** The registry manifest. */
+		private final RegistryManifest registryManifest;
+
+		private RegistryFile(File file, RegistryManifest registryManifest) {
+			this.file = file;
+			this.registryManifest = registryManifest;
+		}
+	}
 }
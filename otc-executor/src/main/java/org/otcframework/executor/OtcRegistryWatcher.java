@@ -0,0 +1,142 @@
+/**
+* Copyright (c) otcframework.org
+*
+* @author  Franklin J Abel
+* @version 1.0
+* @since   2020-06-08 
+*
+* This file is part of the OTC framework.
+* 
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*      https://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*
+*/
+package org.otcframework.executor;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The Class OtcRegistryWatcher - watches the tmd and target directories, and reloads the registry once the
+ * changes have been quiet for the configured delay.
+ */
+final class OtcRegistryWatcher implements Runnable {
+
+	/** The Constant LOGGER. */
+	private static final Logger LOGGER = LoggerFactory.getLogger(OtcRegistryWatcher.class);
+
+	/** The otc registry. */
+	private final OtcRegistry otcRegistry;
+
+	/** The delay millis. */
+	private final long delayMillis;
+
+	/** The watch service. */
+	private final WatchService watchService;
+
+	/**
+	 * Instantiates a new otc registry watcher.
+	 *
+	 * @param otcRegistry the otc registry
+	 * @param delayMillis the delay millis
+	 * @param directories the directories
+	 * @throws IOException Signals that an I/O exception has occurred.
+	 */
+	OtcRegistryWatcher(OtcRegistry otcRegistry, long delayMillis, File... directories) throws IOException {
+		this.otcRegistry = otcRegistry;
+		this.delayMillis = delayMillis;
+		watchService = FileSystems.getDefault().newWatchService();
+		for (File directory : directories) {
+			registerAll(directory.toPath());
+		}
+	}
+
+	/**
+	 * Run.
+	 */
+	@Override
+	public void run() {
+		try {
+			while (!Thread.currentThread().isInterrupted()) {
+				WatchKey watchKey = watchService.take();
+				do {
+					processEvents(watchKey);
+					watchKey = watchService.poll(delayMillis, TimeUnit.MILLISECONDS);
+				} while (watchKey != null);
+				try {
+					otcRegistry.reload();
+				} catch (RuntimeException ex) {
+					LOGGER.error("Reload failed - retaining the current registrations. {}", ex.getMessage(), ex);
+				}
+			}
+		} catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+		} catch (ClosedWatchServiceException ex) {
+			LOGGER.debug("Stopped watching for registry changes.");
+		}
+	}
+
+	/**
+	 * Process events - registers the newly created directories for watching.
+	 *
+	 * @param watchKey the watch key
+	 */
+	private void processEvents(WatchKey watchKey) {
+		Path directory = (Path) watchKey.watchable();
+		for (WatchEvent<?> watchEvent : watchKey.pollEvents()) {
+			if (watchEvent.kind() != StandardWatchEventKinds.ENTRY_CREATE) {
+				continue;
+			}
+			Path path = directory.resolve((Path) watchEvent.context());
+			if (Files.isDirectory(path)) {
+				try {
+					registerAll(path);
+				} catch (IOException ex) {
+					LOGGER.warn("Unable to watch '{}' : {}", path, ex.getMessage());
+				}
+			}
+		}
+		watchKey.reset();
+	}
+
+	/**
+	 * Register all - the directory and its sub-directories.
+	 *
+	 * @param directory the directory
+	 * @throws IOException Signals that an I/O exception has occurred.
+	 */
+	private void registerAll(Path directory) throws IOException {
+		Files.walkFileTree(directory, new SimpleFileVisitor<Path>() {
+			@Override
+			public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) throws IOException {
+				dir.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+						StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE);
+				return FileVisitResult.CONTINUE;
+			}
+		});
+	}
+}
@@ -40,7 +40,7 @@ public abstract class AbstractOtcModuleExecutor {
 	/** The otc engine. */
 	private static OtcExecutor otcExecutor = OtcExecutorImpl.getInstance();
 
-	private AbstractOtcModuleExecutor() {}
+	protected AbstractOtcModuleExecutor() {}
 	/**
 	 * Execute module.
 	 *
@@ -56,7 +56,7 @@ public abstract class AbstractOtcModuleExecutor {
 		LOGGER.debug("{} called!", AbstractOtcModuleExecutor.class.getName());
 		T newTarget = null;
 		try {
-			newTarget = (T) otcExecutor.execute(otcNamespace, source, target.getClass(), config);
+			newTarget = otcExecutor.executeInto(otcNamespace, source, target, config);
 		} catch (Exception ex) {
 			LOGGER.error(ex.getMessage());
 		}
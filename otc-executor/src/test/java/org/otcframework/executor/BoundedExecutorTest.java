@@ -0,0 +1,166 @@
+/**
+ * Copyright (c) otcframework.org
+ *
+ * @author  Franklin J Abel
+ * @version 1.0
+ * @since   2020-06-08
+ *
+ * This file is part of the OTC framework.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package org.otcframework.executor;
+
+import org.junit.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * The Class BoundedExecutorTest.
+ */
+public class BoundedExecutorTest {
+
+	/**
+	 * The Class ManualExecutor - holds the tasks until they are run by the test, and rejects them while told to.
+	 */
+	static class ManualExecutor implements Executor {
+
+		/** The tasks. */
+		final Deque<Runnable> tasks = new ArrayDeque<>();
+
+		/** The reject. */
+		boolean reject;
+
+		@Override
+		public void execute(Runnable task) {
+			if (reject) {
+				throw new RejectedExecutionException("rejected");
+			}
+			tasks.add(task);
+		}
+
+		/**
+		 * Run next.
+		 */
+		void runNext() {
+			tasks.poll().run();
+		}
+	}
+
+	/**
+	 * No more than the given number of tasks run at a time, however many threads the delegate has.
+	 *
+	 * @throws Exception the exception
+	 */
+	@Test
+	public void runsAtMostMaxConcurrentTasks() throws Exception {
+		ExecutorService pool = Executors.newFixedThreadPool(8);
+		try {
+			BoundedExecutor executor = new BoundedExecutor(pool, 2);
+			AtomicInteger running = new AtomicInteger();
+			AtomicInteger maxRunning = new AtomicInteger();
+			int taskCount = 50;
+			CountDownLatch done = new CountDownLatch(taskCount);
+			for (int i = 0; i < taskCount; i++) {
+				executor.execute(() -> {
+					maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+					try {
+						Thread.sleep(2);
+					} catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+					} finally {
+						running.decrementAndGet();
+						done.countDown();
+					}
+				});
+			}
+			assertTrue(done.await(30, TimeUnit.SECONDS));
+			assertTrue(maxRunning.get() <= 2);
+		} finally {
+			pool.shutdownNow();
+		}
+	}
+
+	/**
+	 * A rejected task is thrown back to its submitter only when the rejection is of its own dispatch; a queued
+	 * task rejected on another task's completion is kept at the head of the queue.
+	 */
+	@Test
+	public void keepsTheQueuedTasksTheDelegateRejects() {
+		ManualExecutor delegate = new ManualExecutor();
+		BoundedExecutor executor = new BoundedExecutor(delegate, 1);
+		List<String> ran = Collections.synchronizedList(new ArrayList<>());
+		delegate.reject = true;
+		try {
+			executor.execute(() -> ran.add("rejected"));
+			fail("The rejection of the submitted task is not thrown.");
+		} catch (RejectedExecutionException e) {
+			// expected
+		}
+		delegate.reject = false;
+		executor.execute(() -> ran.add("a"));
+		executor.execute(() -> ran.add("b"));
+		assertEquals(1, delegate.tasks.size());
+		delegate.reject = true;
+		delegate.runNext();
+		assertTrue(delegate.tasks.isEmpty());
+		delegate.reject = false;
+		executor.execute(() -> ran.add("c"));
+		assertEquals(1, delegate.tasks.size());
+		delegate.runNext();
+		delegate.runNext();
+		assertTrue(delegate.tasks.isEmpty());
+		assertEquals(Arrays.asList("a", "b", "c"), ran);
+	}
+
+	/**
+	 * Tasks submitted from tasks running on a same-thread delegate are dispatched in a loop, not recursively.
+	 */
+	@Test
+	public void doesNotRecurseOnASameThreadDelegate() {
+		BoundedExecutor executor = new BoundedExecutor(Runnable::run, 1);
+		int taskCount = 100_000;
+		AtomicInteger ran = new AtomicInteger();
+		int[] stackDepths = new int[2];
+		Runnable[] task = new Runnable[1];
+		task[0] = () -> {
+			int count = ran.incrementAndGet();
+			if (count == 1 || count == taskCount) {
+				stackDepths[count == 1 ? 0 : 1] = Thread.currentThread().getStackTrace().length;
+			}
+			if (count < taskCount) {
+				executor.execute(task[0]);
+			}
+		};
+		executor.execute(task[0]);
+		assertEquals(taskCount, ran.get());
+		assertEquals(stackDepths[0], stackDepths[1]);
+	}
+}
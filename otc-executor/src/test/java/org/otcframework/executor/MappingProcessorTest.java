@@ -0,0 +1,176 @@
+/**
+ * Copyright (c) otcframework.org
+ *
+ * @author  Franklin J Abel
+ * @version 1.0
+ * @since   2020-06-08
+ *
+ * This file is part of the OTC framework.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package org.otcframework.executor;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * The Class MappingProcessorTest.
+ */
+public class MappingProcessorTest {
+
+	/**
+	 * The Class FunctionMappingHandle - maps the sources with a function.
+	 */
+	static class FunctionMappingHandle implements MappingHandle<Integer, Integer> {
+
+		/** The function. */
+		private final Function<Integer, Integer> function;
+
+		/**
+		 * Instantiates a new function mapping handle.
+		 *
+		 * @param function the function
+		 */
+		FunctionMappingHandle(Function<Integer, Integer> function) {
+			this.function = function;
+		}
+
+		@Override
+		public Integer execute(Integer source, Map<String, Object> data) {
+			return function.apply(source);
+		}
+
+		@Override
+		public Integer executeInto(Integer source, Integer target, Map<String, Object> data) {
+			return function.apply(source);
+		}
+
+		@Override
+		public Integer executeIncremental(Integer source, Integer target, Collection<String> changedPaths,
+				Map<String, Object> data) {
+			return function.apply(source);
+		}
+	}
+
+	/**
+	 * The targets are delivered in the order of their sources, though the mappings complete out of order.
+	 */
+	@Test(timeout = 30_000)
+	public void deliversTheTargetsInTheOrderOfTheirSources() {
+		List<Integer> delivered = Collections.synchronizedList(new ArrayList<>());
+		List<Integer> expected = new ArrayList<>();
+		try (MappingProcessor<Integer, Integer> processor = new MappingProcessor<>(new FunctionMappingHandle(source -> {
+			sleep(ThreadLocalRandom.current().nextInt(3));
+			return source * 2;
+		}), null, delivered::add, 4, 8)) {
+			for (int i = 0; i < 200; i++) {
+				processor.accept(i);
+				expected.add(i * 2);
+			}
+		}
+		assertEquals(expected, delivered);
+	}
+
+	/**
+	 * Pushing a source blocks while the maximum number of sources are pending.
+	 *
+	 * @throws Exception the exception
+	 */
+	@Test(timeout = 30_000)
+	public void blocksTheUpstreamWhileMaxPendingSourcesArePending() throws Exception {
+		CountDownLatch release = new CountDownLatch(1);
+		AtomicInteger accepted = new AtomicInteger();
+		List<Integer> delivered = Collections.synchronizedList(new ArrayList<>());
+		MappingProcessor<Integer, Integer> processor = new MappingProcessor<>(new FunctionMappingHandle(source -> {
+			await(release);
+			return source;
+		}), null, delivered::add, 1, 2);
+		Thread upstream = new Thread(() -> {
+			for (int i = 0; i < 3; i++) {
+				processor.accept(i);
+				accepted.incrementAndGet();
+			}
+		});
+		upstream.start();
+		while (accepted.get() < 2 || upstream.getState() != Thread.State.WAITING) {
+			Thread.sleep(1);
+		}
+		assertEquals(2, accepted.get());
+		release.countDown();
+		upstream.join();
+		processor.close();
+		assertEquals(3, accepted.get());
+		assertEquals(3, delivered.size());
+	}
+
+	/**
+	 * An error thrown by the downstream is rethrown on close, instead of leaving the close waiting for ever.
+	 */
+	@Test(timeout = 30_000)
+	public void rethrowsTheErrorOfTheDownstreamOnClose() {
+		Error error = new Error("downstream");
+		List<Integer> delivered = Collections.synchronizedList(new ArrayList<>());
+		MappingProcessor<Integer, Integer> processor = new MappingProcessor<>(new FunctionMappingHandle(source -> source),
+				null, target -> {
+					if (target == 1) {
+						throw error;
+					}
+					delivered.add(target);
+				}, 2, 4);
+		for (int i = 0; i < 3; i++) {
+			processor.accept(i);
+		}
+		try {
+			processor.close();
+			fail("The error of the downstream is not rethrown.");
+		} catch (Error e) {
+			assertSame(error, e);
+		}
+		assertTrue(delivered.contains(0));
+		assertFalse(delivered.contains(2));
+	}
+
+	private static void sleep(long millis) {
+		try {
+			Thread.sleep(millis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await(30, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -0,0 +1,141 @@
+/**
+ * Copyright (c) otcframework.org
+ *
+ * @author  Franklin J Abel
+ * @version 1.0
+ * @since   2020-06-08
+ *
+ * This file is part of the OTC framework.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package org.otcframework.executor;
+
+import org.junit.Test;
+import org.otcframework.common.OtcConstants.TARGET_SOURCE;
+import org.otcframework.common.dto.IndexingNodeDto;
+import org.otcframework.common.dto.OtcCommandDto;
+import org.otcframework.common.dto.OtcCommandDto.CollectionDescriptor;
+import org.otcframework.common.dto.RegistryDto;
+import org.otcframework.common.engine.indexer.dto.IndexedCollectionsDto;
+import org.otcframework.common.indexer.IndexedCollectionsDtoArena;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+/**
+ * The Class ObjectIndexerImplTest - run with 'executor.identityIndexing' and 'executor.indexedCollectionsArena'
+ * set in the OTC_HOME of the tests.
+ */
+public class ObjectIndexerImplTest {
+
+	/**
+	 * The Class Order.
+	 */
+	static class Order {
+		List<Item> items;
+	}
+
+	/**
+	 * The Class Item.
+	 */
+	static class Item {
+		List<String> tags;
+	}
+
+	/**
+	 * Shared members keep their own children across executions recycling the arena's ICDs.
+	 *
+	 * @throws Exception the exception
+	 */
+	@Test
+	public void sharedMembersKeepTheirOwnChildrenAcrossExecutions() throws Exception {
+		RegistryDto registryDto = new RegistryDto();
+		registryDto.sourceIndexingTrie = createIndexingTrie();
+		Item shared = createItem("a", "b");
+		Order order = createOrder(shared, createItem("c"), shared);
+		IndexedCollectionsDtoArena arena = IndexedCollectionsDtoArena.enter();
+		try {
+			IndexedCollectionsDto items = index(registryDto, order);
+			assertSame(items.member(0).child("tags[*]"), items.member(2).child("tags[*]"));
+			assertNotSame(items.member(0).children, items.member(2).children);
+		} finally {
+			arena.exit();
+		}
+		// -- of the same shape, so that the members are recycled into the same ICDs
+		order = createOrder(createItem("d", "e"), createItem("f"), createItem("g", "h"));
+		arena = IndexedCollectionsDtoArena.enter();
+		try {
+			IndexedCollectionsDto items = index(registryDto, order);
+			for (int idx = 0; idx < order.items.size(); idx++) {
+				assertSame(order.items.get(idx).tags, items.member(idx).child("tags[*]").indexedObject);
+			}
+		} finally {
+			arena.exit();
+		}
+	}
+
+	private static IndexedCollectionsDto index(RegistryDto registryDto, Order order) {
+		IndexedCollectionsDto icd = ObjectIndexerImpl.getInstance().indexObject(registryDto, TARGET_SOURCE.SOURCE,
+				order);
+		assertNotNull(icd);
+		IndexedCollectionsDto items = icd.child("items[*]");
+		assertNotNull(items);
+		return items;
+	}
+
+	private static IndexingNodeDto createIndexingTrie() throws NoSuchFieldException {
+		IndexingNodeDto tagsNode = createNode(OtcCommandDto.newBuilder()
+				.addCollectionDefiner(CollectionDescriptor.LIST)
+				.addField(Item.class.getDeclaredField("tags"))
+				.build(), "tags[*]");
+		tagsNode.memberNode = createNode(OtcCommandDto.newBuilder().build(), null);
+		IndexingNodeDto itemNode = createNode(OtcCommandDto.newBuilder().build(), null);
+		itemNode.children = new LinkedHashMap<>();
+		itemNode.children.put("tags", tagsNode);
+		IndexingNodeDto itemsNode = createNode(OtcCommandDto.newBuilder()
+				.addCollectionDefiner(CollectionDescriptor.LIST)
+				.addField(Order.class.getDeclaredField("items"))
+				.build(), "items[*]");
+		itemsNode.memberNode = itemNode;
+		IndexingNodeDto rootNode = new IndexingNodeDto();
+		rootNode.children = new LinkedHashMap<>();
+		rootNode.children.put("items", itemsNode);
+		return rootNode;
+	}
+
+	private static IndexingNodeDto createNode(OtcCommandDto otcCommandDto, String icdKey) {
+		IndexingNodeDto node = new IndexingNodeDto();
+		node.otcCommandDto = otcCommandDto;
+		node.icdKey = icdKey;
+		return node;
+	}
+
+	private static Order createOrder(Item... items) {
+		Order order = new Order();
+		order.items = Arrays.asList(items);
+		return order;
+	}
+
+	private static Item createItem(String... tags) {
+		Item item = new Item();
+		item.tags = Arrays.asList(tags);
+		return item;
+	}
+}